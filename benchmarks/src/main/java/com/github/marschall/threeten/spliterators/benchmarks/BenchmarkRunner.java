@@ -0,0 +1,33 @@
+package com.github.marschall.threeten.spliterators.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks with the GC profiler to record the allocation rate.
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+    throw new AssertionError("not instantiable");
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    String include = args.length > 0 ? args[0] : ".*Benchmarks.*";
+    Options options = new OptionsBuilder()
+            .include(include)
+            .forks(1)
+            .warmupIterations(3)
+            .measurementIterations(5)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.TEXT)
+            .result("jmh-result.txt")
+            .build();
+    new Runner(options).run();
+  }
+
+}
@@ -0,0 +1,109 @@
+package com.github.marschall.threeten.spliterators.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.time.LocalDate;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JDK only ways of streaming over a {@link LocalDate} range, compare
+ * against {@link LocalDateStreamsBenchmarks}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+public class JdkBaselineBenchmarks {
+
+  @Param({"10", "1000", "100000", "10000000"})
+  public int size;
+
+  private LocalDate start;
+  private LocalDate endExclusive;
+
+  @Setup
+  public void setup() {
+    this.start = LocalDate.of(2000, 1, 1);
+    this.endExclusive = this.start.plusDays(this.size);
+  }
+
+  @Benchmark
+  public void datesUntilForEachRemaining(Blackhole blackhole) {
+    this.start.datesUntil(this.endExclusive)
+      .spliterator()
+      .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void datesUntilTryAdvance(Blackhole blackhole) {
+    Spliterator<LocalDate> spliterator = this.start.datesUntil(this.endExclusive).spliterator();
+    Consumer<LocalDate> action = blackhole::consume;
+    while (spliterator.tryAdvance(action)) {
+      // consumed by action
+    }
+  }
+
+  @Benchmark
+  public long datesUntilSequential() {
+    return this.start.datesUntil(this.endExclusive)
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public long datesUntilParallel() {
+    return this.start.datesUntil(this.endExclusive)
+      .parallel()
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public void epochDayForEachRemaining(Blackhole blackhole) {
+    epochDays()
+      .spliterator()
+      .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void epochDayTryAdvance(Blackhole blackhole) {
+    Spliterator<LocalDate> spliterator = epochDays().spliterator();
+    Consumer<LocalDate> action = blackhole::consume;
+    while (spliterator.tryAdvance(action)) {
+      // consumed by action
+    }
+  }
+
+  @Benchmark
+  public long epochDaySequential() {
+    return epochDays()
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public long epochDayParallel() {
+    return epochDays()
+      .parallel()
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  private Stream<LocalDate> epochDays() {
+    return LongStream.range(this.start.toEpochDay(), this.endExclusive.toEpochDay())
+      .mapToObj(LocalDate::ofEpochDay);
+  }
+
+}
@@ -0,0 +1,115 @@
+package com.github.marschall.threeten.spliterators.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.time.LocalDate;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.marschall.threeten.spliterators.LocalDateStreams;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+public class LocalDateStreamsBenchmarks {
+
+  @Param({"10", "1000", "100000", "10000000"})
+  public int size;
+
+  private LocalDate start;
+  private LocalDate endExclusive;
+  private LocalDate endInclusive;
+
+  @Setup
+  public void setup() {
+    this.start = LocalDate.of(2000, 1, 1);
+    this.endExclusive = this.start.plusDays(this.size);
+    this.endInclusive = this.endExclusive.minusDays(1L);
+  }
+
+  @Benchmark
+  public void rangeForEachRemaining(Blackhole blackhole) {
+    LocalDateStreams.range(this.start, this.endExclusive)
+      .spliterator()
+      .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void rangeTryAdvance(Blackhole blackhole) {
+    Spliterator<LocalDate> spliterator = LocalDateStreams.range(this.start, this.endExclusive).spliterator();
+    Consumer<LocalDate> action = blackhole::consume;
+    while (spliterator.tryAdvance(action)) {
+      // consumed by action
+    }
+  }
+
+  @Benchmark
+  public long rangeSequential() {
+    return LocalDateStreams.range(this.start, this.endExclusive)
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public long rangeParallel() {
+    return LocalDateStreams.range(this.start, this.endExclusive)
+      .parallel()
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public void rangeClosedForEachRemaining(Blackhole blackhole) {
+    LocalDateStreams.rangeClosed(this.start, this.endInclusive)
+      .spliterator()
+      .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void rangeClosedTryAdvance(Blackhole blackhole) {
+    Spliterator<LocalDate> spliterator = LocalDateStreams.rangeClosed(this.start, this.endInclusive).spliterator();
+    Consumer<LocalDate> action = blackhole::consume;
+    while (spliterator.tryAdvance(action)) {
+      // consumed by action
+    }
+  }
+
+  @Benchmark
+  public long rangeClosedSequential() {
+    return LocalDateStreams.rangeClosed(this.start, this.endInclusive)
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public long rangeClosedParallel() {
+    return LocalDateStreams.rangeClosed(this.start, this.endInclusive)
+      .parallel()
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public long epochDayRangeSequential() {
+    return LocalDateStreams.epochDayRange(this.start, this.endExclusive)
+      .sum();
+  }
+
+  @Benchmark
+  public long epochDayRangeParallel() {
+    return LocalDateStreams.epochDayRange(this.start, this.endExclusive)
+      .parallel()
+      .sum();
+  }
+
+}
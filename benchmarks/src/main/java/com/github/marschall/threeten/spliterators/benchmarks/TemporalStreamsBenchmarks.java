@@ -0,0 +1,106 @@
+package com.github.marschall.threeten.spliterators.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.marschall.threeten.spliterators.TemporalStreams;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+public class TemporalStreamsBenchmarks {
+
+  private static final TemporalAdjuster NEXT_DAY = TemporalAdjusters.ofDateAdjuster(date -> date.plusDays(1L));
+
+  @Param({"10", "1000", "100000", "10000000"})
+  public int size;
+
+  private LocalDate start;
+  private LocalDate endExclusive;
+  private LocalDate endInclusive;
+
+  @Setup
+  public void setup() {
+    this.start = LocalDate.of(2000, 1, 1);
+    this.endExclusive = this.start.plusDays(this.size);
+    this.endInclusive = this.endExclusive.minusDays(1L);
+  }
+
+  @Benchmark
+  public void rangeForEachRemaining(Blackhole blackhole) {
+    TemporalStreams.range(this.start, this.endExclusive, NEXT_DAY)
+      .spliterator()
+      .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void rangeTryAdvance(Blackhole blackhole) {
+    Spliterator<LocalDate> spliterator = TemporalStreams.range(this.start, this.endExclusive, NEXT_DAY).spliterator();
+    Consumer<LocalDate> action = blackhole::consume;
+    while (spliterator.tryAdvance(action)) {
+      // consumed by action
+    }
+  }
+
+  @Benchmark
+  public long rangeSequential() {
+    return TemporalStreams.range(this.start, this.endExclusive, NEXT_DAY)
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public long rangeParallel() {
+    return TemporalStreams.range(this.start, this.endExclusive, NEXT_DAY)
+      .parallel()
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public void rangeClosedForEachRemaining(Blackhole blackhole) {
+    TemporalStreams.rangeClosed(this.start, this.endInclusive, NEXT_DAY)
+      .spliterator()
+      .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void rangeClosedTryAdvance(Blackhole blackhole) {
+    Spliterator<LocalDate> spliterator = TemporalStreams.rangeClosed(this.start, this.endInclusive, NEXT_DAY).spliterator();
+    Consumer<LocalDate> action = blackhole::consume;
+    while (spliterator.tryAdvance(action)) {
+      // consumed by action
+    }
+  }
+
+  @Benchmark
+  public long rangeClosedSequential() {
+    return TemporalStreams.rangeClosed(this.start, this.endInclusive, NEXT_DAY)
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+  @Benchmark
+  public long rangeClosedParallel() {
+    return TemporalStreams.rangeClosed(this.start, this.endInclusive, NEXT_DAY)
+      .parallel()
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+  }
+
+}
@@ -0,0 +1,103 @@
+package com.github.marschall.threeten.spliterators.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoField;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.marschall.threeten.spliterators.YearMonthStreams;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+public class YearMonthStreamsBenchmarks {
+
+  @Param({"10", "1000", "100000", "10000000"})
+  public int size;
+
+  private YearMonth start;
+  private YearMonth endExclusive;
+  private YearMonth endInclusive;
+
+  @Setup
+  public void setup() {
+    this.start = YearMonth.of(2000, 1);
+    this.endExclusive = this.start.plusMonths(this.size);
+    this.endInclusive = this.endExclusive.minusMonths(1L);
+  }
+
+  @Benchmark
+  public void rangeForEachRemaining(Blackhole blackhole) {
+    YearMonthStreams.range(this.start, this.endExclusive)
+      .spliterator()
+      .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void rangeTryAdvance(Blackhole blackhole) {
+    Spliterator<YearMonth> spliterator = YearMonthStreams.range(this.start, this.endExclusive).spliterator();
+    Consumer<YearMonth> action = blackhole::consume;
+    while (spliterator.tryAdvance(action)) {
+      // consumed by action
+    }
+  }
+
+  @Benchmark
+  public long rangeSequential() {
+    return YearMonthStreams.range(this.start, this.endExclusive)
+      .mapToLong(yearMonth -> yearMonth.getLong(ChronoField.PROLEPTIC_MONTH))
+      .sum();
+  }
+
+  @Benchmark
+  public long rangeParallel() {
+    return YearMonthStreams.range(this.start, this.endExclusive)
+      .parallel()
+      .mapToLong(yearMonth -> yearMonth.getLong(ChronoField.PROLEPTIC_MONTH))
+      .sum();
+  }
+
+  @Benchmark
+  public void rangeClosedForEachRemaining(Blackhole blackhole) {
+    YearMonthStreams.rangeClosed(this.start, this.endInclusive)
+      .spliterator()
+      .forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void rangeClosedTryAdvance(Blackhole blackhole) {
+    Spliterator<YearMonth> spliterator = YearMonthStreams.rangeClosed(this.start, this.endInclusive).spliterator();
+    Consumer<YearMonth> action = blackhole::consume;
+    while (spliterator.tryAdvance(action)) {
+      // consumed by action
+    }
+  }
+
+  @Benchmark
+  public long rangeClosedSequential() {
+    return YearMonthStreams.rangeClosed(this.start, this.endInclusive)
+      .mapToLong(yearMonth -> yearMonth.getLong(ChronoField.PROLEPTIC_MONTH))
+      .sum();
+  }
+
+  @Benchmark
+  public long rangeClosedParallel() {
+    return YearMonthStreams.rangeClosed(this.start, this.endInclusive)
+      .parallel()
+      .mapToLong(yearMonth -> yearMonth.getLong(ChronoField.PROLEPTIC_MONTH))
+      .sum();
+  }
+
+}
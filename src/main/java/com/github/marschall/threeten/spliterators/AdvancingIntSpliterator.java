@@ -0,0 +1,87 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Primitive counterpart of {@link AdvancingSpliterator}, elements are
+ * computed from the first element by {@link #advance(int, long)}
+ * without any allocation.
+ */
+abstract class AdvancingIntSpliterator implements Spliterator.OfInt {
+
+  private static final int CHARACTERISTIS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
+
+  /**
+   * Position of the next read.
+   */
+  private int current;
+  private long left;
+  /**
+   * Split parts will have at least this many elements.
+   */
+  final long minimumSplitSize;
+
+  AdvancingIntSpliterator(int current, long left, long minimumSplitSize) {
+    this.current = current;
+    this.left = left;
+    this.minimumSplitSize = minimumSplitSize;
+  }
+
+  @Override
+  public void forEachRemaining(IntConsumer action) {
+    int value = this.current;
+    long remaining = this.left;
+    while (remaining > 0L) {
+      action.accept(value);
+      value = this.advance(value, 1L);
+      remaining -= 1L;
+    }
+    this.current = value;
+    this.left = 0L;
+  }
+
+  abstract int advance(int current, long count);
+
+  @Override
+  public boolean tryAdvance(IntConsumer action) {
+    if (this.left == 0L) {
+      return false;
+    }
+    action.accept(this.current);
+    this.current = this.advance(this.current, 1L);
+    this.left -= 1L;
+    return true;
+  }
+
+  @Override
+  public Spliterator.OfInt trySplit() {
+    long prefix = this.left / 2L;
+    if (prefix < this.minimumSplitSize) {
+      // empty, size 1 or too small => null
+      return null;
+    }
+    Spliterator.OfInt split = this.newInstance(this.current, prefix);
+    this.current = this.advance(this.current, prefix);
+    this.left -= prefix;
+    return split;
+  }
+
+  abstract Spliterator.OfInt newInstance(int current, long left);
+
+  @Override
+  public long estimateSize() {
+    return this.left;
+  }
+
+  @Override
+  public long getExactSizeIfKnown() {
+    return this.estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTIS;
+  }
+
+}
@@ -0,0 +1,87 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Primitive counterpart of {@link AdvancingSpliterator}, elements are
+ * computed from the first element by {@link #advance(long, long)}
+ * without any allocation.
+ */
+abstract class AdvancingLongSpliterator implements Spliterator.OfLong {
+
+  private static final int CHARACTERISTIS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
+
+  /**
+   * Position of the next read.
+   */
+  private long current;
+  private long left;
+  /**
+   * Split parts will have at least this many elements.
+   */
+  final long minimumSplitSize;
+
+  AdvancingLongSpliterator(long current, long left, long minimumSplitSize) {
+    this.current = current;
+    this.left = left;
+    this.minimumSplitSize = minimumSplitSize;
+  }
+
+  @Override
+  public void forEachRemaining(LongConsumer action) {
+    long value = this.current;
+    long remaining = this.left;
+    while (remaining > 0L) {
+      action.accept(value);
+      value = this.advance(value, 1L);
+      remaining -= 1L;
+    }
+    this.current = value;
+    this.left = 0L;
+  }
+
+  abstract long advance(long current, long count);
+
+  @Override
+  public boolean tryAdvance(LongConsumer action) {
+    if (this.left == 0L) {
+      return false;
+    }
+    action.accept(this.current);
+    this.current = this.advance(this.current, 1L);
+    this.left -= 1L;
+    return true;
+  }
+
+  @Override
+  public Spliterator.OfLong trySplit() {
+    long prefix = this.left / 2L;
+    if (prefix < this.minimumSplitSize) {
+      // empty, size 1 or too small => null
+      return null;
+    }
+    Spliterator.OfLong split = this.newInstance(this.current, prefix);
+    this.current = this.advance(this.current, prefix);
+    this.left -= prefix;
+    return split;
+  }
+
+  abstract Spliterator.OfLong newInstance(long current, long left);
+
+  @Override
+  public long estimateSize() {
+    return this.left;
+  }
+
+  @Override
+  public long getExactSizeIfKnown() {
+    return this.estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTIS;
+  }
+
+}
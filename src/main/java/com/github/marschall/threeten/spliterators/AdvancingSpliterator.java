@@ -1,30 +1,53 @@
 package com.github.marschall.threeten.spliterators;
 
 import java.util.Spliterator;
-import java.util.function.Consumer;;
+import java.util.function.Consumer;
 
 abstract class AdvancingSpliterator<T> implements Spliterator<T> {
 
-  private static final int CHARACTERISTIS = SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
+  private static final int CHARACTERISTIS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
 
   /**
    * Position of the next read.
    */
   private T current;
   private long left;
+  /**
+   * Split parts will have at least this many elements.
+   */
+  final long minimumSplitSize;
 
 
-  AdvancingSpliterator(T current, long left) {
+  AdvancingSpliterator(T current, long left, long minimumSplitSize) {
     this.current = current;
     this.left = left;
+    this.minimumSplitSize = minimumSplitSize;
   }
 
   @Override
   public void forEachRemaining(Consumer<? super T> action) {
-    while (this.left > 0) {
-      action.accept(this.current);
-      this.current = advance();
-      this.left -= 1;
+    long remaining = this.left;
+    if (remaining > 0L) {
+      // current is never read again once left is 0
+      this.left = 0L;
+      this.forEach(this.current, remaining, action);
+    }
+  }
+
+  /**
+   * Passes {@code count} elements starting with {@code first} to
+   * {@code action}.
+   *
+   * <p>Subclasses can override this with a specialized loop, the
+   * element after the last one must not be computed since it may not
+   * exist.</p>
+   */
+  void forEach(T first, long count, Consumer<? super T> action) {
+    T value = first;
+    action.accept(value);
+    for (long i = 1L; i < count; i++) {
+      value = this.advance(value, 1L);
+      action.accept(value);
     }
   }
 
@@ -43,21 +66,27 @@ abstract class AdvancingSpliterator<T> implements Spliterator<T> {
     if (this.left == 0) {
       return false;
     }
-    action.accept(this.current);
-    this.current = advance();
-    this.left -= 1;
+    T value = this.current;
+    this.left -= 1L;
+    if (this.left > 0L) {
+      // the element after the last one may not exist
+      this.current = advance();
+    }
+    action.accept(value);
     return true;
   }
 
   @Override
   public Spliterator<T> trySplit() {
-    if (this.left < 1) {
-      // empty or size 1 => null
+    long prefix = this.left / 2L;
+    if (prefix < this.minimumSplitSize) {
+      // empty, size 1 or too small => null
       return null;
     }
-    long half = this.left / 2L;
-    this.left -= half;
-    return this.newInstance(this.advance(this.left), half);
+    Spliterator<T> split = this.newInstance(this.current, prefix);
+    this.current = this.advance(prefix);
+    this.left -= prefix;
+    return split;
   }
 
   abstract Spliterator<T> newInstance(T current, long left);
@@ -0,0 +1,204 @@
+package com.github.marschall.threeten.spliterators;
+
+import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+
+/**
+ * Collectors that group elements by day or month into a dense
+ * {@code long} array instead of a {@link java.util.Map}.
+ *
+ * <p>Because the range of days or months is known up front every
+ * bucket is addressed by its offset from the start of the range, there
+ * is no hashing and no boxing. Parallel results are merged element wise.</p>
+ *
+ * <p>Classifying an element outside of the range throws
+ * {@link IllegalArgumentException}.</p>
+ */
+public final class BucketCollectors {
+
+  private static final Characteristics[] UNORDERED = {Characteristics.UNORDERED};
+  private static final Characteristics[] ORDERED = {};
+
+  private BucketCollectors() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Returns a collector counting the elements per day.
+   *
+   * @param range the days to collect, not {@code null}
+   * @param classifier returns the day of an element, not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, LocalDateLongBuckets> countingByDay(LocalDateRange range, Function<? super T, LocalDate> classifier) {
+    return byDay(range, classifier, (element) -> 1L, Long::sum, UNORDERED);
+  }
+
+  /**
+   * Returns a collector summing a {@code long} value of the elements per day.
+   *
+   * @param range the days to collect, not {@code null}
+   * @param classifier returns the day of an element, not {@code null}
+   * @param mapper returns the value of an element, not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, LocalDateLongBuckets> summingLongByDay(LocalDateRange range, Function<? super T, LocalDate> classifier, ToLongFunction<? super T> mapper) {
+    return byDay(range, classifier, mapper, Long::sum, UNORDERED);
+  }
+
+  /**
+   * Returns a collector computing the minimum of a {@code long} value of
+   * the elements per day.
+   *
+   * @param range the days to collect, not {@code null}
+   * @param classifier returns the day of an element, not {@code null}
+   * @param mapper returns the value of an element, not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, LocalDateLongBuckets> minLongByDay(LocalDateRange range, Function<? super T, LocalDate> classifier, ToLongFunction<? super T> mapper) {
+    return byDay(range, classifier, mapper, Math::min, UNORDERED);
+  }
+
+  /**
+   * Returns a collector computing the maximum of a {@code long} value of
+   * the elements per day.
+   *
+   * @param range the days to collect, not {@code null}
+   * @param classifier returns the day of an element, not {@code null}
+   * @param mapper returns the value of an element, not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, LocalDateLongBuckets> maxLongByDay(LocalDateRange range, Function<? super T, LocalDate> classifier, ToLongFunction<? super T> mapper) {
+    return byDay(range, classifier, mapper, Math::max, UNORDERED);
+  }
+
+  /**
+   * Returns a collector reducing a {@code long} value of the elements
+   * per day.
+   *
+   * @param range the days to collect, not {@code null}
+   * @param classifier returns the day of an element, not {@code null}
+   * @param mapper returns the value of an element, not {@code null}
+   * @param operator an associative function combining two values, not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, LocalDateLongBuckets> reducingLongByDay(LocalDateRange range, Function<? super T, LocalDate> classifier, ToLongFunction<? super T> mapper, LongBinaryOperator operator) {
+    return byDay(range, classifier, mapper, operator, ORDERED);
+  }
+
+  /**
+   * Returns a collector counting the elements per month.
+   *
+   * @param range the months to collect, not {@code null}
+   * @param classifier returns the month of an element, for example
+   *                   {@link YearMonth#from(java.time.temporal.TemporalAccessor)},
+   *                   not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, YearMonthLongBuckets> countingByMonth(YearMonthRange range, Function<? super T, YearMonth> classifier) {
+    return byMonth(range, classifier, (element) -> 1L, Long::sum, UNORDERED);
+  }
+
+  /**
+   * Returns a collector summing a {@code long} value of the elements per month.
+   *
+   * @param range the months to collect, not {@code null}
+   * @param classifier returns the month of an element, not {@code null}
+   * @param mapper returns the value of an element, not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, YearMonthLongBuckets> summingLongByMonth(YearMonthRange range, Function<? super T, YearMonth> classifier, ToLongFunction<? super T> mapper) {
+    return byMonth(range, classifier, mapper, Long::sum, UNORDERED);
+  }
+
+  /**
+   * Returns a collector computing the minimum of a {@code long} value of
+   * the elements per month.
+   *
+   * @param range the months to collect, not {@code null}
+   * @param classifier returns the month of an element, not {@code null}
+   * @param mapper returns the value of an element, not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, YearMonthLongBuckets> minLongByMonth(YearMonthRange range, Function<? super T, YearMonth> classifier, ToLongFunction<? super T> mapper) {
+    return byMonth(range, classifier, mapper, Math::min, UNORDERED);
+  }
+
+  /**
+   * Returns a collector computing the maximum of a {@code long} value of
+   * the elements per month.
+   *
+   * @param range the months to collect, not {@code null}
+   * @param classifier returns the month of an element, not {@code null}
+   * @param mapper returns the value of an element, not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, YearMonthLongBuckets> maxLongByMonth(YearMonthRange range, Function<? super T, YearMonth> classifier, ToLongFunction<? super T> mapper) {
+    return byMonth(range, classifier, mapper, Math::max, UNORDERED);
+  }
+
+  /**
+   * Returns a collector reducing a {@code long} value of the elements
+   * per month.
+   *
+   * @param range the months to collect, not {@code null}
+   * @param classifier returns the month of an element, not {@code null}
+   * @param mapper returns the value of an element, not {@code null}
+   * @param operator an associative function combining two values, not {@code null}
+   * @param <T> the type of the input elements
+   * @return the collector, not {@code null}
+   */
+  public static <T> Collector<T, ?, YearMonthLongBuckets> reducingLongByMonth(YearMonthRange range, Function<? super T, YearMonth> classifier, ToLongFunction<? super T> mapper, LongBinaryOperator operator) {
+    return byMonth(range, classifier, mapper, operator, ORDERED);
+  }
+
+  private static <T> Collector<T, LongBuckets, LocalDateLongBuckets> byDay(LocalDateRange range, Function<? super T, LocalDate> classifier,
+          ToLongFunction<? super T> mapper, LongBinaryOperator operator, Characteristics[] characteristics) {
+    Objects.requireNonNull(classifier, "classifier");
+    Objects.requireNonNull(mapper, "mapper");
+    Objects.requireNonNull(operator, "operator");
+    long start = range.getStartEpochDay();
+    long end = range.getEndEpochDay();
+    LongBuckets.checkSize(start, end);
+    return Collector.of(
+            () -> new LongBuckets(start, end, operator),
+            (buckets, element) -> buckets.accumulate(classifier.apply(element).toEpochDay(), mapper.applyAsLong(element)),
+            LongBuckets::combine,
+            LocalDateLongBuckets::new,
+            characteristics);
+  }
+
+  private static <T> Collector<T, LongBuckets, YearMonthLongBuckets> byMonth(YearMonthRange range, Function<? super T, YearMonth> classifier,
+          ToLongFunction<? super T> mapper, LongBinaryOperator operator, Characteristics[] characteristics) {
+    Objects.requireNonNull(classifier, "classifier");
+    Objects.requireNonNull(mapper, "mapper");
+    Objects.requireNonNull(operator, "operator");
+    long start = range.getStartProlepticMonth();
+    long end = range.getEndProlepticMonth();
+    LongBuckets.checkSize(start, end);
+    return Collector.of(
+            () -> new LongBuckets(start, end, operator),
+            (buckets, element) -> buckets.accumulate(classifier.apply(element).getLong(PROLEPTIC_MONTH), mapper.applyAsLong(element)),
+            LongBuckets::combine,
+            YearMonthLongBuckets::new,
+            characteristics);
+  }
+
+}
@@ -0,0 +1,324 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Business days over a fixed range of dates, precomputed into a bitmap.
+ *
+ * <p>Counting business days between two dates is a constant time rank
+ * query, jumping a number of business days a select query with a binary
+ * search over the per word counts. Streams over business days are sized
+ * and split in constant time.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class BusinessCalendar {
+
+  private final long firstEpochDay;
+  private final int length;
+  /**
+   * Bit {@code i} is set if the day {@code firstEpochDay + i} is a
+   * business day.
+   */
+  private final long[] words;
+  /**
+   * {@code ranks[i]} is the number of business days in the words
+   * before word {@code i}, has one more element than {@link #words}.
+   */
+  private final int[] ranks;
+
+  private BusinessCalendar(long firstEpochDay, int length, long[] words) {
+    this.firstEpochDay = firstEpochDay;
+    this.length = length;
+    this.words = words;
+    this.ranks = new int[words.length + 1];
+    for (int i = 0; i < words.length; i++) {
+      this.ranks[i + 1] = this.ranks[i] + Long.bitCount(words[i]);
+    }
+  }
+
+  /**
+   * Creates a calendar where every day that is not on a weekend day and
+   * not a holiday is a business day.
+   *
+   * @param coverage the range of dates supported by the calendar, not {@code null}
+   * @param weekend the days of the week that are not business days, not {@code null}
+   * @param holidays the dates that are not business days, not {@code null}
+   * @return the calendar, not {@code null}
+   * @throws IllegalArgumentException if {@code coverage} is larger than
+   *         {@link Integer#MAX_VALUE} days
+   */
+  public static BusinessCalendar of(LocalDateRange coverage, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+    Set<DayOfWeek> weekendCopy = weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend);
+    long[] words = bitmap(coverage, (date) -> !weekendCopy.contains(date.getDayOfWeek()));
+    long firstEpochDay = coverage.getStartEpochDay();
+    for (LocalDate holiday : holidays) {
+      if (coverage.contains(holiday)) {
+        int index = (int) (holiday.toEpochDay() - firstEpochDay);
+        words[index >>> 6] &= ~(1L << index);
+      }
+    }
+    return new BusinessCalendar(firstEpochDay, (int) coverage.size(), words);
+  }
+
+  /**
+   * Creates a calendar from a predicate deciding for every date of the
+   * coverage whether it is a business day.
+   *
+   * @param coverage the range of dates supported by the calendar, not {@code null}
+   * @param isBusinessDay decides whether a date is a business day, not {@code null}
+   * @return the calendar, not {@code null}
+   * @throws IllegalArgumentException if {@code coverage} is larger than
+   *         {@link Integer#MAX_VALUE} days
+   */
+  public static BusinessCalendar of(LocalDateRange coverage, Predicate<? super LocalDate> isBusinessDay) {
+    long[] words = bitmap(coverage, isBusinessDay);
+    return new BusinessCalendar(coverage.getStartEpochDay(), (int) coverage.size(), words);
+  }
+
+  private static long[] bitmap(LocalDateRange coverage, Predicate<? super LocalDate> isBusinessDay) {
+    Objects.requireNonNull(isBusinessDay, "isBusinessDay");
+    long size = coverage.size();
+    if (size > Integer.MAX_VALUE - 64) {
+      throw new IllegalArgumentException("coverage too large: " + size);
+    }
+    int length = (int) size;
+    long[] words = new long[(length + 63) >>> 6];
+    LocalDate start = coverage.getStartInclusive();
+    for (int i = 0; i < length; i++) {
+      if (isBusinessDay.test(start.plusDays(i))) {
+        words[i >>> 6] |= 1L << i;
+      }
+    }
+    return words;
+  }
+
+  /**
+   * Returns the range of dates supported by this calendar.
+   *
+   * @return the range of dates supported by this calendar, not {@code null}
+   */
+  public LocalDateRange getCoverage() {
+    return LocalDateRange.ofEpochDays(this.firstEpochDay, this.firstEpochDay + this.length);
+  }
+
+  private int index(LocalDate date) {
+    long index = date.toEpochDay() - this.firstEpochDay;
+    if (index < 0L || index >= this.length) {
+      throw new IllegalArgumentException(date + " outside of coverage " + this.getCoverage());
+    }
+    return (int) index;
+  }
+
+  /**
+   * Returns the index of a bound, may be equal to the length.
+   */
+  private int boundIndex(LocalDate date) {
+    long index = date.toEpochDay() - this.firstEpochDay;
+    if (index < 0L || index > this.length) {
+      throw new IllegalArgumentException(date + " outside of coverage " + this.getCoverage());
+    }
+    return (int) index;
+  }
+
+  private LocalDate date(int index) {
+    return LocalDate.ofEpochDay(this.firstEpochDay + index);
+  }
+
+  /**
+   * Checks if a date is a business day.
+   *
+   * @param date the date to check, not {@code null}
+   * @return {@code true} if {@code date} is a business day
+   * @throws IllegalArgumentException if {@code date} is outside of the coverage
+   */
+  public boolean isBusinessDay(LocalDate date) {
+    int index = this.index(date);
+    return (this.words[index >>> 6] & (1L << index)) != 0L;
+  }
+
+  /**
+   * Counts the business days from {@code startInclusive} (inclusive)
+   * to {@code endExclusive} (exclusive).
+   *
+   * @param startInclusive the (inclusive) start
+   * @param endExclusive the exclusive end
+   * @return the number of business days, negative if
+   *         {@code endExclusive} is before {@code startInclusive}
+   * @throws IllegalArgumentException if a date is outside of the coverage
+   */
+  public int countBusinessDays(LocalDate startInclusive, LocalDate endExclusive) {
+    return this.rank(this.boundIndex(endExclusive)) - this.rank(this.boundIndex(startInclusive));
+  }
+
+  /**
+   * Returns the business day that is {@code businessDays} business days
+   * after {@code date}.
+   *
+   * <p>{@code date} does not have to be a business day. A negative
+   * {@code businessDays} moves backwards, zero returns {@code date}.</p>
+   *
+   * @param date the date to start from, not {@code null}
+   * @param businessDays the number of business days to move
+   * @return the business day, not {@code null}
+   * @throws IllegalArgumentException if {@code date} or the result is
+   *         outside of the coverage
+   */
+  public LocalDate plusBusinessDays(LocalDate date, long businessDays) {
+    int index = this.index(date);
+    if (businessDays == 0L) {
+      return date;
+    }
+    long target;
+    if (businessDays > 0L) {
+      // business days up to and including date are skipped
+      target = this.rank(index + 1) + businessDays - 1L;
+    } else {
+      target = this.rank(index) + businessDays;
+    }
+    if (target < 0L || target >= this.ranks[this.words.length]) {
+      throw new IllegalArgumentException("result outside of coverage " + this.getCoverage());
+    }
+    return this.date(this.select((int) target));
+  }
+
+  /**
+   * Returns a sequential ordered stream of the business days from
+   * {@code startInclusive} (inclusive) to {@code endExclusive} (exclusive).
+   *
+   * <p>The stream is sized and splits in constant time.</p>
+   *
+   * @param startInclusive the (inclusive) start
+   * @param endExclusive the exclusive end
+   * @return a sequential {@code Stream} over the business days
+   * @throws IllegalArgumentException if a date is outside of the coverage
+   *         or {@code endExclusive} is before {@code startInclusive}
+   */
+  public Stream<LocalDate> businessDays(LocalDate startInclusive, LocalDate endExclusive) {
+    int start = this.boundIndex(startInclusive);
+    int end = this.boundIndex(endExclusive);
+    if (end < start) {
+      throw new IllegalArgumentException("endExclusive must not be before startInclusive");
+    }
+    int firstRank = this.rank(start);
+    int count = this.rank(end) - firstRank;
+    if (count == 0) {
+      return Stream.empty();
+    }
+    return StreamSupport.stream(new BusinessDaySpliterator(this.date(this.select(firstRank)), count, 1L, this), false);
+  }
+
+  /**
+   * Returns the number of business days before {@code index}.
+   */
+  private int rank(int index) {
+    int word = index >>> 6;
+    int rank = this.ranks[word];
+    int bit = index & 63;
+    if (bit != 0) {
+      rank += Long.bitCount(this.words[word] & ((1L << bit) - 1L));
+    }
+    return rank;
+  }
+
+  /**
+   * Returns the index of the business day with rank {@code rank}, rank
+   * has to be smaller than the number of business days.
+   */
+  private int select(int rank) {
+    // largest word with ranks[word] <= rank
+    int low = 0;
+    int high = this.words.length - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (this.ranks[middle] <= rank) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    long word = this.words[low];
+    for (int i = rank - this.ranks[low]; i > 0; i--) {
+      // clear lowest set bit
+      word &= word - 1L;
+    }
+    return (low << 6) + Long.numberOfTrailingZeros(word);
+  }
+
+  /**
+   * Returns the index of the next business day at or after
+   * {@code index}, {@link #length} if there is none.
+   */
+  private int nextBusinessDay(int index) {
+    if (index >= this.length) {
+      return this.length;
+    }
+    int wordIndex = index >>> 6;
+    long word = this.words[wordIndex] & (-1L << index);
+    while (word == 0L) {
+      wordIndex += 1;
+      if (wordIndex == this.words.length) {
+        return this.length;
+      }
+      word = this.words[wordIndex];
+    }
+    return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+  }
+
+  LocalDate advance(LocalDate current, long count) {
+    int index = (int) (current.toEpochDay() - this.firstEpochDay);
+    if (count == 1L) {
+      // common case during iteration, a bit scan is cheaper than select
+      return this.date(this.nextBusinessDay(index + 1));
+    }
+    long target = this.rank(index) + count;
+    if (target >= this.ranks[this.words.length]) {
+      // past the last business day, only happens after the last element
+      return this.date(this.length);
+    }
+    return this.date(this.select((int) target));
+  }
+
+  static final class BusinessDaySpliterator extends AdvancingSpliterator<LocalDate> {
+
+    private final BusinessCalendar calendar;
+
+    BusinessDaySpliterator(LocalDate current, long left, long minimumSplitSize, BusinessCalendar calendar) {
+      super(current, left, minimumSplitSize);
+      this.calendar = calendar;
+    }
+
+    @Override
+    Spliterator<LocalDate> newInstance(LocalDate current, long left) {
+      return new BusinessDaySpliterator(current, left, this.minimumSplitSize, this.calendar);
+    }
+
+    @Override
+    LocalDate advance(LocalDate current, long count) {
+      return this.calendar.advance(current, count);
+    }
+
+    @Override
+    public int characteristics() {
+      return super.characteristics() | SORTED;
+    }
+
+    @Override
+    public Comparator<? super LocalDate> getComparator() {
+      // natural order
+      return null;
+    }
+
+  }
+
+}
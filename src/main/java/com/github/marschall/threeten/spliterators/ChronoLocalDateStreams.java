@@ -0,0 +1,292 @@
+package com.github.marschall.threeten.spliterators;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Factory methods for sized and splittable streams over dates in any
+ * {@link Chronology}, for example {@code JapaneseDate}, {@code HijrahDate}
+ * or {@code ThaiBuddhistDate}.
+ *
+ * <p>Days are computed from their epoch day with
+ * {@link Chronology#dateEpochDay(long)}, the day ranges never create a
+ * date outside the range. This matters for chronologies with a limited
+ * range like {@code HijrahChronology}.</p>
+ *
+ * <p>The element type is the type returned by
+ * {@link Chronology#dateEpochDay(long)} of the chronology of the start
+ * date, this is the case for all chronologies in the JDK.</p>
+ */
+public final class ChronoLocalDateStreams {
+
+  private ChronoLocalDateStreams() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Returns a sequential ordered stream from {@code startInclusive}
+   * (inclusive) to {@code endExclusive} (exclusive) by an incremental
+   * step of one day.
+   *
+   * <p>If {@code startInclusive} is after {@code endExclusive}
+   * a decremental step of one day is performed instead.</p>
+   *
+   * @param <D> the date type
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @return a sequential {@code Stream} for the range of dates
+   * @throws IllegalArgumentException if the dates are in different chronologies
+   */
+  public static <D extends ChronoLocalDate> Stream<D> range(D startInclusive, D endExclusive) {
+    return range(startInclusive, endExclusive, false, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered stream from {@code startInclusive}
+   * (inclusive) to {@code endInclusive} (inclusive) by an incremental
+   * step of one day.
+   *
+   * <p>If {@code startInclusive} is after {@code endInclusive}
+   * a decremental step of one day is performed instead.</p>
+   *
+   * @param <D> the date type
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @return a sequential {@code Stream} for the range of dates
+   * @throws IllegalArgumentException if the dates are in different chronologies
+   */
+  public static <D extends ChronoLocalDate> Stream<D> rangeClosed(D startInclusive, D endInclusive) {
+    return range(startInclusive, endInclusive, true, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a parallel ordered stream from {@code startInclusive}
+   * (inclusive) to {@code endExclusive} (exclusive) by an incremental
+   * step of one day.
+   *
+   * @param <D> the date type
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param options controls how fine grained the stream is split
+   * @return a parallel {@code Stream} for the range of dates
+   * @throws IllegalArgumentException if the dates are in different chronologies
+   */
+  public static <D extends ChronoLocalDate> Stream<D> parallelRange(D startInclusive, D endExclusive, SplitOptions options) {
+    return range(startInclusive, endExclusive, false, options, true);
+  }
+
+  /**
+   * Returns a parallel ordered stream from {@code startInclusive}
+   * (inclusive) to {@code endInclusive} (inclusive) by an incremental
+   * step of one day.
+   *
+   * @param <D> the date type
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param options controls how fine grained the stream is split
+   * @return a parallel {@code Stream} for the range of dates
+   * @throws IllegalArgumentException if the dates are in different chronologies
+   */
+  public static <D extends ChronoLocalDate> Stream<D> parallelRangeClosed(D startInclusive, D endInclusive, SplitOptions options) {
+    return range(startInclusive, endInclusive, true, options, true);
+  }
+
+  private static <D extends ChronoLocalDate> Stream<D> range(D start, D end, boolean inclusive, SplitOptions options, boolean parallel) {
+    Chronology chronology = chronology(start, end);
+    long startEpochDay = start.toEpochDay();
+    long daysBetween = end.toEpochDay() - startEpochDay;
+    boolean ascending = daysBetween >= 0L;
+    long size = Math.abs(daysBetween) + (inclusive ? 1L : 0L);
+    Spliterator<D> spliterator = new EpochDaySpliterator<>(chronology, startEpochDay, ascending ? 1L : -1L,
+            0L, size, options.minimumSplitSize(size));
+    return StreamSupport.stream(spliterator, parallel);
+  }
+
+  /**
+   * Returns a sequential ordered stream from {@code startInclusive}
+   * (inclusive) to {@code endExclusive} (exclusive) by an incremental
+   * step of one month in the chronology of the dates.
+   *
+   * <p>Element {@code i} is the same as {@code startInclusive.plus(i, MONTHS)},
+   * the day of month is clamped to the length of shorter months. If
+   * {@code startInclusive} is after {@code endExclusive} a decremental
+   * step of one month is performed instead.</p>
+   *
+   * <p>The epoch days of all elements are computed once when the stream is
+   * created, the elements are then created with
+   * {@link Chronology#dateEpochDay(long)}. The stream is sized and splits
+   * in constant time.</p>
+   *
+   * @param <D> the date type
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @return a sequential {@code Stream} for the range of dates
+   * @throws IllegalArgumentException if the dates are in different chronologies
+   */
+  public static <D extends ChronoLocalDate> Stream<D> monthRange(D startInclusive, D endExclusive) {
+    return monthRange(startInclusive, endExclusive, false);
+  }
+
+  /**
+   * Returns a sequential ordered stream from {@code startInclusive}
+   * (inclusive) to {@code endInclusive} (inclusive) by an incremental
+   * step of one month in the chronology of the dates.
+   *
+   * <p>Element {@code i} is the same as {@code startInclusive.plus(i, MONTHS)},
+   * the day of month is clamped to the length of shorter months. If
+   * {@code startInclusive} is after {@code endInclusive} a decremental
+   * step of one month is performed instead.</p>
+   *
+   * @param <D> the date type
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @return a sequential {@code Stream} for the range of dates
+   * @throws IllegalArgumentException if the dates are in different chronologies
+   * @see #monthRange(ChronoLocalDate, ChronoLocalDate)
+   */
+  public static <D extends ChronoLocalDate> Stream<D> monthRangeClosed(D startInclusive, D endInclusive) {
+    return monthRange(startInclusive, endInclusive, true);
+  }
+
+  private static <D extends ChronoLocalDate> Stream<D> monthRange(D start, D end, boolean inclusive) {
+    Chronology chronology = chronology(start, end);
+    long[] epochDays = monthEpochDays(start, end, inclusive);
+    Spliterator<D> spliterator = new MonthSpliterator<>(chronology, epochDays, 0L, epochDays.length, 1L);
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  /**
+   * Computes the epoch days of all elements of a month range by walking
+   * the first days of the months once, no month after the month of the
+   * end is created.
+   */
+  private static long[] monthEpochDays(ChronoLocalDate start, ChronoLocalDate end, boolean inclusive) {
+    long startEpochDay = start.toEpochDay();
+    long endEpochDay = end.toEpochDay();
+    boolean ascending = startEpochDay <= endEpochDay;
+    int dayOfMonth = start.get(DAY_OF_MONTH);
+    ChronoLocalDate firstOfMonth = start.minus(dayOfMonth - 1L, DAYS);
+    // estimate, corrected by the loop
+    long estimate = Math.abs(start.until(end, MONTHS)) + 2L;
+    long[] epochDays = new long[Math.toIntExact(estimate)];
+    int count = 0;
+    for (long i = 0L; ; i++) {
+      ChronoLocalDate month = ascending ? firstOfMonth.plus(i, MONTHS) : firstOfMonth.minus(i, MONTHS);
+      long monthEpochDay = month.toEpochDay();
+      int lengthOfMonth = month.lengthOfMonth();
+      long epochDay = monthEpochDay + Math.min(dayOfMonth, lengthOfMonth) - 1L;
+      int comparison = Long.compare(epochDay, endEpochDay);
+      if (!ascending) {
+        comparison = -comparison;
+      }
+      if (inclusive ? comparison > 0 : comparison >= 0) {
+        break;
+      }
+      if (count == epochDays.length) {
+        epochDays = Arrays.copyOf(epochDays, count * 2);
+      }
+      epochDays[count++] = epochDay;
+      if (endEpochDay >= monthEpochDay && endEpochDay < monthEpochDay + lengthOfMonth) {
+        // the next element is beyond the end, its month may be beyond the
+        // range of the chronology
+        break;
+      }
+    }
+    return count == epochDays.length ? epochDays : Arrays.copyOf(epochDays, count);
+  }
+
+  private static Chronology chronology(ChronoLocalDate start, ChronoLocalDate end) {
+    Chronology chronology = start.getChronology();
+    if (!chronology.equals(end.getChronology())) {
+      throw new IllegalArgumentException("start and end must be in the same chronology but were: "
+              + chronology + " and " + end.getChronology());
+    }
+    return chronology;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <D extends ChronoLocalDate> D dateEpochDay(Chronology chronology, long epochDay) {
+    return (D) chronology.dateEpochDay(epochDay);
+  }
+
+  static final class EpochDaySpliterator<D extends ChronoLocalDate> extends IndexSpliterator<D> {
+
+    private final Chronology chronology;
+    private final long firstEpochDay;
+    /**
+     * {@code 1} or {@code -1}.
+     */
+    private final long direction;
+
+    EpochDaySpliterator(Chronology chronology, long firstEpochDay, long direction, long index, long fence, long minimumSplitSize) {
+      super(index, fence, minimumSplitSize);
+      this.chronology = chronology;
+      this.firstEpochDay = firstEpochDay;
+      this.direction = direction;
+    }
+
+    @Override
+    D element(long index) {
+      return dateEpochDay(this.chronology, this.firstEpochDay + this.direction * index);
+    }
+
+    @Override
+    Spliterator<D> newInstance(long index, long fence) {
+      return new EpochDaySpliterator<>(this.chronology, this.firstEpochDay, this.direction, index, fence, this.minimumSplitSize);
+    }
+
+    @Override
+    public int characteristics() {
+      if (this.direction > 0L) {
+        return super.characteristics() | SORTED;
+      }
+      return super.characteristics();
+    }
+
+    @Override
+    public Comparator<? super D> getComparator() {
+      if (this.direction > 0L) {
+        // natural order
+        return null;
+      }
+      throw new IllegalStateException();
+    }
+
+  }
+
+  static final class MonthSpliterator<D extends ChronoLocalDate> extends IndexSpliterator<D> {
+
+    private final Chronology chronology;
+    /**
+     * Shared between all splits, never modified.
+     */
+    private final long[] epochDays;
+
+    MonthSpliterator(Chronology chronology, long[] epochDays, long index, long fence, long minimumSplitSize) {
+      super(index, fence, minimumSplitSize);
+      this.chronology = chronology;
+      this.epochDays = epochDays;
+    }
+
+    @Override
+    D element(long index) {
+      return dateEpochDay(this.chronology, this.epochDays[(int) index]);
+    }
+
+    @Override
+    Spliterator<D> newInstance(long index, long fence) {
+      return new MonthSpliterator<>(this.chronology, this.epochDays, index, fence, this.minimumSplitSize);
+    }
+
+  }
+
+}
@@ -0,0 +1,269 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs blocking actions for the elements of a range concurrently on an
+ * {@link Executor} with a bounded number of elements in flight.
+ *
+ * <p>Parallel streams run on the common fork join pool. Blocking work
+ * like JDBC or file access per element pins its few threads. The
+ * methods in this class instead submit one task per element to a
+ * caller supplied executor, for example a cached thread pool or on
+ * newer Java versions an executor that starts a virtual thread per
+ * task, and never have more than {@code concurrency} elements
+ * submitted but not yet completed.</p>
+ *
+ * <p>The elements are taken from the spliterator on the calling thread
+ * which therefore does not need to be thread safe. The calling thread
+ * blocks until all elements are completed. If an action fails no
+ * further elements are submitted, the tasks still in flight are
+ * cancelled and interrupted and the failure is rethrown.</p>
+ */
+public final class ConcurrentRanges {
+
+  private ConcurrentRanges() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Performs an action for every day in a range with at most
+   * {@code concurrency} days in flight.
+   *
+   * @param range the days to process, not {@code null}
+   * @param concurrency the maximum number of days in flight
+   * @param executor the executor running the actions, not {@code null}
+   * @param action the action to perform for every day, not {@code null}
+   * @throws IllegalArgumentException if {@code concurrency} is not positive
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public static void forEachConcurrently(LocalDateRange range, int concurrency, Executor executor,
+          Consumer<? super LocalDate> action) throws InterruptedException {
+    forEachConcurrently(range.spliterator(), concurrency, executor, action);
+  }
+
+  /**
+   * Performs an action for every element of a spliterator with at most
+   * {@code concurrency} elements in flight.
+   *
+   * <p>The actions complete in no particular order.</p>
+   *
+   * @param <T> the type of the elements
+   * @param source the elements to process, not {@code null}
+   * @param concurrency the maximum number of elements in flight
+   * @param executor the executor running the actions, not {@code null}
+   * @param action the action to perform for every element, not {@code null}
+   * @throws IllegalArgumentException if {@code concurrency} is not positive
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public static <T> void forEachConcurrently(Spliterator<T> source, int concurrency, Executor executor,
+          Consumer<? super T> action) throws InterruptedException {
+    Objects.requireNonNull(action, "action");
+    Function<T, Void> function = element -> {
+      action.accept(element);
+      return null;
+    };
+    run(source, concurrency, executor, function, result -> { }, false);
+  }
+
+  /**
+   * Applies a function to every element of a spliterator with at most
+   * {@code concurrency} elements in flight and passes the results in
+   * encounter order to a consumer.
+   *
+   * <p>The consumer is called on the calling thread. Results that
+   * complete ahead of an earlier element are buffered, they count
+   * towards {@code concurrency}.</p>
+   *
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @param source the elements to process, not {@code null}
+   * @param concurrency the maximum number of elements in flight
+   * @param executor the executor running the function, not {@code null}
+   * @param function the function to apply to every element, not {@code null}
+   * @param resultConsumer the consumer of the results, not {@code null}
+   * @throws IllegalArgumentException if {@code concurrency} is not positive
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public static <T, R> void mapConcurrently(Spliterator<T> source, int concurrency, Executor executor,
+          Function<? super T, ? extends R> function, Consumer<? super R> resultConsumer) throws InterruptedException {
+    run(source, concurrency, executor, function, resultConsumer, true);
+  }
+
+  /**
+   * Applies a function to every element of a spliterator with at most
+   * {@code concurrency} elements in flight and passes the results in
+   * completion order to a consumer.
+   *
+   * <p>The consumer is called on the calling thread.</p>
+   *
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @param source the elements to process, not {@code null}
+   * @param concurrency the maximum number of elements in flight
+   * @param executor the executor running the function, not {@code null}
+   * @param function the function to apply to every element, not {@code null}
+   * @param resultConsumer the consumer of the results, not {@code null}
+   * @throws IllegalArgumentException if {@code concurrency} is not positive
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public static <T, R> void mapConcurrentlyUnordered(Spliterator<T> source, int concurrency, Executor executor,
+          Function<? super T, ? extends R> function, Consumer<? super R> resultConsumer) throws InterruptedException {
+    run(source, concurrency, executor, function, resultConsumer, false);
+  }
+
+  private static <T, R> void run(Spliterator<T> source, int concurrency, Executor executor,
+          Function<? super T, ? extends R> function, Consumer<? super R> resultConsumer, boolean ordered) throws InterruptedException {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(executor, "executor");
+    Objects.requireNonNull(function, "function");
+    Objects.requireNonNull(resultConsumer, "resultConsumer");
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("concurrency must be positive but was: " + concurrency);
+    }
+    new Execution<T, R>(source, concurrency, executor, function, resultConsumer, ordered).run();
+  }
+
+  /**
+   * The state of one call, only accessed from the calling thread except
+   * for {@code completed}.
+   */
+  static final class Execution<T, R> implements Consumer<T> {
+
+    private final Spliterator<T> source;
+    private final int concurrency;
+    private final Executor executor;
+    private final Function<? super T, ? extends R> function;
+    private final Consumer<? super R> resultConsumer;
+    private final boolean ordered;
+
+    /**
+     * Tasks submitted but not yet delivered in submission order.
+     */
+    private final LinkedHashSet<Task<R>> undelivered;
+    /**
+     * Tasks in completion order, filled by the executor threads.
+     */
+    private final BlockingQueue<Task<R>> completed;
+
+    Execution(Spliterator<T> source, int concurrency, Executor executor,
+            Function<? super T, ? extends R> function, Consumer<? super R> resultConsumer, boolean ordered) {
+      this.source = source;
+      this.concurrency = concurrency;
+      this.executor = executor;
+      this.function = function;
+      this.resultConsumer = resultConsumer;
+      this.ordered = ordered;
+      this.undelivered = new LinkedHashSet<>();
+      this.completed = new LinkedBlockingQueue<>();
+    }
+
+    void run() throws InterruptedException {
+      try {
+        boolean more = true;
+        while (more) {
+          while (this.undelivered.size() >= this.concurrency) {
+            this.awaitCompletion();
+          }
+          more = this.source.tryAdvance(this);
+        }
+        while (!this.undelivered.isEmpty()) {
+          this.awaitCompletion();
+        }
+      } catch (InterruptedException | RuntimeException | Error e) {
+        this.cancelAll();
+        throw e;
+      }
+    }
+
+    @Override
+    public void accept(T element) {
+      Task<R> task = new Task<>(() -> this.function.apply(element), this.completed);
+      this.undelivered.add(task);
+      this.executor.execute(task);
+    }
+
+    private void awaitCompletion() throws InterruptedException {
+      Task<R> done = this.completed.take();
+      // fail fast even if earlier elements are still in flight
+      R result = done.report();
+      if (this.ordered) {
+        Iterator<Task<R>> iterator = this.undelivered.iterator();
+        while (iterator.hasNext()) {
+          Task<R> head = iterator.next();
+          if (!head.isDone()) {
+            break;
+          }
+          iterator.remove();
+          this.resultConsumer.accept(head.report());
+        }
+      } else {
+        this.undelivered.remove(done);
+        this.resultConsumer.accept(result);
+      }
+    }
+
+    private void cancelAll() {
+      for (Task<R> task : this.undelivered) {
+        task.cancel(true);
+      }
+      this.undelivered.clear();
+    }
+
+  }
+
+  /**
+   * Adds itself to the completion queue once done.
+   */
+  static final class Task<R> extends FutureTask<R> {
+
+    private final BlockingQueue<Task<R>> completed;
+
+    Task(Callable<R> callable, BlockingQueue<Task<R>> completed) {
+      super(callable);
+      this.completed = completed;
+    }
+
+    @Override
+    protected void done() {
+      this.completed.add(this);
+    }
+
+    /**
+     * Returns the result of a done task or rethrows its failure.
+     */
+    R report() {
+      try {
+        return this.get();
+      } catch (InterruptedException e) {
+        // done tasks do not wait
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("interrupted", e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new CompletionException(cause);
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,541 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.marschall.threeten.spliterators.ZonedDateTimeStreams.ZoneTransitions;
+
+/**
+ * Factory methods for streams over the fire times of cron expressions.
+ *
+ * <p>Supported are the five Unix cron fields (minute, hour, day of
+ * month, month, day of week) and optionally a leading seconds field.
+ * Every field supports {@code *}, values, ranges {@code a-b}, steps
+ * <code>&#42;/n</code>, {@code a/n} and {@code a-b/n} as well as lists. Months
+ * and days of week can be given by their English three letter names,
+ * Sunday is {@code 0} or {@code 7}, {@code ?} is the same as {@code *}.
+ * The macros {@code @yearly}, {@code @annually}, {@code @monthly},
+ * {@code @weekly}, {@code @daily}, {@code @midnight} and {@code @hourly}
+ * are supported as well. As in Vixie cron a day matches if either the
+ * day of month or the day of week matches, unless one of them starts
+ * with {@code *}.</p>
+ *
+ * <p>The expression is compiled into one bit mask per field, the
+ * streams skip non-matching days with one check per day and find the
+ * next hour, minute and second with bit scans. Fire times are local
+ * times in the zone, local times in a daylight saving time gap are
+ * skipped, local times in an overlap fire once at the earlier
+ * offset.</p>
+ *
+ * <p>The streams are not sized but split at day boundaries.</p>
+ */
+public final class CronStreams {
+
+  private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+  private CronStreams() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Returns a sequential ordered stream of the fire times of a cron
+   * expression from {@code startInclusive} (inclusive) to
+   * {@code endExclusive} (exclusive).
+   *
+   * @param expression the cron expression, not {@code null}
+   * @param startInclusive the (inclusive) start
+   * @param endExclusive the exclusive end
+   * @param zone the zone in which the expression is evaluated, not {@code null}
+   * @return a sequential {@code Stream} of the fire times in {@code zone}
+   * @throws IllegalArgumentException if {@code expression} is not a
+   *         valid cron expression
+   */
+  public static Stream<ZonedDateTime> fireTimes(String expression, Instant startInclusive, Instant endExclusive, ZoneId zone) {
+    FireTimes fireTimes = FireTimes.of(CronExpression.parse(expression), startInclusive, endExclusive, zone);
+    return StreamSupport.stream(new FireTimeSpliterator(fireTimes), false);
+  }
+
+  /**
+   * Returns a sequential ordered stream of the fire times of a cron
+   * expression from {@code startInclusive} (inclusive) to
+   * {@code endExclusive} (exclusive) as epoch seconds.
+   *
+   * <p>Unlike {@link #fireTimes(String, Instant, Instant, ZoneId)} no
+   * object is allocated per element.</p>
+   *
+   * @param expression the cron expression, not {@code null}
+   * @param startInclusive the (inclusive) start
+   * @param endExclusive the exclusive end
+   * @param zone the zone in which the expression is evaluated, not {@code null}
+   * @return a sequential {@code LongStream} of the fire times as epoch seconds
+   * @throws IllegalArgumentException if {@code expression} is not a
+   *         valid cron expression
+   */
+  public static LongStream fireEpochSeconds(String expression, Instant startInclusive, Instant endExclusive, ZoneId zone) {
+    FireTimes fireTimes = FireTimes.of(CronExpression.parse(expression), startInclusive, endExclusive, zone);
+    return StreamSupport.longStream(new FireEpochSecondSpliterator(fireTimes), false);
+  }
+
+  /**
+   * A cron expression compiled to one bit mask per field.
+   */
+  static final class CronExpression {
+
+    private static final String[] MONTH_NAMES = {
+      "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"
+    };
+
+    private static final String[] DAY_OF_WEEK_NAMES = {
+      "SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"
+    };
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    /**
+     * Bit {@code n} is set for day of month {@code n}.
+     */
+    private final long daysOfMonth;
+    /**
+     * Bit {@code n} is set for month {@code n}.
+     */
+    private final long months;
+    /**
+     * Bit {@code 0} is Sunday.
+     */
+    private final long daysOfWeek;
+    /**
+     * {@code true} if both the day of month and day of week must match.
+     */
+    private final boolean bothDays;
+
+    private CronExpression(long seconds, long minutes, long hours, long daysOfMonth, long months, long daysOfWeek, boolean bothDays) {
+      this.seconds = seconds;
+      this.minutes = minutes;
+      this.hours = hours;
+      this.daysOfMonth = daysOfMonth;
+      this.months = months;
+      this.daysOfWeek = daysOfWeek;
+      this.bothDays = bothDays;
+    }
+
+    static CronExpression parse(String expression) {
+      Objects.requireNonNull(expression, "expression");
+      String[] fields = expandMacro(expression.trim()).split("\\s+");
+      if (fields.length != 5 && fields.length != 6) {
+        throw new IllegalArgumentException("cron expression must have 5 or 6 fields: " + expression);
+      }
+      int offset = fields.length - 5;
+      long seconds = offset == 1 ? parseField(fields[0], 0, 59, null, 0) : 1L;
+      long minutes = parseField(fields[offset], 0, 59, null, 0);
+      long hours = parseField(fields[offset + 1], 0, 23, null, 0);
+      String dayOfMonthField = fields[offset + 2];
+      long daysOfMonth = parseField(dayOfMonthField, 1, 31, null, 0);
+      long months = parseField(fields[offset + 3], 1, 12, MONTH_NAMES, 1);
+      String dayOfWeekField = fields[offset + 4];
+      long daysOfWeek = parseField(dayOfWeekField, 0, 7, DAY_OF_WEEK_NAMES, 0);
+      if ((daysOfWeek & (1L << 7)) != 0L) {
+        // 7 is Sunday as well
+        daysOfWeek = (daysOfWeek & ~(1L << 7)) | 1L;
+      }
+      boolean bothDays = isUnrestricted(dayOfMonthField) || isUnrestricted(dayOfWeekField);
+      return new CronExpression(seconds, minutes, hours, daysOfMonth, months, daysOfWeek, bothDays);
+    }
+
+    private static String expandMacro(String expression) {
+      switch (expression.toLowerCase(Locale.ROOT)) {
+        case "@yearly":
+        case "@annually":
+          return "0 0 1 1 *";
+        case "@monthly":
+          return "0 0 1 * *";
+        case "@weekly":
+          return "0 0 * * 0";
+        case "@daily":
+        case "@midnight":
+          return "0 0 * * *";
+        case "@hourly":
+          return "0 * * * *";
+        default:
+          return expression;
+      }
+    }
+
+    private static boolean isUnrestricted(String field) {
+      return field.startsWith("*") || field.startsWith("?");
+    }
+
+    private static long parseField(String field, int min, int max, String[] names, int firstNameValue) {
+      long mask = 0L;
+      for (String part : field.split(",")) {
+        int slash = part.indexOf('/');
+        String range = slash >= 0 ? part.substring(0, slash) : part;
+        int step = slash >= 0 ? parseNumber(part.substring(slash + 1), 1, max, null, 0, field) : 1;
+        int start;
+        int end;
+        if (range.equals("*") || range.equals("?")) {
+          start = min;
+          end = max;
+        } else {
+          int dash = range.indexOf('-');
+          if (dash >= 0) {
+            start = parseNumber(range.substring(0, dash), min, max, names, firstNameValue, field);
+            end = parseNumber(range.substring(dash + 1), min, max, names, firstNameValue, field);
+            if (end < start) {
+              throw new IllegalArgumentException("invalid range: " + range + " in: " + field);
+            }
+          } else {
+            start = parseNumber(range, min, max, names, firstNameValue, field);
+            end = slash >= 0 ? max : start;
+          }
+        }
+        for (int value = start; value <= end; value += step) {
+          mask |= 1L << value;
+        }
+      }
+      return mask;
+    }
+
+    private static int parseNumber(String value, int min, int max, String[] names, int firstNameValue, String field) {
+      if (names != null) {
+        for (int i = 0; i < names.length; i++) {
+          if (names[i].equalsIgnoreCase(value)) {
+            return i + firstNameValue;
+          }
+        }
+      }
+      int parsed;
+      try {
+        parsed = Integer.parseInt(value);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("invalid value: " + value + " in: " + field, e);
+      }
+      if (parsed < min || parsed > max) {
+        throw new IllegalArgumentException("value: " + value + " out of range [" + min + ", " + max + "] in: " + field);
+      }
+      return parsed;
+    }
+
+    boolean matchesDay(LocalDate date) {
+      if ((this.months & (1L << date.getMonthValue())) == 0L) {
+        return false;
+      }
+      boolean dayOfMonth = (this.daysOfMonth & (1L << date.getDayOfMonth())) != 0L;
+      // ISO Sunday is 7
+      boolean dayOfWeek = (this.daysOfWeek & (1L << (date.getDayOfWeek().getValue() % 7))) != 0L;
+      return this.bothDays ? dayOfMonth && dayOfWeek : dayOfMonth || dayOfWeek;
+    }
+
+    /**
+     * Returns the first fire time at or after {@code from} as second of
+     * the day, {@code -1} if there is none.
+     */
+    int nextSecondOfDay(int from) {
+      int hour = from / 3600;
+      int minute = (from / 60) % 60;
+      int second = from % 60;
+      while (true) {
+        int nextHour = nextBit(this.hours, hour, 24);
+        if (nextHour < 0) {
+          return -1;
+        }
+        if (nextHour != hour) {
+          hour = nextHour;
+          minute = 0;
+          second = 0;
+        }
+        int nextMinute = nextBit(this.minutes, minute, 60);
+        if (nextMinute < 0) {
+          hour += 1;
+          minute = 0;
+          second = 0;
+          continue;
+        }
+        if (nextMinute != minute) {
+          minute = nextMinute;
+          second = 0;
+        }
+        int nextSecond = nextBit(this.seconds, second, 60);
+        if (nextSecond < 0) {
+          minute += 1;
+          second = 0;
+          if (minute == 60) {
+            hour += 1;
+            minute = 0;
+          }
+          continue;
+        }
+        return hour * 3600 + minute * 60 + nextSecond;
+      }
+    }
+
+    private static int nextBit(long mask, int from, int limit) {
+      if (from >= limit) {
+        return -1;
+      }
+      long remaining = mask & (-1L << from);
+      return remaining == 0L ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    /**
+     * Returns the number of fire times on a matching day.
+     */
+    int firesPerDay() {
+      return Long.bitCount(this.hours) * Long.bitCount(this.minutes) * Long.bitCount(this.seconds);
+    }
+
+  }
+
+  /**
+   * The iteration state over the fire times of a range of days.
+   */
+  static final class FireTimes {
+
+    private final CronExpression cron;
+    private final ZoneTransitions transitions;
+    /**
+     * First epoch second that may fire.
+     */
+    private final long startSecond;
+    /**
+     * First epoch second that may not fire.
+     */
+    private final long endSecond;
+
+    /**
+     * Local epoch day of the next fire time.
+     */
+    private long day;
+    /**
+     * Local second of {@link #day} from which to search.
+     */
+    private int secondOfDay;
+    private final long fenceDay;
+
+    private long checkedDay;
+    private boolean checkedDayMatches;
+
+    /**
+     * Local epoch second of the last fire time found.
+     */
+    long localSecond;
+    /**
+     * Offset of the last fire time found.
+     */
+    ZoneOffset offset;
+
+    private FireTimes(CronExpression cron, ZoneTransitions transitions, long startSecond, long endSecond,
+            long day, int secondOfDay, long fenceDay) {
+      this.cron = cron;
+      this.transitions = transitions;
+      this.startSecond = startSecond;
+      this.endSecond = endSecond;
+      this.day = day;
+      this.secondOfDay = secondOfDay;
+      this.fenceDay = fenceDay;
+      this.checkedDay = Long.MIN_VALUE;
+    }
+
+    static FireTimes of(CronExpression cron, Instant startInclusive, Instant endExclusive, ZoneId zone) {
+      Objects.requireNonNull(zone, "zone");
+      // fire times are whole seconds
+      long startSecond = startInclusive.getNano() == 0 ? startInclusive.getEpochSecond() : startInclusive.getEpochSecond() + 1L;
+      long endSecond = endExclusive.getNano() == 0 ? endExclusive.getEpochSecond() : endExclusive.getEpochSecond() + 1L;
+      if (endSecond <= startSecond) {
+        return new FireTimes(cron, null, startSecond, endSecond, 0L, 0, 0L);
+      }
+      ZoneTransitions transitions = ZoneTransitions.of(zone, startInclusive, endExclusive);
+      long startDay = Math.floorDiv(startSecond + zone.getRules().getOffset(startInclusive).getTotalSeconds(), SECONDS_PER_DAY);
+      long endDay = Math.floorDiv(endSecond + zone.getRules().getOffset(endExclusive).getTotalSeconds(), SECONDS_PER_DAY);
+      return new FireTimes(cron, transitions, startSecond, endSecond, startDay, 0, endDay + 1L);
+    }
+
+    /**
+     * Finds the next fire time and stores it in {@link #localSecond}
+     * and {@link #offset}.
+     */
+    boolean next() {
+      while (this.day < this.fenceDay) {
+        if (this.matchesDay(this.day)) {
+          int second = this.cron.nextSecondOfDay(this.secondOfDay);
+          if (second >= 0) {
+            this.secondOfDay = second + 1;
+            long local = this.day * SECONDS_PER_DAY + second;
+            ZoneOffset validOffset = this.transitions.earliestValidOffset(local);
+            if (validOffset != null) {
+              long epochSecond = local - validOffset.getTotalSeconds();
+              if (epochSecond >= this.endSecond) {
+                this.day = this.fenceDay;
+                return false;
+              }
+              if (epochSecond >= this.startSecond) {
+                this.localSecond = local;
+                this.offset = validOffset;
+                return true;
+              }
+            }
+            continue;
+          }
+        }
+        this.day += 1L;
+        this.secondOfDay = 0;
+      }
+      return false;
+    }
+
+    private boolean matchesDay(long epochDay) {
+      if (epochDay != this.checkedDay) {
+        this.checkedDay = epochDay;
+        this.checkedDayMatches = this.cron.matchesDay(LocalDate.ofEpochDay(epochDay));
+      }
+      return this.checkedDayMatches;
+    }
+
+    /**
+     * Splits off the first half of the remaining days, {@code null} if
+     * there is at most one day left.
+     */
+    FireTimes trySplit() {
+      long half = (this.fenceDay - this.day) / 2L;
+      if (half == 0L) {
+        return null;
+      }
+      long middle = this.day + half;
+      FireTimes prefix = new FireTimes(this.cron, this.transitions, this.startSecond, this.endSecond,
+              this.day, this.secondOfDay, middle);
+      this.day = middle;
+      this.secondOfDay = 0;
+      return prefix;
+    }
+
+    long estimateSize() {
+      return (this.fenceDay - this.day) * this.cron.firesPerDay();
+    }
+
+    ZonedDateTime zonedDateTime() {
+      LocalDateTime local = LocalDateTime.ofEpochSecond(this.localSecond, 0, ZoneOffset.UTC);
+      return this.transitions.atOffset(local, this.offset);
+    }
+
+    long epochSecond() {
+      return this.localSecond - this.offset.getTotalSeconds();
+    }
+
+  }
+
+  static final class FireTimeSpliterator implements Spliterator<ZonedDateTime> {
+
+    private static final int CHARACTERISTIS = ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+
+    private final FireTimes fireTimes;
+
+    FireTimeSpliterator(FireTimes fireTimes) {
+      this.fireTimes = fireTimes;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ZonedDateTime> action) {
+      if (!this.fireTimes.next()) {
+        return false;
+      }
+      action.accept(this.fireTimes.zonedDateTime());
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super ZonedDateTime> action) {
+      FireTimes state = this.fireTimes;
+      while (state.next()) {
+        action.accept(state.zonedDateTime());
+      }
+    }
+
+    @Override
+    public Spliterator<ZonedDateTime> trySplit() {
+      FireTimes prefix = this.fireTimes.trySplit();
+      return prefix != null ? new FireTimeSpliterator(prefix) : null;
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.fireTimes.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTIS;
+    }
+
+    @Override
+    public Comparator<? super ZonedDateTime> getComparator() {
+      // natural order
+      return null;
+    }
+
+  }
+
+  static final class FireEpochSecondSpliterator implements Spliterator.OfLong {
+
+    private static final int CHARACTERISTIS = ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+
+    private final FireTimes fireTimes;
+
+    FireEpochSecondSpliterator(FireTimes fireTimes) {
+      this.fireTimes = fireTimes;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (!this.fireTimes.next()) {
+        return false;
+      }
+      action.accept(this.fireTimes.epochSecond());
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      FireTimes state = this.fireTimes;
+      while (state.next()) {
+        action.accept(state.epochSecond());
+      }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      FireTimes prefix = this.fireTimes.trySplit();
+      return prefix != null ? new FireEpochSecondSpliterator(prefix) : null;
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.fireTimes.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTIS;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      // natural order
+      return null;
+    }
+
+  }
+
+}
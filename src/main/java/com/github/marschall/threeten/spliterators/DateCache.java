@@ -0,0 +1,181 @@
+package com.github.marschall.threeten.spliterators;
+
+import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in table of pre-built {@link LocalDate} and {@link YearMonth}
+ * instances for a fixed window of dates.
+ *
+ * <p>Ranges created with
+ * {@link LocalDateStreams#range(LocalDate, LocalDate, DateCache)} or
+ * {@link YearMonthStreams#range(YearMonth, YearMonth, DateCache)} that
+ * fall completely inside the window serve their elements from the
+ * table without any allocation, other ranges fall back to creating new
+ * instances. This pays off for windows that are streamed many times,
+ * eg. the last 400 days.</p>
+ *
+ * <p>The table is built eagerly and never changes, instances are thread
+ * safe. The hit and miss counters count streams, not elements.</p>
+ */
+public final class DateCache {
+
+  /**
+   * Larger windows would no longer be a cache of hot dates.
+   */
+  private static final long MAX_SIZE = 1L << 24;
+
+  private final LocalDateRange window;
+  private final LocalDate[] dates;
+  private final long firstProlepticMonth;
+  private final YearMonth[] months;
+  private final LongAdder hits;
+  private final LongAdder misses;
+
+  private DateCache(LocalDateRange window, LocalDate[] dates, long firstProlepticMonth, YearMonth[] months) {
+    this.window = window;
+    this.dates = dates;
+    this.firstProlepticMonth = firstProlepticMonth;
+    this.months = months;
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+  }
+
+  /**
+   * Creates a cache for every date in {@code window} and every month
+   * that contains at least one date of {@code window}.
+   *
+   * @param window the dates to cache, not {@code null}
+   * @return the cache, not {@code null}
+   * @throws IllegalArgumentException if {@code window} is larger than
+   *         2<sup>24</sup> days
+   */
+  public static DateCache of(LocalDateRange window) {
+    Objects.requireNonNull(window, "window");
+    long size = window.size();
+    if (size > MAX_SIZE) {
+      throw new IllegalArgumentException("window must not have more than " + MAX_SIZE + " days but had: " + size);
+    }
+    if (size == 0L) {
+      return new DateCache(window, new LocalDate[0], 0L, new YearMonth[0]);
+    }
+    LocalDate[] dates = window.stream().toArray(LocalDate[]::new);
+    YearMonth firstMonth = YearMonth.from(dates[0]);
+    YearMonth lastMonth = YearMonth.from(dates[dates.length - 1]);
+    YearMonth[] months = YearMonthStreams.rangeClosed(firstMonth, lastMonth).toArray(YearMonth[]::new);
+    return new DateCache(window, dates, firstMonth.getLong(PROLEPTIC_MONTH), months);
+  }
+
+  /**
+   * Returns the dates in this cache.
+   *
+   * @return the dates in this cache, not {@code null}
+   */
+  public LocalDateRange getWindow() {
+    return this.window;
+  }
+
+  /**
+   * Returns the number of streams that were served from this cache.
+   *
+   * @return the number of cache hits
+   */
+  public long getHitCount() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Returns the number of streams that were not completely inside
+   * this cache.
+   *
+   * @return the number of cache misses
+   */
+  public long getMissCount() {
+    return this.misses.sum();
+  }
+
+  /**
+   * Returns a spliterator over the cached dates or {@code null} if the
+   * range is not completely inside the cache.
+   */
+  Spliterator<LocalDate> localDates(LocalDate first, long size, boolean ascending, long minimumSplitSize) {
+    long offset = first.toEpochDay() - this.window.getStartEpochDay();
+    return this.spliterator(this.dates, offset, size, ascending, minimumSplitSize);
+  }
+
+  /**
+   * Returns a spliterator over the cached months or {@code null} if the
+   * range is not completely inside the cache.
+   */
+  Spliterator<YearMonth> yearMonths(YearMonth first, long size, boolean ascending, long minimumSplitSize) {
+    long offset = first.getLong(PROLEPTIC_MONTH) - this.firstProlepticMonth;
+    return this.spliterator(this.months, offset, size, ascending, minimumSplitSize);
+  }
+
+  private <T extends Comparable<? super T>> Spliterator<T> spliterator(T[] table, long offset, long size, boolean ascending, long minimumSplitSize) {
+    long last = ascending ? offset + size - 1L : offset - size + 1L;
+    if (offset < 0L || offset >= table.length || last < 0L || last >= table.length) {
+      this.misses.increment();
+      return null;
+    }
+    this.hits.increment();
+    return new CachedSpliterator<>(table, (int) offset, ascending, 0L, size, minimumSplitSize);
+  }
+
+  @Override
+  public String toString() {
+    return "DateCache[window=" + this.window + ", hits=" + this.getHitCount() + ", misses=" + this.getMissCount() + ']';
+  }
+
+  static final class CachedSpliterator<T extends Comparable<? super T>> extends IndexSpliterator<T> {
+
+    private final T[] table;
+    /**
+     * Table index of the element at index {@code 0}.
+     */
+    private final int offset;
+    private final boolean ascending;
+
+    CachedSpliterator(T[] table, int offset, boolean ascending, long index, long fence, long minimumSplitSize) {
+      super(index, fence, minimumSplitSize);
+      this.table = table;
+      this.offset = offset;
+      this.ascending = ascending;
+    }
+
+    @Override
+    T element(long index) {
+      return this.table[this.ascending ? this.offset + (int) index : this.offset - (int) index];
+    }
+
+    @Override
+    Spliterator<T> newInstance(long index, long fence) {
+      return new CachedSpliterator<>(this.table, this.offset, this.ascending, index, fence, this.minimumSplitSize);
+    }
+
+    @Override
+    public int characteristics() {
+      if (this.ascending) {
+        return super.characteristics() | SORTED;
+      }
+      return super.characteristics();
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      if (this.ascending) {
+        // natural order
+        return null;
+      }
+      throw new IllegalStateException();
+    }
+
+  }
+
+}
@@ -0,0 +1,321 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Sorted, disjoint, non-adjacent and non-empty half open ranges of
+ * {@code long} keys like epoch days or proleptic months.
+ *
+ * <p>Set operations sweep over the ranges and never look at the
+ * individual keys.</p>
+ */
+final class DisjointRanges {
+
+  static final DisjointRanges EMPTY = new DisjointRanges(new long[0], new long[0]);
+
+  /**
+   * Inclusive start of every range.
+   */
+  final long[] starts;
+  /**
+   * Exclusive end of every range.
+   */
+  final long[] ends;
+  /**
+   * {@code offsets[i]} is the number of keys before range {@code i},
+   * has one more element than {@link #starts}.
+   */
+  final long[] offsets;
+
+  private DisjointRanges(long[] starts, long[] ends) {
+    this.starts = starts;
+    this.ends = ends;
+    this.offsets = new long[starts.length + 1];
+    for (int i = 0; i < starts.length; i++) {
+      this.offsets[i + 1] = this.offsets[i] + (ends[i] - starts[i]);
+    }
+  }
+
+  /**
+   * Creates ranges from possibly unsorted, overlapping or empty ranges.
+   */
+  static DisjointRanges of(long[] starts, long[] ends) {
+    int length = starts.length;
+    Integer[] order = new Integer[length];
+    for (int i = 0; i < length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+    Builder builder = new Builder(length);
+    for (int i : order) {
+      builder.add(starts[i], ends[i]);
+    }
+    return builder.build();
+  }
+
+  int rangeCount() {
+    return this.starts.length;
+  }
+
+  long keyCount() {
+    return this.offsets[this.starts.length];
+  }
+
+  /**
+   * Returns the index of the range containing {@code key}, {@code -1}
+   * if there is none.
+   */
+  int indexOfRangeContaining(long key) {
+    int index = floorIndex(this.starts, this.starts.length, key);
+    if (index >= 0 && key < this.ends[index]) {
+      return index;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the range containing the key at position
+   * {@code keyIndex} when iterating over all keys.
+   */
+  int indexOfRangeWithKeyAt(long keyIndex) {
+    // the last offset is the total count and never a range start
+    return floorIndex(this.offsets, this.starts.length, keyIndex);
+  }
+
+  /**
+   * Returns the largest index {@code i < length} with
+   * {@code values[i] <= key}, {@code -1} if there is none.
+   */
+  private static int floorIndex(long[] values, int length, long key) {
+    int low = 0;
+    int high = length - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (values[middle] <= key) {
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return low - 1;
+  }
+
+  DisjointRanges union(DisjointRanges other) {
+    Builder builder = new Builder(this.rangeCount() + other.rangeCount());
+    int i = 0;
+    int j = 0;
+    while (i < this.rangeCount() || j < other.rangeCount()) {
+      if (j == other.rangeCount() || (i < this.rangeCount() && this.starts[i] <= other.starts[j])) {
+        builder.add(this.starts[i], this.ends[i]);
+        i += 1;
+      } else {
+        builder.add(other.starts[j], other.ends[j]);
+        j += 1;
+      }
+    }
+    return builder.build();
+  }
+
+  DisjointRanges intersection(DisjointRanges other) {
+    Builder builder = new Builder(Math.max(this.rangeCount(), other.rangeCount()));
+    int i = 0;
+    int j = 0;
+    while (i < this.rangeCount() && j < other.rangeCount()) {
+      long start = Math.max(this.starts[i], other.starts[j]);
+      long end = Math.min(this.ends[i], other.ends[j]);
+      builder.add(start, end);
+      if (this.ends[i] < other.ends[j]) {
+        i += 1;
+      } else {
+        j += 1;
+      }
+    }
+    return builder.build();
+  }
+
+  DisjointRanges difference(DisjointRanges other) {
+    Builder builder = new Builder(this.rangeCount() + other.rangeCount());
+    int j = 0;
+    for (int i = 0; i < this.rangeCount(); i++) {
+      long start = this.starts[i];
+      long end = this.ends[i];
+      // skip the ranges of other that end before this range
+      while (j < other.rangeCount() && other.ends[j] <= start) {
+        j += 1;
+      }
+      int k = j;
+      while (k < other.rangeCount() && other.starts[k] < end) {
+        builder.add(start, other.starts[k]);
+        start = Math.max(start, other.ends[k]);
+        k += 1;
+      }
+      builder.add(start, end);
+    }
+    return builder.build();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DisjointRanges)) {
+      return false;
+    }
+    DisjointRanges other = (DisjointRanges) obj;
+    return Arrays.equals(this.starts, other.starts)
+            && Arrays.equals(this.ends, other.ends);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.starts) * 31 + Arrays.hashCode(this.ends);
+  }
+
+  /**
+   * Accumulates ranges sorted by start, drops empty ranges and merges
+   * overlapping or adjacent ones.
+   */
+  static final class Builder {
+
+    private long[] starts;
+    private long[] ends;
+    private int size;
+
+    Builder(int capacity) {
+      this.starts = new long[Math.max(capacity, 1)];
+      this.ends = new long[Math.max(capacity, 1)];
+    }
+
+    void add(long start, long end) {
+      if (start >= end) {
+        return;
+      }
+      if (this.size > 0 && start <= this.ends[this.size - 1]) {
+        this.ends[this.size - 1] = Math.max(this.ends[this.size - 1], end);
+        return;
+      }
+      if (this.size == this.starts.length) {
+        this.starts = Arrays.copyOf(this.starts, this.size * 2);
+        this.ends = Arrays.copyOf(this.ends, this.size * 2);
+      }
+      this.starts[this.size] = start;
+      this.ends[this.size] = end;
+      this.size += 1;
+    }
+
+    DisjointRanges build() {
+      if (this.size == 0) {
+        return EMPTY;
+      }
+      return new DisjointRanges(Arrays.copyOf(this.starts, this.size), Arrays.copyOf(this.ends, this.size));
+    }
+
+  }
+
+  /**
+   * Iterates over the keys of all ranges, splits in the middle of the
+   * remaining keys regardless of range boundaries.
+   *
+   * @param <T> the type of elements
+   */
+  abstract static class RangesSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTIS = ORDERED | SORTED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
+
+    final DisjointRanges ranges;
+    /**
+     * Position of the next read among all keys.
+     */
+    private long index;
+    private final long fence;
+    /**
+     * Range containing {@link #index}.
+     */
+    private int range;
+
+    RangesSpliterator(DisjointRanges ranges, long index, long fence) {
+      this.ranges = ranges;
+      this.index = index;
+      this.fence = fence;
+      this.range = index < fence ? ranges.indexOfRangeWithKeyAt(index) : 0;
+    }
+
+    /**
+     * Converts a key to an element.
+     */
+    abstract T element(long key);
+
+    /**
+     * Creates a spliterator over {@code length} consecutive keys.
+     */
+    abstract Spliterator<T> segment(long startKey, long length);
+
+    abstract Spliterator<T> newInstance(DisjointRanges ranges, long index, long fence);
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (this.index >= this.fence) {
+        return false;
+      }
+      long key = this.ranges.starts[this.range] + (this.index - this.ranges.offsets[this.range]);
+      action.accept(this.element(key));
+      this.index += 1L;
+      if (this.index == this.ranges.offsets[this.range + 1]) {
+        this.range += 1;
+      }
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      while (this.index < this.fence) {
+        long rangeEnd = Math.min(this.ranges.offsets[this.range + 1], this.fence);
+        long startKey = this.ranges.starts[this.range] + (this.index - this.ranges.offsets[this.range]);
+        this.segment(startKey, rangeEnd - this.index).forEachRemaining(action);
+        this.index = rangeEnd;
+        this.range += 1;
+      }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      long half = (this.fence - this.index) / 2L;
+      if (half == 0L) {
+        // empty or size 1 => null
+        return null;
+      }
+      long middle = this.index + half;
+      Spliterator<T> prefix = this.newInstance(this.ranges, this.index, middle);
+      this.index = middle;
+      this.range = this.ranges.indexOfRangeWithKeyAt(middle);
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.fence - this.index;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return this.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTIS;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      // natural order
+      return null;
+    }
+
+  }
+
+}
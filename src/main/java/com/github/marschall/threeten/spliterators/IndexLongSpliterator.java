@@ -0,0 +1,83 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Primitive counterpart of {@link IndexSpliterator}, elements are
+ * computed from their index without any allocation.
+ */
+abstract class IndexLongSpliterator implements Spliterator.OfLong {
+
+  private static final int CHARACTERISTIS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
+
+  /**
+   * Index of the next read.
+   */
+  private long index;
+  private final long fence;
+  /**
+   * Split parts will have at least this many elements.
+   */
+  final long minimumSplitSize;
+
+  IndexLongSpliterator(long index, long fence, long minimumSplitSize) {
+    this.index = index;
+    this.fence = fence;
+    this.minimumSplitSize = minimumSplitSize;
+  }
+
+  abstract long element(long index);
+
+  abstract Spliterator.OfLong newInstance(long index, long fence);
+
+  @Override
+  public void forEachRemaining(LongConsumer action) {
+    long i = this.index;
+    long end = this.fence;
+    this.index = end;
+    while (i < end) {
+      action.accept(this.element(i));
+      i += 1L;
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(LongConsumer action) {
+    if (this.index >= this.fence) {
+      return false;
+    }
+    action.accept(this.element(this.index));
+    this.index += 1L;
+    return true;
+  }
+
+  @Override
+  public Spliterator.OfLong trySplit() {
+    long half = (this.fence - this.index) / 2L;
+    if (half < this.minimumSplitSize) {
+      // empty, size 1 or too small => null
+      return null;
+    }
+    long middle = this.index + half;
+    Spliterator.OfLong prefix = this.newInstance(this.index, middle);
+    this.index = middle;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return this.fence - this.index;
+  }
+
+  @Override
+  public long getExactSizeIfKnown() {
+    return this.estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTIS;
+  }
+
+}
@@ -0,0 +1,85 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator over elements that can be computed from their index in
+ * constant time, splits in constant time.
+ *
+ * @param <T> the type of elements
+ */
+abstract class IndexSpliterator<T> implements Spliterator<T> {
+
+  private static final int CHARACTERISTIS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
+
+  /**
+   * Index of the next read.
+   */
+  private long index;
+  private final long fence;
+  /**
+   * Split parts will have at least this many elements.
+   */
+  final long minimumSplitSize;
+
+  IndexSpliterator(long index, long fence, long minimumSplitSize) {
+    this.index = index;
+    this.fence = fence;
+    this.minimumSplitSize = minimumSplitSize;
+  }
+
+  abstract T element(long index);
+
+  abstract Spliterator<T> newInstance(long index, long fence);
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    long i = this.index;
+    long end = this.fence;
+    this.index = end;
+    while (i < end) {
+      action.accept(this.element(i));
+      i += 1L;
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (this.index >= this.fence) {
+      return false;
+    }
+    action.accept(this.element(this.index));
+    this.index += 1L;
+    return true;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    long half = (this.fence - this.index) / 2L;
+    if (half < this.minimumSplitSize) {
+      // empty, size 1 or too small => null
+      return null;
+    }
+    long middle = this.index + half;
+    Spliterator<T> prefix = this.newInstance(this.index, middle);
+    this.index = middle;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return this.fence - this.index;
+  }
+
+  @Override
+  public long getExactSizeIfKnown() {
+    return this.estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTIS;
+  }
+
+}
@@ -0,0 +1,521 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Factory methods for streams over ranges of {@link Instant}s with a
+ * fixed step.
+ *
+ * <p>The element at index {@code n} is computed directly from the
+ * start with exact second and nanosecond arithmetic, the streams are
+ * sized and split in constant time.</p>
+ *
+ * <p>The {@code epoch*Range} methods return the elements as epoch
+ * seconds, milliseconds or nanoseconds without allocating an
+ * {@link Instant} per element.</p>
+ */
+public final class InstantStreams {
+
+  static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+
+  private static final BigInteger BIG_NANOS_PER_SECOND = BigInteger.valueOf(NANOS_PER_SECOND);
+
+  private InstantStreams() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Instant>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code step}.
+   *
+   * <p>If {@code startInclusive} is after {@code endExclusive}
+   * a decremental step of {@code step} is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param step the size of the step, positive
+   * @return a sequential {@code Stream} for the range of {@code Instant}
+   *         elements
+   * @throws IllegalArgumentException if {@code step} is not positive or
+   *         the range has more than {@link Long#MAX_VALUE} elements
+   */
+  public static Stream<Instant> range(Instant startInclusive, Instant endExclusive, Duration step) {
+    return range(startInclusive, endExclusive, step, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Instant>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code step}.
+   *
+   * <p>If {@code startInclusive} is after {@code endInclusive}
+   * a decremental step of {@code step} is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param step the size of the step, positive
+   * @return a sequential {@code Stream} for the range of {@code Instant}
+   *         elements
+   * @throws IllegalArgumentException if {@code step} is not positive or
+   *         the range has more than {@link Long#MAX_VALUE} elements
+   */
+  public static Stream<Instant> rangeClosed(Instant startInclusive, Instant endInclusive, Duration step) {
+    return rangeClosed(startInclusive, endInclusive, step, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Instant>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * <p>If {@code startInclusive} is after {@code endExclusive}
+   * a decremental step is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, must have an exact duration, not {@code null}
+   * @return a sequential {@code Stream} for the range of {@code Instant}
+   *         elements
+   * @throws IllegalArgumentException if {@code amountToAdd} is not positive
+   * @throws UnsupportedTemporalTypeException if {@code unit} has an
+   *         estimated duration
+   */
+  public static Stream<Instant> range(Instant startInclusive, Instant endExclusive, long amountToAdd, TemporalUnit unit) {
+    return range(startInclusive, endExclusive, toDuration(amountToAdd, unit));
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Instant>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * <p>If {@code startInclusive} is after {@code endInclusive}
+   * a decremental step is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, must have an exact duration, not {@code null}
+   * @return a sequential {@code Stream} for the range of {@code Instant}
+   *         elements
+   * @throws IllegalArgumentException if {@code amountToAdd} is not positive
+   * @throws UnsupportedTemporalTypeException if {@code unit} has an
+   *         estimated duration
+   */
+  public static Stream<Instant> rangeClosed(Instant startInclusive, Instant endInclusive, long amountToAdd, TemporalUnit unit) {
+    return rangeClosed(startInclusive, endInclusive, toDuration(amountToAdd, unit));
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Instant>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code step}.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param step the size of the step, positive
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code Instant}
+   *         elements
+   * @see #range(Instant, Instant, Duration)
+   */
+  public static Stream<Instant> parallelRange(Instant startInclusive, Instant endExclusive, Duration step, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return range(startInclusive, endExclusive, step, options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Instant>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code step}.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param step the size of the step, positive
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code Instant}
+   *         elements
+   * @see #rangeClosed(Instant, Instant, Duration)
+   */
+  public static Stream<Instant> parallelRangeClosed(Instant startInclusive, Instant endInclusive, Duration step, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return rangeClosed(startInclusive, endInclusive, step, options, true);
+  }
+
+  private static Stream<Instant> range(Instant startInclusive, Instant endExclusive, Duration step, SplitOptions options, boolean parallel) {
+    InstantProgression progression = InstantProgression.of(startInclusive, endExclusive, step);
+    long size = progression.count(endExclusive, false);
+    return StreamSupport.stream(new InstantSpliterator(progression, 0L, size, options.minimumSplitSize(size)), parallel);
+  }
+
+  private static Stream<Instant> rangeClosed(Instant startInclusive, Instant endInclusive, Duration step, SplitOptions options, boolean parallel) {
+    InstantProgression progression = InstantProgression.of(startInclusive, endInclusive, step);
+    long size = progression.count(endInclusive, true);
+    return StreamSupport.stream(new InstantSpliterator(progression, 0L, size, options.minimumSplitSize(size)), parallel);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of epoch seconds from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code step}.
+   *
+   * <p>If {@code startInclusive} is after {@code endExclusive}
+   * a decremental step of {@code step} is performed instead. Every
+   * element is the epoch second of the corresponding element of
+   * {@link #range(Instant, Instant, Duration)}, any fraction of a second
+   * is truncated like {@link Instant#getEpochSecond()}.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param step the size of the step, at least one second
+   * @return a sequential {@code LongStream} for the range of epoch seconds
+   * @throws IllegalArgumentException if {@code step} is smaller than one
+   *         second or the range has more than {@link Long#MAX_VALUE} elements
+   */
+  public static LongStream epochSecondRange(Instant startInclusive, Instant endExclusive, Duration step) {
+    return epochRange(startInclusive, endExclusive, step, false, NANOS_PER_SECOND);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of epoch seconds from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code step}.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param step the size of the step, at least one second
+   * @return a sequential {@code LongStream} for the range of epoch seconds
+   * @throws IllegalArgumentException if {@code step} is smaller than one
+   *         second or the range has more than {@link Long#MAX_VALUE} elements
+   * @see #epochSecondRange(Instant, Instant, Duration)
+   */
+  public static LongStream epochSecondRangeClosed(Instant startInclusive, Instant endInclusive, Duration step) {
+    return epochRange(startInclusive, endInclusive, step, true, NANOS_PER_SECOND);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of epoch milliseconds
+   * from {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code step}.
+   *
+   * <p>If {@code startInclusive} is after {@code endExclusive}
+   * a decremental step of {@code step} is performed instead. Every
+   * element is the epoch millisecond of the corresponding element of
+   * {@link #range(Instant, Instant, Duration)}, any fraction of a
+   * millisecond is truncated like {@link Instant#toEpochMilli()}.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param step the size of the step, at least one millisecond
+   * @return a sequential {@code LongStream} for the range of epoch milliseconds
+   * @throws IllegalArgumentException if {@code step} is smaller than one
+   *         millisecond or the range has more than {@link Long#MAX_VALUE} elements
+   * @throws ArithmeticException if an element does not fit into a {@code long}
+   */
+  public static LongStream epochMilliRange(Instant startInclusive, Instant endExclusive, Duration step) {
+    return epochRange(startInclusive, endExclusive, step, false, NANOS_PER_MILLI);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of epoch milliseconds
+   * from {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code step}.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param step the size of the step, at least one millisecond
+   * @return a sequential {@code LongStream} for the range of epoch milliseconds
+   * @throws IllegalArgumentException if {@code step} is smaller than one
+   *         millisecond or the range has more than {@link Long#MAX_VALUE} elements
+   * @throws ArithmeticException if an element does not fit into a {@code long}
+   * @see #epochMilliRange(Instant, Instant, Duration)
+   */
+  public static LongStream epochMilliRangeClosed(Instant startInclusive, Instant endInclusive, Duration step) {
+    return epochRange(startInclusive, endInclusive, step, true, NANOS_PER_MILLI);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of epoch nanoseconds
+   * from {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code step}.
+   *
+   * <p>If {@code startInclusive} is after {@code endExclusive}
+   * a decremental step of {@code step} is performed instead. Epoch
+   * nanoseconds fit into a {@code long} only for about 292 years
+   * around 1970.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param step the size of the step, positive
+   * @return a sequential {@code LongStream} for the range of epoch nanoseconds
+   * @throws IllegalArgumentException if {@code step} is not positive
+   * @throws ArithmeticException if an element does not fit into a {@code long}
+   */
+  public static LongStream epochNanoRange(Instant startInclusive, Instant endExclusive, Duration step) {
+    return epochRange(startInclusive, endExclusive, step, false, 1L);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of epoch nanoseconds
+   * from {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code step}.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param step the size of the step, positive
+   * @return a sequential {@code LongStream} for the range of epoch nanoseconds
+   * @throws IllegalArgumentException if {@code step} is not positive
+   * @throws ArithmeticException if an element does not fit into a {@code long}
+   * @see #epochNanoRange(Instant, Instant, Duration)
+   */
+  public static LongStream epochNanoRangeClosed(Instant startInclusive, Instant endInclusive, Duration step) {
+    return epochRange(startInclusive, endInclusive, step, true, 1L);
+  }
+
+  private static LongStream epochRange(Instant start, Instant end, Duration step, boolean inclusive, long nanosPerUnit) {
+    InstantProgression progression = InstantProgression.of(start, end, step);
+    if (step.compareTo(Duration.ofNanos(nanosPerUnit)) < 0) {
+      // smaller steps would produce duplicates
+      throw new IllegalArgumentException("step must be at least " + Duration.ofNanos(nanosPerUnit) + " but was: " + step);
+    }
+    long size = progression.count(end, inclusive);
+    long unitsPerSecond = NANOS_PER_SECOND / nanosPerUnit;
+    long stepUnits = 0L;
+    if (step.getNano() % nanosPerUnit == 0L && step.getSeconds() < Long.MAX_VALUE / unitsPerSecond) {
+      stepUnits = step.getSeconds() * unitsPerSecond + step.getNano() / nanosPerUnit;
+    }
+    long first = 0L;
+    if (size > 0L) {
+      // fail early if the first or last element does not fit
+      first = progression.toUnits(0L, unitsPerSecond, nanosPerUnit);
+      progression.toUnits(size - 1L, unitsPerSecond, nanosPerUnit);
+    }
+    return StreamSupport.longStream(new EpochUnitSpliterator(progression, unitsPerSecond, nanosPerUnit, first, stepUnits, 0L, size, 1L), false);
+  }
+
+  static Duration toDuration(long amountToAdd, TemporalUnit unit) {
+    Objects.requireNonNull(unit, "unit");
+    if (amountToAdd <= 0L) {
+      throw new IllegalArgumentException("amountToAdd must be positive but was: " + amountToAdd);
+    }
+    if (unit.isDurationEstimated()) {
+      throw new UnsupportedTemporalTypeException("Unit must not have an estimated duration: " + unit);
+    }
+    return unit.getDuration().multipliedBy(amountToAdd);
+  }
+
+  /**
+   * An origin and a fixed step in one direction, computes the element
+   * at any index exactly without overflowing intermediate results.
+   */
+  static final class InstantProgression {
+
+    private final long originSecond;
+    private final int originNano;
+    private final long stepSeconds;
+    private final int stepNanos;
+    /**
+     * Whether the step is subtracted from the origin.
+     */
+    private final boolean descending;
+
+    private InstantProgression(long originSecond, int originNano, long stepSeconds, int stepNanos, boolean descending) {
+      this.originSecond = originSecond;
+      this.originNano = originNano;
+      this.stepSeconds = stepSeconds;
+      this.stepNanos = stepNanos;
+      this.descending = descending;
+    }
+
+    /**
+     * Creates a progression from {@code start} towards {@code end}.
+     */
+    static InstantProgression of(Instant start, Instant end, Duration step) {
+      Objects.requireNonNull(end, "end");
+      if (step.isNegative() || step.isZero()) {
+        throw new IllegalArgumentException("step must be positive but was: " + step);
+      }
+      return new InstantProgression(start.getEpochSecond(), start.getNano(),
+              step.getSeconds(), step.getNano(), start.isAfter(end));
+    }
+
+    boolean isAscending() {
+      return !this.descending;
+    }
+
+    /**
+     * Counts the elements up to {@code end}, assumes {@code end} is not
+     * behind the origin.
+     */
+    long count(Instant end, boolean inclusive) {
+      BigInteger distance = BigInteger.valueOf(end.getEpochSecond()).subtract(BigInteger.valueOf(this.originSecond))
+              .multiply(BIG_NANOS_PER_SECOND)
+              .add(BigInteger.valueOf(end.getNano() - this.originNano))
+              .abs();
+      BigInteger step = BigInteger.valueOf(this.stepSeconds).multiply(BIG_NANOS_PER_SECOND).add(BigInteger.valueOf(this.stepNanos));
+      BigInteger count;
+      if (inclusive) {
+        count = distance.divide(step).add(BigInteger.ONE);
+      } else {
+        // ceiling division
+        count = distance.add(step).subtract(BigInteger.ONE).divide(step);
+      }
+      if (count.bitLength() > 63) {
+        throw new IllegalArgumentException("range has more than " + Long.MAX_VALUE + " elements");
+      }
+      return count.longValue();
+    }
+
+    /**
+     * Returns the epoch second of the element at {@code index} without
+     * normalizing the nanosecond adjustment.
+     */
+    private long unnormalizedSecond(long index) {
+      // index * stepNanos may overflow, split index into whole seconds and a remainder
+      long quotient = index / NANOS_PER_SECOND;
+      long remainder = index % NANOS_PER_SECOND;
+      long seconds = Math.addExact(Math.multiplyExact(index, this.stepSeconds),
+              quotient * this.stepNanos + (remainder * this.stepNanos) / NANOS_PER_SECOND);
+      return this.descending ? Math.subtractExact(this.originSecond, seconds) : Math.addExact(this.originSecond, seconds);
+    }
+
+    /**
+     * Returns the nanosecond adjustment of the element at {@code index}
+     * in the range [-999,999,999, 1,999,999,998].
+     */
+    private long unnormalizedNano(long index) {
+      long nanos = ((index % NANOS_PER_SECOND) * this.stepNanos) % NANOS_PER_SECOND;
+      return this.descending ? this.originNano - nanos : this.originNano + nanos;
+    }
+
+    Instant instant(long index) {
+      return Instant.ofEpochSecond(this.unnormalizedSecond(index), this.unnormalizedNano(index));
+    }
+
+    /**
+     * Returns the element at {@code index} in units since the epoch,
+     * truncating towards negative infinity.
+     */
+    long toUnits(long index, long unitsPerSecond, long nanosPerUnit) {
+      long second = this.unnormalizedSecond(index);
+      long nano = this.unnormalizedNano(index);
+      second = Math.addExact(second, Math.floorDiv(nano, NANOS_PER_SECOND));
+      nano = Math.floorMod(nano, NANOS_PER_SECOND);
+      return Math.addExact(Math.multiplyExact(second, unitsPerSecond), nano / nanosPerUnit);
+    }
+
+  }
+
+  static final class InstantSpliterator extends IndexSpliterator<Instant> {
+
+    private final InstantProgression progression;
+
+    InstantSpliterator(InstantProgression progression, long index, long fence, long minimumSplitSize) {
+      super(index, fence, minimumSplitSize);
+      this.progression = progression;
+    }
+
+    @Override
+    Instant element(long index) {
+      return this.progression.instant(index);
+    }
+
+    @Override
+    Spliterator<Instant> newInstance(long index, long fence) {
+      return new InstantSpliterator(this.progression, index, fence, this.minimumSplitSize);
+    }
+
+    @Override
+    public int characteristics() {
+      if (this.progression.isAscending()) {
+        return super.characteristics() | SORTED;
+      }
+      return super.characteristics();
+    }
+
+    @Override
+    public Comparator<? super Instant> getComparator() {
+      if (this.progression.isAscending()) {
+        // natural order
+        return null;
+      }
+      throw new IllegalStateException();
+    }
+
+  }
+
+  static final class EpochUnitSpliterator extends IndexLongSpliterator {
+
+    private final InstantProgression progression;
+    private final long unitsPerSecond;
+    private final long nanosPerUnit;
+    private final long first;
+    /**
+     * The step in units if it is a whole number of units, {@code 0}
+     * otherwise.
+     */
+    private final long stepUnits;
+
+    EpochUnitSpliterator(InstantProgression progression, long unitsPerSecond, long nanosPerUnit,
+            long first, long stepUnits, long index, long fence, long minimumSplitSize) {
+      super(index, fence, minimumSplitSize);
+      this.progression = progression;
+      this.unitsPerSecond = unitsPerSecond;
+      this.nanosPerUnit = nanosPerUnit;
+      this.first = first;
+      this.stepUnits = stepUnits;
+    }
+
+    @Override
+    long element(long index) {
+      if (this.stepUnits != 0L) {
+        // whole steps don't change the truncated fraction, the result fits
+        // into a long so wrapping intermediate results are still correct
+        long distance = index * this.stepUnits;
+        return this.progression.isAscending() ? this.first + distance : this.first - distance;
+      }
+      return this.progression.toUnits(index, this.unitsPerSecond, this.nanosPerUnit);
+    }
+
+    @Override
+    Spliterator.OfLong newInstance(long index, long fence) {
+      return new EpochUnitSpliterator(this.progression, this.unitsPerSecond, this.nanosPerUnit,
+              this.first, this.stepUnits, index, fence, this.minimumSplitSize);
+    }
+
+    @Override
+    public int characteristics() {
+      if (this.progression.isAscending()) {
+        return super.characteristics() | SORTED;
+      }
+      return super.characteristics();
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      if (this.progression.isAscending()) {
+        // natural order
+        return null;
+      }
+      throw new IllegalStateException();
+    }
+
+  }
+
+}
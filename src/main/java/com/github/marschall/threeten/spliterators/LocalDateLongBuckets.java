@@ -0,0 +1,77 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.LocalDate;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Read-only per day {@code long} values over a {@link LocalDateRange}
+ * backed by a dense array, the result of the by day collectors in
+ * {@link BucketCollectors}.
+ *
+ * <p>Instances are thread safe.</p>
+ */
+public final class LocalDateLongBuckets {
+
+  private final LongBuckets buckets;
+
+  LocalDateLongBuckets(LongBuckets buckets) {
+    this.buckets = buckets;
+  }
+
+  /**
+   * Returns the range of days covered.
+   *
+   * @return the range of days covered, not {@code null}
+   */
+  public LocalDateRange getRange() {
+    return LocalDateRange.ofEpochDays(this.buckets.firstKey(), this.buckets.firstKey() + this.buckets.size());
+  }
+
+  /**
+   * Returns the value of a day.
+   *
+   * @param date the day, not {@code null}
+   * @return the value of the day, {@code 0} if no element was collected
+   *         for the day
+   * @throws IllegalArgumentException if {@code date} is outside of
+   *         {@link #getRange()}
+   */
+  public long get(LocalDate date) {
+    return this.buckets.get(date.toEpochDay());
+  }
+
+  /**
+   * Checks if no element was collected for a day.
+   *
+   * @param date the day, not {@code null}
+   * @return {@code true} if no element was collected for {@code date}
+   * @throws IllegalArgumentException if {@code date} is outside of
+   *         {@link #getRange()}
+   */
+  public boolean isEmpty(LocalDate date) {
+    return !this.buckets.isPresent(date.toEpochDay());
+  }
+
+  /**
+   * Performs an action for every day for which an element was collected
+   * in ascending order.
+   *
+   * @param action the action to perform, not {@code null}
+   */
+  public void forEach(ObjLongConsumer<? super LocalDate> action) {
+    for (int i = this.buckets.nextPresent(0); i >= 0; i = this.buckets.nextPresent(i + 1)) {
+      action.accept(LocalDate.ofEpochDay(this.buckets.firstKey() + i), this.buckets.valueAt(i));
+    }
+  }
+
+  /**
+   * Returns the values of all days in ascending order.
+   *
+   * @return a copy of the values, index {@code 0} is the start of
+   *         {@link #getRange()}, not {@code null}
+   */
+  public long[] toArray() {
+    return this.buckets.toArray();
+  }
+
+}
@@ -0,0 +1,236 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.marschall.threeten.spliterators.LocalDateStreams.DecrementingLocalDateSpliterator;
+import com.github.marschall.threeten.spliterators.LocalDateStreams.IncrementingLocalDateSpliterator;
+
+/**
+ * An immutable range of {@link LocalDate}s from a start date (inclusive)
+ * to an end date (exclusive).
+ *
+ * <p>Only the epoch days of the bounds are stored, the
+ * {@link LocalDate}s are created on access.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class LocalDateRange {
+
+  private final long startEpochDay;
+  private final long endEpochDay;
+
+  private LocalDateRange(long startEpochDay, long endEpochDay) {
+    this.startEpochDay = startEpochDay;
+    this.endEpochDay = endEpochDay;
+  }
+
+  /**
+   * Obtains a range from {@code startInclusive} (inclusive) to
+   * {@code endExclusive} (exclusive).
+   *
+   * @param startInclusive the (inclusive) start, not {@code null}
+   * @param endExclusive the exclusive end, not {@code null}
+   * @return the range, not {@code null}
+   * @throws IllegalArgumentException if {@code endExclusive} is before
+   *         {@code startInclusive}
+   */
+  public static LocalDateRange of(LocalDate startInclusive, LocalDate endExclusive) {
+    Objects.requireNonNull(startInclusive, "startInclusive");
+    Objects.requireNonNull(endExclusive, "endExclusive");
+    return ofEpochDays(startInclusive.toEpochDay(), endExclusive.toEpochDay());
+  }
+
+  static LocalDateRange ofEpochDays(long startEpochDay, long endEpochDay) {
+    if (endEpochDay < startEpochDay) {
+      throw new IllegalArgumentException("end must not be before start");
+    }
+    return new LocalDateRange(startEpochDay, endEpochDay);
+  }
+
+  /**
+   * Returns the first date of this range.
+   *
+   * @return the (inclusive) start, not {@code null}
+   */
+  public LocalDate getStartInclusive() {
+    return LocalDate.ofEpochDay(this.startEpochDay);
+  }
+
+  /**
+   * Returns the date after the last date of this range.
+   *
+   * @return the exclusive end, not {@code null}
+   */
+  public LocalDate getEndExclusive() {
+    return LocalDate.ofEpochDay(this.endEpochDay);
+  }
+
+  /**
+   * Checks if this range contains no dates.
+   *
+   * @return {@code true} if start and end are equal
+   */
+  public boolean isEmpty() {
+    return this.startEpochDay == this.endEpochDay;
+  }
+
+  /**
+   * Returns the number of days in this range.
+   *
+   * @return the number of days in this range, not negative
+   */
+  public long size() {
+    return this.endEpochDay - this.startEpochDay;
+  }
+
+  /**
+   * Checks if a day is inside this range.
+   *
+   * @param date the day to check, not {@code null}
+   * @return {@code true} if {@code date} is inside this range
+   */
+  public boolean contains(LocalDate date) {
+    long value = date.toEpochDay();
+    return value >= this.startEpochDay && value < this.endEpochDay;
+  }
+
+  /**
+   * Computes the days that are inside both this and an other range.
+   *
+   * @param other the other range, not {@code null}
+   * @return the common days, empty if the ranges do not overlap
+   */
+  public Optional<LocalDateRange> intersection(LocalDateRange other) {
+    long intersectionStart = Math.max(this.startEpochDay, other.startEpochDay);
+    long intersectionEnd = Math.min(this.endEpochDay, other.endEpochDay);
+    if (intersectionStart >= intersectionEnd) {
+      return Optional.empty();
+    }
+    return Optional.of(new LocalDateRange(intersectionStart, intersectionEnd));
+  }
+
+  /**
+   * Computes the smallest range that contains both this and an other
+   * range.
+   *
+   * @param other the other range, not {@code null}
+   * @return the smallest range enclosing both ranges, not {@code null}
+   */
+  public LocalDateRange span(LocalDateRange other) {
+    return new LocalDateRange(Math.min(this.startEpochDay, other.startEpochDay), Math.max(this.endEpochDay, other.endEpochDay));
+  }
+
+  /**
+   * Checks if an other range starts where this range ends or ends where
+   * this range starts.
+   *
+   * @param other the other range, not {@code null}
+   * @return {@code true} if the ranges are adjacent
+   */
+  public boolean isAdjacent(LocalDateRange other) {
+    return this.endEpochDay == other.startEpochDay || other.endEpochDay == this.startEpochDay;
+  }
+
+  /**
+   * Splits this range into consecutive ranges whose sizes differ by at
+   * most one day.
+   *
+   * <p>If {@code parts} is bigger than {@link #size()} some of the ranges
+   * will be empty.</p>
+   *
+   * @param parts the number of ranges, positive
+   * @return {@code parts} consecutive ranges covering this range, the
+   *         longer ones first
+   * @throws IllegalArgumentException if {@code parts} is not positive
+   */
+  public List<LocalDateRange> split(int parts) {
+    if (parts <= 0) {
+      throw new IllegalArgumentException("parts must be positive but was: " + parts);
+    }
+    long size = this.size();
+    long partSize = size / parts;
+    long remainder = size % parts;
+    List<LocalDateRange> result = new ArrayList<>(parts);
+    long partStart = this.startEpochDay;
+    for (int i = 0; i < parts; i++) {
+      long partEnd = partStart + partSize + (i < remainder ? 1L : 0L);
+      result.add(new LocalDateRange(partStart, partEnd));
+      partStart = partEnd;
+    }
+    return result;
+  }
+
+  /**
+   * Returns a sequential ordered stream over the days in this range
+   * from start to end.
+   *
+   * @return a sequential {@code Stream} over the days in this range
+   * @see LocalDateStreams#range(LocalDate, LocalDate)
+   */
+  public Stream<LocalDate> stream() {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+
+  /**
+   * Returns a sequential ordered stream over the days in this range
+   * from end to start.
+   *
+   * @return a sequential {@code Stream} over the days in this range
+   *         in reverse order
+   */
+  public Stream<LocalDate> reverseStream() {
+    long size = this.size();
+    if (size == 0L) {
+      return Stream.empty();
+    }
+    return StreamSupport.stream(new DecrementingLocalDateSpliterator(LocalDate.ofEpochDay(this.endEpochDay - 1L), size, 1L), false);
+  }
+
+  /**
+   * Returns a spliterator over the days in this range from start to end.
+   *
+   * @return a sized spliterator over the days in this range
+   */
+  public Spliterator<LocalDate> spliterator() {
+    return new IncrementingLocalDateSpliterator(this.getStartInclusive(), this.size(), 1L);
+  }
+
+  long getStartEpochDay() {
+    return this.startEpochDay;
+  }
+
+  long getEndEpochDay() {
+    return this.endEpochDay;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof LocalDateRange)) {
+      return false;
+    }
+    LocalDateRange other = (LocalDateRange) obj;
+    return this.startEpochDay == other.startEpochDay
+            && this.endEpochDay == other.endEpochDay;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.startEpochDay) * 31 + Long.hashCode(this.endEpochDay);
+  }
+
+  @Override
+  public String toString() {
+    return "[" + this.getStartInclusive() + ", " + this.getEndExclusive() + ')';
+  }
+
+}
@@ -0,0 +1,238 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.marschall.threeten.spliterators.DisjointRanges.RangesSpliterator;
+import com.github.marschall.threeten.spliterators.LocalDateStreams.IncrementingLocalDateSpliterator;
+
+/**
+ * An immutable set of {@link LocalDate}s stored as sorted, disjoint
+ * {@link LocalDateRange}s.
+ *
+ * <p>Overlapping and adjacent ranges are merged. Lookups are done with a
+ * binary search over the ranges, set operations sweep over the ranges
+ * and streams create the dates only while iterating, so the individual
+ * dates are never stored.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class LocalDateRangeSet {
+
+  private static final LocalDateRangeSet EMPTY = new LocalDateRangeSet(DisjointRanges.EMPTY);
+
+  private final DisjointRanges ranges;
+
+  private LocalDateRangeSet(DisjointRanges ranges) {
+    this.ranges = ranges;
+  }
+
+  /**
+   * Returns a set containing no dates.
+   *
+   * @return the empty set, not {@code null}
+   */
+  public static LocalDateRangeSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a set containing the dates of all given ranges.
+   *
+   * @param ranges the ranges, may overlap, not {@code null}
+   * @return the set, not {@code null}
+   */
+  public static LocalDateRangeSet of(LocalDateRange... ranges) {
+    return of(Arrays.asList(ranges));
+  }
+
+  /**
+   * Creates a set containing the dates of all given ranges.
+   *
+   * @param ranges the ranges, may overlap, not {@code null}
+   * @return the set, not {@code null}
+   */
+  public static LocalDateRangeSet of(Collection<LocalDateRange> ranges) {
+    long[] starts = new long[ranges.size()];
+    long[] ends = new long[ranges.size()];
+    int i = 0;
+    for (LocalDateRange range : ranges) {
+      starts[i] = range.getStartEpochDay();
+      ends[i] = range.getEndEpochDay();
+      i += 1;
+    }
+    return wrap(DisjointRanges.of(starts, ends));
+  }
+
+  private static LocalDateRangeSet wrap(DisjointRanges ranges) {
+    if (ranges == DisjointRanges.EMPTY) {
+      return EMPTY;
+    }
+    return new LocalDateRangeSet(ranges);
+  }
+
+  /**
+   * Checks if a date is in this set.
+   *
+   * @param date the date to check, not {@code null}
+   * @return {@code true} if {@code date} is in this set
+   */
+  public boolean contains(LocalDate date) {
+    return this.ranges.indexOfRangeContaining(date.toEpochDay()) >= 0;
+  }
+
+  /**
+   * Looks up the range of this set containing a date.
+   *
+   * @param date the date to look up, not {@code null}
+   * @return the maximal range containing {@code date}, empty if
+   *         {@code date} is not in this set
+   */
+  public Optional<LocalDateRange> rangeContaining(LocalDate date) {
+    int index = this.ranges.indexOfRangeContaining(date.toEpochDay());
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(this.range(index));
+  }
+
+  private LocalDateRange range(int index) {
+    return LocalDateRange.ofEpochDays(this.ranges.starts[index], this.ranges.ends[index]);
+  }
+
+  /**
+   * Returns the number of dates in this set.
+   *
+   * @return the number of dates in this set
+   */
+  public long size() {
+    return this.ranges.keyCount();
+  }
+
+  /**
+   * Checks if this set contains no dates.
+   *
+   * @return {@code true} if this set contains no dates
+   */
+  public boolean isEmpty() {
+    return this.ranges.rangeCount() == 0;
+  }
+
+  /**
+   * Returns the sorted, disjoint and non-adjacent ranges of this set.
+   *
+   * @return the ranges of this set, not {@code null}
+   */
+  public List<LocalDateRange> asRanges() {
+    List<LocalDateRange> result = new ArrayList<>(this.ranges.rangeCount());
+    for (int i = 0; i < this.ranges.rangeCount(); i++) {
+      result.add(this.range(i));
+    }
+    return result;
+  }
+
+  /**
+   * Computes the dates that are in this or an other set.
+   *
+   * @param other the other set, not {@code null}
+   * @return the union, not {@code null}
+   */
+  public LocalDateRangeSet union(LocalDateRangeSet other) {
+    return wrap(this.ranges.union(other.ranges));
+  }
+
+  /**
+   * Computes the dates that are in both this and an other set.
+   *
+   * @param other the other set, not {@code null}
+   * @return the intersection, not {@code null}
+   */
+  public LocalDateRangeSet intersection(LocalDateRangeSet other) {
+    return wrap(this.ranges.intersection(other.ranges));
+  }
+
+  /**
+   * Computes the dates that are in this but not in an other set.
+   *
+   * @param other the other set, not {@code null}
+   * @return the difference, not {@code null}
+   */
+  public LocalDateRangeSet difference(LocalDateRangeSet other) {
+    return wrap(this.ranges.difference(other.ranges));
+  }
+
+  /**
+   * Returns a sequential ordered stream over the dates in this set in
+   * ascending order.
+   *
+   * @return a sequential {@code Stream} over the dates in this set
+   */
+  public Stream<LocalDate> stream() {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+
+  /**
+   * Returns a spliterator over the dates in this set in ascending order.
+   *
+   * <p>The spliterator is sized and splits in the middle of the remaining
+   * dates regardless of range boundaries.</p>
+   *
+   * @return a sized spliterator over the dates in this set
+   */
+  public Spliterator<LocalDate> spliterator() {
+    return new LocalDateRangesSpliterator(this.ranges, 0L, this.ranges.keyCount());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof LocalDateRangeSet)) {
+      return false;
+    }
+    LocalDateRangeSet other = (LocalDateRangeSet) obj;
+    return this.ranges.equals(other.ranges);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.ranges.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.asRanges().toString();
+  }
+
+  static final class LocalDateRangesSpliterator extends RangesSpliterator<LocalDate> {
+
+    LocalDateRangesSpliterator(DisjointRanges ranges, long index, long fence) {
+      super(ranges, index, fence);
+    }
+
+    @Override
+    LocalDate element(long key) {
+      return LocalDate.ofEpochDay(key);
+    }
+
+    @Override
+    Spliterator<LocalDate> segment(long startKey, long length) {
+      return new IncrementingLocalDateSpliterator(LocalDate.ofEpochDay(startKey), length, 1L);
+    }
+
+    @Override
+    Spliterator<LocalDate> newInstance(DisjointRanges ranges, long index, long fence) {
+      return new LocalDateRangesSpliterator(ranges, index, fence);
+    }
+
+  }
+
+}
@@ -3,7 +3,11 @@ package com.github.marschall.threeten.spliterators;
 import static java.time.temporal.ChronoUnit.DAYS;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Objects;
 import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -19,10 +23,10 @@ public final class LocalDateStreams {
   /**
    * Returns a sequential ordered {@code Stream<LocalDate>} from
    * {@code startInclusive} (inclusive) to {@code endExclusive}
-   * (exclusive) by an incremental step of one month.
+   * (exclusive) by an incremental step of one day.
    *
    * <p>If {@code startInclusive} is bigger than {@code endExclusive}
-   * a decremental step of one month is performed instead.</p>
+   * a decremental step of one day is performed instead.</p>
    *
    * @param startInclusive the (inclusive) initial value
    * @param endExclusive the exclusive bound
@@ -30,24 +34,16 @@ public final class LocalDateStreams {
    *         elements
    */
   public static Stream<LocalDate> range(LocalDate startInclusive, LocalDate endExclusive) {
-    long monthsBetween = DAYS.between(startInclusive, endExclusive);
-    if (monthsBetween == 0L) {
-      return Stream.empty();
-    }
-    if (monthsBetween > 0L) {
-      return StreamSupport.stream(new IncrementingLocalDateSpliterator(startInclusive, monthsBetween), false);
-    } else {
-      return StreamSupport.stream(new DecrementingLocalDateSpliterator(startInclusive, -monthsBetween), false);
-    }
+    return range(startInclusive, endExclusive, SplitOptions.defaults(), null, false);
   }
 
   /**
    * Returns a sequential ordered {@code Stream<LocalDate>} from
    * {@code startInclusive} (inclusive) to {@code endInclusive}
-   * (inclusive) by an incremental step of one month.
+   * (inclusive) by an incremental step of one day.
    *
    * <p>If {@code startInclusive} is bigger than {@code endInclusive}
-   * a decremental step of one month is performed instead.</p>
+   * a decremental step of one day is performed instead.</p>
    *
    * @param startInclusive the (inclusive) initial value
    * @param endInclusive the inclusive bound
@@ -55,58 +51,474 @@ public final class LocalDateStreams {
    *         elements
    */
   public static Stream<LocalDate> rangeClosed(LocalDate startInclusive, LocalDate endInclusive) {
-    long monthsBetween = DAYS.between(startInclusive, endInclusive);
-    if (monthsBetween >= 0L) {
-      return StreamSupport.stream(new IncrementingLocalDateSpliterator(startInclusive, monthsBetween + 1L), false);
+    return rangeClosed(startInclusive, endInclusive, SplitOptions.defaults(), null, false);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<LocalDate>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one day.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one day is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code LocalDate}
+   *         elements
+   */
+  public static Stream<LocalDate> parallelRange(LocalDate startInclusive, LocalDate endExclusive, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return range(startInclusive, endExclusive, options, null, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<LocalDate>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one day.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one day is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code LocalDate}
+   *         elements
+   */
+  public static Stream<LocalDate> parallelRangeClosed(LocalDate startInclusive, LocalDate endInclusive, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return rangeClosed(startInclusive, endInclusive, options, null, true);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<LocalDate>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one day, serving the
+   * elements from {@code cache} if possible.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one day is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param cache the cache to serve the elements from, not {@code null}
+   * @return a sequential {@code Stream} for the range of {@code LocalDate}
+   *         elements
+   */
+  public static Stream<LocalDate> range(LocalDate startInclusive, LocalDate endExclusive, DateCache cache) {
+    Objects.requireNonNull(cache, "cache");
+    return range(startInclusive, endExclusive, SplitOptions.defaults(), cache, false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<LocalDate>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one day, serving the
+   * elements from {@code cache} if possible.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one day is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param cache the cache to serve the elements from, not {@code null}
+   * @return a sequential {@code Stream} for the range of {@code LocalDate}
+   *         elements
+   */
+  public static Stream<LocalDate> rangeClosed(LocalDate startInclusive, LocalDate endInclusive, DateCache cache) {
+    Objects.requireNonNull(cache, "cache");
+    return rangeClosed(startInclusive, endInclusive, SplitOptions.defaults(), cache, false);
+  }
+
+  private static Stream<LocalDate> range(LocalDate startInclusive, LocalDate endExclusive, SplitOptions options, DateCache cache, boolean parallel) {
+    long daysBetween = DAYS.between(startInclusive, endExclusive);
+    if (daysBetween == 0L) {
+      return parallel ? Stream.<LocalDate>empty().parallel() : Stream.empty();
+    }
+    if (daysBetween > 0L) {
+      return StreamSupport.stream(spliterator(startInclusive, daysBetween, true, options.minimumSplitSize(daysBetween), cache), parallel);
+    } else {
+      return StreamSupport.stream(spliterator(startInclusive, -daysBetween, false, options.minimumSplitSize(-daysBetween), cache), parallel);
+    }
+  }
+
+  private static Stream<LocalDate> rangeClosed(LocalDate startInclusive, LocalDate endInclusive, SplitOptions options, DateCache cache, boolean parallel) {
+    long daysBetween = DAYS.between(startInclusive, endInclusive);
+    if (daysBetween >= 0L) {
+      return StreamSupport.stream(spliterator(startInclusive, daysBetween + 1L, true, options.minimumSplitSize(daysBetween + 1L), cache), parallel);
     } else {
-      return StreamSupport.stream(new DecrementingLocalDateSpliterator(startInclusive, -monthsBetween + 1L), false);
+      return StreamSupport.stream(spliterator(startInclusive, -daysBetween + 1L, false, options.minimumSplitSize(-daysBetween + 1L), cache), parallel);
+    }
+  }
+
+  private static Spliterator<LocalDate> spliterator(LocalDate first, long size, boolean ascending, long minimumSplitSize, DateCache cache) {
+    if (cache != null) {
+      Spliterator<LocalDate> cached = cache.localDates(first, size, ascending, minimumSplitSize);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    if (ascending) {
+      return new IncrementingLocalDateSpliterator(first, size, minimumSplitSize);
+    } else {
+      return new DecrementingLocalDateSpliterator(first, size, minimumSplitSize);
+    }
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of epoch days from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one day.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one day is performed instead.</p>
+   *
+   * <p>Unlike {@link #range(LocalDate, LocalDate)} no {@link LocalDate}
+   * is allocated per element, use {@link LocalDate#ofEpochDay(long)} to
+   * convert an element back.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @return a sequential {@code LongStream} for the range of epoch days
+   * @see LocalDate#toEpochDay()
+   */
+  public static LongStream epochDayRange(LocalDate startInclusive, LocalDate endExclusive) {
+    long start = startInclusive.toEpochDay();
+    long daysBetween = endExclusive.toEpochDay() - start;
+    if (daysBetween == 0L) {
+      return LongStream.empty();
+    }
+    if (daysBetween > 0L) {
+      return StreamSupport.longStream(new IncrementingEpochDaySpliterator(start, daysBetween, 1L), false);
+    } else {
+      return StreamSupport.longStream(new DecrementingEpochDaySpliterator(start, -daysBetween, 1L), false);
+    }
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of epoch days from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one day.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one day is performed instead.</p>
+   *
+   * <p>Unlike {@link #rangeClosed(LocalDate, LocalDate)} no
+   * {@link LocalDate} is allocated per element, use
+   * {@link LocalDate#ofEpochDay(long)} to convert an element back.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @return a sequential {@code LongStream} for the range of epoch days
+   * @see LocalDate#toEpochDay()
+   */
+  public static LongStream epochDayRangeClosed(LocalDate startInclusive, LocalDate endInclusive) {
+    long start = startInclusive.toEpochDay();
+    long daysBetween = endInclusive.toEpochDay() - start;
+    if (daysBetween >= 0L) {
+      return StreamSupport.longStream(new IncrementingEpochDaySpliterator(start, daysBetween + 1L, 1L), false);
+    } else {
+      return StreamSupport.longStream(new DecrementingEpochDaySpliterator(start, -daysBetween + 1L, 1L), false);
+    }
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<LocalDateRange>} of consecutive
+   * ranges of {@code chunkSize} days from {@code startInclusive}
+   * (inclusive) to {@code endExclusive} (exclusive).
+   *
+   * <p>The last range is shorter if the number of days is not a
+   * multiple of {@code chunkSize}. The ranges are computed arithmetically,
+   * no {@link LocalDate} is allocated for the days inside a range.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param chunkSize the number of days per range, positive
+   * @return a sequential {@code Stream} of ranges
+   * @throws IllegalArgumentException if {@code chunkSize} is not positive
+   *         or {@code endExclusive} is before {@code startInclusive}
+   */
+  public static Stream<LocalDateRange> chunks(LocalDate startInclusive, LocalDate endExclusive, int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive but was: " + chunkSize);
+    }
+    long start = startInclusive.toEpochDay();
+    long end = endExclusive.toEpochDay();
+    if (end < start) {
+      throw new IllegalArgumentException("endExclusive must not be before startInclusive");
+    }
+    if (end == start) {
+      return Stream.empty();
+    }
+    long chunkCount = (end - start - 1L) / chunkSize + 1L;
+    LocalDateRange first = LocalDateRange.ofEpochDays(start, Math.min(start + chunkSize, end));
+    return StreamSupport.stream(new LocalDateChunkSpliterator(first, chunkCount, 1L, chunkSize, end), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<LocalDateRange>} of windows of
+   * {@code size} days that start every {@code step} days from
+   * {@code startInclusive} (inclusive) and end at or before
+   * {@code endExclusive} (exclusive).
+   *
+   * <p>A {@code step} smaller than {@code size} gives sliding windows, a
+   * {@code step} equal to {@code size} tumbling windows. Only windows
+   * that fit completely into the range are returned. The windows are
+   * computed arithmetically from their index, the stream is sized and
+   * splits at any window.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param size the number of days per window, positive
+   * @param step the number of days between the starts of two windows, positive
+   * @return a sequential {@code Stream} of windows
+   * @throws IllegalArgumentException if {@code size} or {@code step} is
+   *         not positive or {@code endExclusive} is before {@code startInclusive}
+   */
+  public static Stream<LocalDateRange> windows(LocalDate startInclusive, LocalDate endExclusive, int size, int step) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be positive but was: " + size);
     }
+    if (step <= 0) {
+      throw new IllegalArgumentException("step must be positive but was: " + step);
+    }
+    long start = startInclusive.toEpochDay();
+    long end = endExclusive.toEpochDay();
+    if (end < start) {
+      throw new IllegalArgumentException("endExclusive must not be before startInclusive");
+    }
+    if (end - start < size) {
+      return Stream.empty();
+    }
+    long windowCount = (end - start - size) / step + 1L;
+    LocalDateRange first = LocalDateRange.ofEpochDays(start, start + size);
+    return StreamSupport.stream(new LocalDateWindowSpliterator(first, windowCount, 1L, size, step), false);
+  }
+
+  /**
+   * Length of every month in a non-leap year, index 0 is January.
+   */
+  private static final int[] MONTH_LENGTHS = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+  static int lengthOfMonth(int year, int month) {
+    if (month == 2 && isLeap(year)) {
+      return 29;
+    }
+    return MONTH_LENGTHS[month - 1];
+  }
+
+  private static boolean isLeap(int year) {
+    return ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
   }
 
   abstract static class LocalDateSpliterator extends AdvancingSpliterator<LocalDate> {
 
     // move the bridge methods here
 
-    LocalDateSpliterator(LocalDate current, long left) {
-      super(current, left);
+    LocalDateSpliterator(LocalDate current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
     }
 
   }
 
   static final class IncrementingLocalDateSpliterator extends LocalDateSpliterator {
 
-    IncrementingLocalDateSpliterator(LocalDate current, long left) {
-      super(current, left);
+    IncrementingLocalDateSpliterator(LocalDate current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
     }
 
     @Override
     Spliterator<LocalDate> newInstance(LocalDate current, long left) {
-      return new IncrementingLocalDateSpliterator(current, left);
+      return new IncrementingLocalDateSpliterator(current, left, this.minimumSplitSize);
     }
 
     @Override
     protected LocalDate advance(LocalDate current, long count) {
+      int dayOfMonth = current.getDayOfMonth();
+      if (count == 1L && dayOfMonth < 28) {
+        // avoids the epoch day round trip of plusDays
+        return LocalDate.of(current.getYear(), current.getMonthValue(), dayOfMonth + 1);
+      }
       return current.plusDays(count);
     }
 
+    @Override
+    void forEach(LocalDate first, long count, Consumer<? super LocalDate> action) {
+      int year = first.getYear();
+      int month = first.getMonthValue();
+      int day = first.getDayOfMonth();
+      int monthLength = lengthOfMonth(year, month);
+      for (long i = 0L; i < count; i++) {
+        action.accept(LocalDate.of(year, month, day));
+        if (day < monthLength) {
+          day += 1;
+        } else {
+          day = 1;
+          if (month < 12) {
+            month += 1;
+          } else {
+            month = 1;
+            year += 1;
+          }
+          monthLength = lengthOfMonth(year, month);
+        }
+      }
+    }
+
+    @Override
+    public int characteristics() {
+      return super.characteristics() | SORTED;
+    }
+
+    @Override
+    public Comparator<? super LocalDate> getComparator() {
+      // natural order
+      return null;
+    }
+
   }
 
   static final class DecrementingLocalDateSpliterator extends LocalDateSpliterator {
 
-    DecrementingLocalDateSpliterator(LocalDate current, long left) {
-      super(current, left);
+    DecrementingLocalDateSpliterator(LocalDate current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
     }
 
     @Override
     Spliterator<LocalDate> newInstance(LocalDate current, long left) {
-      return new DecrementingLocalDateSpliterator(current, left);
+      return new DecrementingLocalDateSpliterator(current, left, this.minimumSplitSize);
     }
 
     @Override
     protected LocalDate advance(LocalDate current, long count) {
+      int dayOfMonth = current.getDayOfMonth();
+      if (count == 1L && dayOfMonth > 1) {
+        // avoids the epoch day round trip of minusDays
+        return LocalDate.of(current.getYear(), current.getMonthValue(), dayOfMonth - 1);
+      }
       return current.minusDays(count);
     }
 
+    @Override
+    void forEach(LocalDate first, long count, Consumer<? super LocalDate> action) {
+      int year = first.getYear();
+      int month = first.getMonthValue();
+      int day = first.getDayOfMonth();
+      for (long i = 0L; i < count; i++) {
+        action.accept(LocalDate.of(year, month, day));
+        if (day > 1) {
+          day -= 1;
+        } else {
+          if (month > 1) {
+            month -= 1;
+          } else {
+            month = 12;
+            year -= 1;
+          }
+          day = lengthOfMonth(year, month);
+        }
+      }
+    }
+
+  }
+
+  static final class IncrementingEpochDaySpliterator extends AdvancingLongSpliterator {
+
+    IncrementingEpochDaySpliterator(long current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
+    }
+
+    @Override
+    Spliterator.OfLong newInstance(long current, long left) {
+      return new IncrementingEpochDaySpliterator(current, left, this.minimumSplitSize);
+    }
+
+    @Override
+    long advance(long current, long count) {
+      return current + count;
+    }
+
+    @Override
+    public int characteristics() {
+      return super.characteristics() | SORTED;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      // natural order
+      return null;
+    }
+
+  }
+
+  static final class DecrementingEpochDaySpliterator extends AdvancingLongSpliterator {
+
+    DecrementingEpochDaySpliterator(long current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
+    }
+
+    @Override
+    Spliterator.OfLong newInstance(long current, long left) {
+      return new DecrementingEpochDaySpliterator(current, left, this.minimumSplitSize);
+    }
+
+    @Override
+    long advance(long current, long count) {
+      return current - count;
+    }
+
+  }
+
+  static final class LocalDateChunkSpliterator extends AdvancingSpliterator<LocalDateRange> {
+
+    private final int chunkSize;
+    private final long end;
+
+    LocalDateChunkSpliterator(LocalDateRange current, long left, long minimumSplitSize, int chunkSize, long end) {
+      super(current, left, minimumSplitSize);
+      this.chunkSize = chunkSize;
+      this.end = end;
+    }
+
+    @Override
+    Spliterator<LocalDateRange> newInstance(LocalDateRange current, long left) {
+      return new LocalDateChunkSpliterator(current, left, this.minimumSplitSize, this.chunkSize, this.end);
+    }
+
+    @Override
+    LocalDateRange advance(LocalDateRange current, long count) {
+      // clamp to an empty range at the end when advancing past the last range
+      long start = Math.min(current.getStartEpochDay() + count * this.chunkSize, this.end);
+      return LocalDateRange.ofEpochDays(start, Math.min(start + this.chunkSize, this.end));
+    }
+
+  }
+
+  static final class LocalDateWindowSpliterator extends AdvancingSpliterator<LocalDateRange> {
+
+    private final int size;
+    private final int step;
+
+    LocalDateWindowSpliterator(LocalDateRange current, long left, long minimumSplitSize, int size, int step) {
+      super(current, left, minimumSplitSize);
+      this.size = size;
+      this.step = step;
+    }
+
+    @Override
+    Spliterator<LocalDateRange> newInstance(LocalDateRange current, long left) {
+      return new LocalDateWindowSpliterator(current, left, this.minimumSplitSize, this.size, this.step);
+    }
+
+    @Override
+    LocalDateRange advance(LocalDateRange current, long count) {
+      // count never exceeds the remaining windows plus one so this does not overflow
+      long start = current.getStartEpochDay() + count * this.step;
+      return LocalDateRange.ofEpochDays(start, start + this.size);
+    }
+
   }
 
 }
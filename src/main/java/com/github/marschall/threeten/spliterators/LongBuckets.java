@@ -0,0 +1,99 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.BitSet;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Mutable dense array of {@code long} values indexed by the offset of a
+ * key like an epoch day or a proleptic month from the first key.
+ *
+ * <p>Used as the accumulation type of the bucket collectors, not thread
+ * safe.</p>
+ */
+final class LongBuckets {
+
+  private final long firstKey;
+  private final long[] values;
+  /**
+   * Buckets that had at least one value accumulated.
+   */
+  private final BitSet present;
+  private final LongBinaryOperator operator;
+
+  LongBuckets(long firstKey, long endKey, LongBinaryOperator operator) {
+    this.firstKey = firstKey;
+    this.values = new long[checkSize(firstKey, endKey)];
+    this.present = new BitSet(this.values.length);
+    this.operator = operator;
+  }
+
+  static int checkSize(long firstKey, long endKey) {
+    long size = endKey - firstKey;
+    if (size > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("range too large for buckets: " + size);
+    }
+    return (int) size;
+  }
+
+  private int index(long key) {
+    long index = key - this.firstKey;
+    if (index < 0L || index >= this.values.length) {
+      throw new IllegalArgumentException("key outside of range");
+    }
+    return (int) index;
+  }
+
+  void accumulate(long key, long value) {
+    int index = this.index(key);
+    if (this.present.get(index)) {
+      this.values[index] = this.operator.applyAsLong(this.values[index], value);
+    } else {
+      this.values[index] = value;
+      this.present.set(index);
+    }
+  }
+
+  LongBuckets combine(LongBuckets other) {
+    for (int i = other.present.nextSetBit(0); i >= 0; i = other.present.nextSetBit(i + 1)) {
+      if (this.present.get(i)) {
+        this.values[i] = this.operator.applyAsLong(this.values[i], other.values[i]);
+      } else {
+        this.values[i] = other.values[i];
+      }
+    }
+    this.present.or(other.present);
+    return this;
+  }
+
+  long get(long key) {
+    return this.values[this.index(key)];
+  }
+
+  boolean isPresent(long key) {
+    return this.present.get(this.index(key));
+  }
+
+  int size() {
+    return this.values.length;
+  }
+
+  long firstKey() {
+    return this.firstKey;
+  }
+
+  long valueAt(int index) {
+    return this.values[index];
+  }
+
+  /**
+   * Returns the index of the next non-empty bucket, {@code -1} if there is none.
+   */
+  int nextPresent(int index) {
+    return this.present.nextSetBit(index);
+  }
+
+  long[] toArray() {
+    return this.values.clone();
+  }
+
+}
@@ -0,0 +1,307 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Factory methods for streams over the cartesian product of a range and
+ * a list of keys or of two ranges.
+ *
+ * <p>Unlike {@code flatMap} the streams know their exact size, the
+ * product of the sizes, and split into tiles along whichever dimension
+ * is larger. A product of a few dates and many keys therefore splits
+ * as well as one of many dates and few keys.</p>
+ *
+ * <p>A sequential traversal visits the elements in the given
+ * {@link ProductOrder}, every tile of a parallel traversal is visited in
+ * that order too. Because tiles may be split along the minor dimension
+ * the streams are not ordered, {@code forEachOrdered} and
+ * {@code collect} of a parallel stream do not preserve the order.</p>
+ */
+public final class ProductStreams {
+
+  private ProductStreams() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * The order in which a product is traversed.
+   */
+  public enum ProductOrder {
+
+    /**
+     * The first dimension changes slowest, for example all keys of a
+     * date before the next date.
+     */
+    FIRST_MAJOR,
+
+    /**
+     * The second dimension changes slowest, for example all dates of a
+     * key before the next key.
+     */
+    SECOND_MAJOR
+
+  }
+
+  /**
+   * Returns a sequential stream over every combination of a day in
+   * {@code dates} and a key in {@code keys}.
+   *
+   * @param <K> the type of the keys
+   * @param <R> the type of the elements
+   * @param dates the days, not {@code null}
+   * @param keys the keys, copied, not {@code null}
+   * @param order the traversal order, not {@code null}
+   * @param combiner creates an element from a day and a key, not {@code null}
+   * @return a sequential {@code Stream} over the product
+   * @throws IllegalArgumentException if the size of the product exceeds {@link Long#MAX_VALUE}
+   */
+  public static <K, R> Stream<R> product(LocalDateRange dates, List<? extends K> keys, ProductOrder order,
+          BiFunction<? super LocalDate, ? super K, ? extends R> combiner) {
+    return product(dates.size(), days(dates), keys.size(), keys(keys), order, combiner);
+  }
+
+  /**
+   * Returns a sequential stream over every combination of a month in
+   * {@code months} and a key in {@code keys}.
+   *
+   * @param <K> the type of the keys
+   * @param <R> the type of the elements
+   * @param months the months, not {@code null}
+   * @param keys the keys, copied, not {@code null}
+   * @param order the traversal order, not {@code null}
+   * @param combiner creates an element from a month and a key, not {@code null}
+   * @return a sequential {@code Stream} over the product
+   * @throws IllegalArgumentException if the size of the product exceeds {@link Long#MAX_VALUE}
+   */
+  public static <K, R> Stream<R> product(YearMonthRange months, List<? extends K> keys, ProductOrder order,
+          BiFunction<? super YearMonth, ? super K, ? extends R> combiner) {
+    return product(months.size(), months(months), keys.size(), keys(keys), order, combiner);
+  }
+
+  /**
+   * Returns a sequential stream over every combination of a day in
+   * {@code first} and a day in {@code second}.
+   *
+   * @param <R> the type of the elements
+   * @param first the days of the first dimension, not {@code null}
+   * @param second the days of the second dimension, not {@code null}
+   * @param order the traversal order, not {@code null}
+   * @param combiner creates an element from two days, not {@code null}
+   * @return a sequential {@code Stream} over the product
+   * @throws IllegalArgumentException if the size of the product exceeds {@link Long#MAX_VALUE}
+   */
+  public static <R> Stream<R> product(LocalDateRange first, LocalDateRange second, ProductOrder order,
+          BiFunction<? super LocalDate, ? super LocalDate, ? extends R> combiner) {
+    return product(first.size(), days(first), second.size(), days(second), order, combiner);
+  }
+
+  /**
+   * Returns a sequential stream over every combination of a month in
+   * {@code first} and a month in {@code second}.
+   *
+   * @param <R> the type of the elements
+   * @param first the months of the first dimension, not {@code null}
+   * @param second the months of the second dimension, not {@code null}
+   * @param order the traversal order, not {@code null}
+   * @param combiner creates an element from two months, not {@code null}
+   * @return a sequential {@code Stream} over the product
+   * @throws IllegalArgumentException if the size of the product exceeds {@link Long#MAX_VALUE}
+   */
+  public static <R> Stream<R> product(YearMonthRange first, YearMonthRange second, ProductOrder order,
+          BiFunction<? super YearMonth, ? super YearMonth, ? extends R> combiner) {
+    return product(first.size(), months(first), second.size(), months(second), order, combiner);
+  }
+
+  private static LongFunction<LocalDate> days(LocalDateRange range) {
+    long start = range.getStartEpochDay();
+    return index -> LocalDate.ofEpochDay(start + index);
+  }
+
+  private static LongFunction<YearMonth> months(YearMonthRange range) {
+    long start = range.getStartProlepticMonth();
+    return index -> YearMonthRange.toYearMonth(start + index);
+  }
+
+  private static <K> LongFunction<K> keys(List<? extends K> keys) {
+    List<K> copy = new ArrayList<>(keys);
+    return index -> copy.get((int) index);
+  }
+
+  private static <A, B, R> Stream<R> product(long firstSize, LongFunction<? extends A> first,
+          long secondSize, LongFunction<? extends B> second, ProductOrder order,
+          BiFunction<? super A, ? super B, ? extends R> combiner) {
+    Objects.requireNonNull(order, "order");
+    Objects.requireNonNull(combiner, "combiner");
+    try {
+      Math.multiplyExact(firstSize, secondSize);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("product of " + firstSize + " and " + secondSize + " elements is too large", e);
+    }
+    Spliterator<R> spliterator;
+    if (order == ProductOrder.FIRST_MAJOR) {
+      spliterator = new ProductSpliterator<>(first, second, combiner, 0L, firstSize, 0L, secondSize);
+    } else {
+      BiFunction<B, A, R> swapped = (b, a) -> combiner.apply(a, b);
+      spliterator = new ProductSpliterator<>(second, first, swapped, 0L, secondSize, 0L, firstSize);
+    }
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  /**
+   * A spliterator over a tile of a product, the minor dimension changes
+   * fastest.
+   *
+   * @param <M> the type of the major dimension
+   * @param <N> the type of the minor dimension
+   * @param <R> the type of the elements
+   */
+  static final class ProductSpliterator<M, N, R> implements Spliterator<R> {
+
+    private static final int CHARACTERISTIS = SIZED | SUBSIZED | IMMUTABLE;
+
+    private final LongFunction<? extends M> majors;
+    private final LongFunction<? extends N> minors;
+    private final BiFunction<? super M, ? super N, ? extends R> combiner;
+
+    /**
+     * Major index of the next element.
+     */
+    private long major;
+    private long majorFence;
+    /**
+     * Minor index of the first element of every line after the current one.
+     */
+    private long minorOrigin;
+    /**
+     * Minor index of the next element.
+     */
+    private long minor;
+    private final long minorFence;
+
+    ProductSpliterator(LongFunction<? extends M> majors, LongFunction<? extends N> minors,
+            BiFunction<? super M, ? super N, ? extends R> combiner,
+            long major, long majorFence, long minorOrigin, long minorFence) {
+      this.majors = majors;
+      this.minors = minors;
+      this.combiner = combiner;
+      this.major = major;
+      this.majorFence = majorFence;
+      this.minorOrigin = minorOrigin;
+      this.minor = minorOrigin;
+      this.minorFence = minorFence;
+    }
+
+    private ProductSpliterator<M, N, R> newInstance(long major, long majorFence, long minorOrigin, long minorFence) {
+      return new ProductSpliterator<>(this.majors, this.minors, this.combiner, major, majorFence, minorOrigin, minorFence);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+      if (this.major >= this.majorFence || this.minorOrigin >= this.minorFence) {
+        return false;
+      }
+      action.accept(this.combiner.apply(this.majors.apply(this.major), this.minors.apply(this.minor)));
+      this.minor += 1L;
+      if (this.minor == this.minorFence) {
+        this.major += 1L;
+        this.minor = this.minorOrigin;
+      }
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+      if (this.minorOrigin >= this.minorFence) {
+        // empty lines, do not create the major elements
+        this.major = this.majorFence;
+        return;
+      }
+      long majorIndex = this.major;
+      long majorEnd = this.majorFence;
+      long minorStart = this.minor;
+      long minorEnd = this.minorFence;
+      this.major = majorEnd;
+      this.minor = this.minorOrigin;
+      for (; majorIndex < majorEnd; majorIndex++) {
+        // one major element per line
+        M majorElement = this.majors.apply(majorIndex);
+        for (long minorIndex = minorStart; minorIndex < minorEnd; minorIndex++) {
+          action.accept(this.combiner.apply(majorElement, this.minors.apply(minorIndex)));
+        }
+        minorStart = this.minorOrigin;
+      }
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+      long lines = this.majorFence - this.major;
+      long lineLength = this.minorFence - this.minorOrigin;
+      if (lines <= 0L || lineLength <= 0L) {
+        return null;
+      }
+      if (this.minor == this.minorOrigin) {
+        // current line untouched, split along the larger dimension
+        if (lines >= lineLength) {
+          if (lines < 2L) {
+            return null;
+          }
+          long middle = this.major + lines / 2L;
+          Spliterator<R> prefix = this.newInstance(this.major, middle, this.minorOrigin, this.minorFence);
+          this.major = middle;
+          return prefix;
+        } else {
+          long middle = this.minorOrigin + lineLength / 2L;
+          Spliterator<R> prefix = this.newInstance(this.major, this.majorFence, this.minorOrigin, middle);
+          this.minorOrigin = middle;
+          this.minor = middle;
+          return prefix;
+        }
+      }
+      long fullLines = lines - 1L;
+      if (fullLines > 0L) {
+        // hand out the later half of the lines after the current one
+        long middle = this.majorFence - (fullLines + 1L) / 2L;
+        Spliterator<R> suffix = this.newInstance(middle, this.majorFence, this.minorOrigin, this.minorFence);
+        this.majorFence = middle;
+        return suffix;
+      }
+      // only the rest of the current line is left
+      long rest = this.minorFence - this.minor;
+      if (rest < 2L) {
+        return null;
+      }
+      long middle = this.minor + rest / 2L;
+      Spliterator<R> prefix = this.newInstance(this.major, this.majorFence, this.minor, middle);
+      this.minorOrigin = middle;
+      this.minor = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      long lines = this.majorFence - this.major;
+      if (lines <= 0L) {
+        return 0L;
+      }
+      long lineLength = this.minorFence - this.minorOrigin;
+      return (lines - 1L) * lineLength + (this.minorFence - this.minor);
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTIS;
+    }
+
+  }
+
+}
@@ -0,0 +1,264 @@
+package com.github.marschall.threeten.spliterators;
+
+import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * A quarter of a fiscal year starting in a given month, for example the
+ * first quarter of the fiscal year 2018 starting in October 2017.
+ *
+ * <p>A fiscal year is named after the calendar year in which it ends.
+ * For fiscal years starting in January this is the calendar year.</p>
+ *
+ * <p>Only the proleptic month of the first month of the quarter is
+ * stored. Every quarter has an index, the number of quarters since the
+ * quarter containing the proleptic month {@code 0}. Quarters can be
+ * created from their index without allocating anything else, see
+ * {@link QuarterStreams#indexRange(Quarter, Quarter)}.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class Quarter implements Comparable<Quarter> {
+
+  private final long firstProlepticMonth;
+  private final Month fiscalYearStart;
+
+  private Quarter(long firstProlepticMonth, Month fiscalYearStart) {
+    this.firstProlepticMonth = firstProlepticMonth;
+    this.fiscalYearStart = fiscalYearStart;
+  }
+
+  /**
+   * Obtains a quarter of a fiscal year.
+   *
+   * @param fiscalYear the fiscal year, named after the calendar year in which it ends
+   * @param quarter the quarter of the fiscal year, from 1 to 4
+   * @param fiscalYearStart the first month of the fiscal year, not {@code null}
+   * @return the quarter, not {@code null}
+   * @throws IllegalArgumentException if {@code quarter} is not from 1 to 4
+   */
+  public static Quarter of(int fiscalYear, int quarter, Month fiscalYearStart) {
+    Objects.requireNonNull(fiscalYearStart, "fiscalYearStart");
+    if (quarter < 1 || quarter > 4) {
+      throw new IllegalArgumentException("quarter must be from 1 to 4 but was: " + quarter);
+    }
+    long startYear = fiscalYearStart == Month.JANUARY ? fiscalYear : fiscalYear - 1L;
+    long first = startYear * 12L + fiscalYearStart.ordinal() + (quarter - 1L) * 3L;
+    return new Quarter(first, fiscalYearStart);
+  }
+
+  /**
+   * Obtains a quarter of a calendar year.
+   *
+   * @param year the calendar year
+   * @param quarter the quarter of the year, from 1 to 4
+   * @return the quarter, not {@code null}
+   * @throws IllegalArgumentException if {@code quarter} is not from 1 to 4
+   */
+  public static Quarter of(int year, int quarter) {
+    return of(year, quarter, Month.JANUARY);
+  }
+
+  /**
+   * Obtains the quarter containing a month.
+   *
+   * @param yearMonth the month, not {@code null}
+   * @param fiscalYearStart the first month of the fiscal year, not {@code null}
+   * @return the quarter containing {@code yearMonth}, not {@code null}
+   */
+  public static Quarter from(YearMonth yearMonth, Month fiscalYearStart) {
+    long prolepticMonth = yearMonth.getLong(PROLEPTIC_MONTH);
+    return new Quarter(prolepticMonth - Math.floorMod(prolepticMonth - firstMonthOffset(fiscalYearStart), 3L), fiscalYearStart);
+  }
+
+  /**
+   * Obtains the quarter containing a date.
+   *
+   * @param date the date, not {@code null}
+   * @param fiscalYearStart the first month of the fiscal year, not {@code null}
+   * @return the quarter containing {@code date}, not {@code null}
+   */
+  public static Quarter from(LocalDate date, Month fiscalYearStart) {
+    return from(YearMonth.from(date), fiscalYearStart);
+  }
+
+  /**
+   * Obtains a quarter from its index.
+   *
+   * @param index the number of quarters since the quarter containing the
+   *              proleptic month {@code 0}
+   * @param fiscalYearStart the first month of the fiscal year, not {@code null}
+   * @return the quarter, not {@code null}
+   * @see #toIndex()
+   */
+  public static Quarter ofIndex(long index, Month fiscalYearStart) {
+    return new Quarter(index * 3L + firstMonthOffset(fiscalYearStart), fiscalYearStart);
+  }
+
+  /**
+   * Returns the proleptic month of the first month of the quarter with
+   * index {@code 0}.
+   */
+  private static long firstMonthOffset(Month fiscalYearStart) {
+    return -Math.floorMod(-fiscalYearStart.ordinal(), 3);
+  }
+
+  /**
+   * Returns the index of this quarter.
+   *
+   * @return the number of quarters since the quarter containing the
+   *         proleptic month {@code 0}
+   * @see #ofIndex(long, Month)
+   */
+  public long toIndex() {
+    return Math.floorDiv(this.firstProlepticMonth - firstMonthOffset(this.fiscalYearStart), 3L);
+  }
+
+  /**
+   * Returns the first month of the fiscal year.
+   *
+   * @return the first month of the fiscal year, not {@code null}
+   */
+  public Month getFiscalYearStart() {
+    return this.fiscalYearStart;
+  }
+
+  /**
+   * Returns the fiscal year, named after the calendar year in which it ends.
+   *
+   * @return the fiscal year
+   */
+  public int getFiscalYear() {
+    long fiscalYearStartMonth = this.firstProlepticMonth - (this.getQuarter() - 1L) * 3L;
+    long startYear = Math.floorDiv(fiscalYearStartMonth, 12L);
+    return Math.toIntExact(this.fiscalYearStart == Month.JANUARY ? startYear : startYear + 1L);
+  }
+
+  /**
+   * Returns the quarter of the fiscal year.
+   *
+   * @return the quarter of the fiscal year, from 1 to 4
+   */
+  public int getQuarter() {
+    return (int) (Math.floorMod(this.firstProlepticMonth - this.fiscalYearStart.ordinal(), 12L) / 3L) + 1;
+  }
+
+  /**
+   * Returns the first month of this quarter.
+   *
+   * @return the first month, not {@code null}
+   */
+  public YearMonth getFirstMonth() {
+    return YearMonthRange.toYearMonth(this.firstProlepticMonth);
+  }
+
+  /**
+   * Returns the last month of this quarter.
+   *
+   * @return the last month, not {@code null}
+   */
+  public YearMonth getLastMonth() {
+    return YearMonthRange.toYearMonth(this.firstProlepticMonth + 2L);
+  }
+
+  /**
+   * Returns the first day of this quarter.
+   *
+   * @return the first day, not {@code null}
+   */
+  public LocalDate getFirstDay() {
+    return this.getFirstMonth().atDay(1);
+  }
+
+  /**
+   * Returns the last day of this quarter.
+   *
+   * @return the last day, not {@code null}
+   */
+  public LocalDate getLastDay() {
+    return this.getLastMonth().atEndOfMonth();
+  }
+
+  /**
+   * Checks whether a month is in this quarter.
+   *
+   * @param yearMonth the month to check, not {@code null}
+   * @return whether {@code yearMonth} is in this quarter
+   */
+  public boolean contains(YearMonth yearMonth) {
+    long prolepticMonth = yearMonth.getLong(PROLEPTIC_MONTH);
+    return prolepticMonth >= this.firstProlepticMonth && prolepticMonth < this.firstProlepticMonth + 3L;
+  }
+
+  /**
+   * Returns the months of this quarter.
+   *
+   * @return the range of the three months of this quarter, not {@code null}
+   */
+  public YearMonthRange toYearMonthRange() {
+    return YearMonthRange.ofProlepticMonths(this.firstProlepticMonth, this.firstProlepticMonth + 3L);
+  }
+
+  /**
+   * Returns the days of this quarter.
+   *
+   * @return the range of the days of this quarter, not {@code null}
+   */
+  public LocalDateRange toLocalDateRange() {
+    return LocalDateRange.of(this.getFirstDay(), this.getLastDay().plusDays(1L));
+  }
+
+  /**
+   * Returns a quarter with the specified number of quarters added.
+   *
+   * @param quartersToAdd the quarters to add, may be negative
+   * @return the quarter with the quarters added, not {@code null}
+   */
+  public Quarter plusQuarters(long quartersToAdd) {
+    if (quartersToAdd == 0L) {
+      return this;
+    }
+    return new Quarter(this.firstProlepticMonth + quartersToAdd * 3L, this.fiscalYearStart);
+  }
+
+  @Override
+  public int compareTo(Quarter other) {
+    int comparison = Long.compare(this.firstProlepticMonth, other.firstProlepticMonth);
+    if (comparison != 0) {
+      return comparison;
+    }
+    return this.fiscalYearStart.compareTo(other.fiscalYearStart);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Quarter)) {
+      return false;
+    }
+    Quarter other = (Quarter) obj;
+    return this.firstProlepticMonth == other.firstProlepticMonth
+            && this.fiscalYearStart == other.fiscalYearStart;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.firstProlepticMonth) * 31 + this.fiscalYearStart.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    String text = this.getFiscalYear() + "-Q" + this.getQuarter();
+    if (this.fiscalYearStart == Month.JANUARY) {
+      return text;
+    }
+    return "FY" + text;
+  }
+
+}
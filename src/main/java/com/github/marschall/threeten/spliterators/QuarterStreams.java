@@ -0,0 +1,228 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.marschall.threeten.spliterators.LocalDateStreams.DecrementingEpochDaySpliterator;
+import com.github.marschall.threeten.spliterators.LocalDateStreams.IncrementingEpochDaySpliterator;
+
+/**
+ * Factory methods for sized and splittable streams over {@link Quarter}s.
+ *
+ * <p>The start and the end of a range must have the same fiscal year start.</p>
+ */
+public final class QuarterStreams {
+
+  private QuarterStreams() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Quarter>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one quarter.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one quarter is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @return a sequential {@code Stream} for the range of {@code Quarter}
+   *         elements
+   * @throws IllegalArgumentException if the quarters have different fiscal year starts
+   */
+  public static Stream<Quarter> range(Quarter startInclusive, Quarter endExclusive) {
+    return range(startInclusive, endExclusive, false, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Quarter>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one quarter.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one quarter is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @return a sequential {@code Stream} for the range of {@code Quarter}
+   *         elements
+   * @throws IllegalArgumentException if the quarters have different fiscal year starts
+   */
+  public static Stream<Quarter> rangeClosed(Quarter startInclusive, Quarter endInclusive) {
+    return range(startInclusive, endInclusive, true, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Quarter>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one quarter.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one quarter is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code Quarter}
+   *         elements
+   * @throws IllegalArgumentException if the quarters have different fiscal year starts
+   */
+  public static Stream<Quarter> parallelRange(Quarter startInclusive, Quarter endExclusive, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return range(startInclusive, endExclusive, false, options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Quarter>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one quarter.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one quarter is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code Quarter}
+   *         elements
+   * @throws IllegalArgumentException if the quarters have different fiscal year starts
+   */
+  public static Stream<Quarter> parallelRangeClosed(Quarter startInclusive, Quarter endInclusive, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return range(startInclusive, endInclusive, true, options, true);
+  }
+
+  private static Stream<Quarter> range(Quarter start, Quarter end, boolean inclusive, SplitOptions options, boolean parallel) {
+    long between = between(start, end);
+    long size = Math.abs(between) + (inclusive ? 1L : 0L);
+    if (size == 0L) {
+      return parallel ? Stream.<Quarter>empty().parallel() : Stream.empty();
+    }
+    Spliterator<Quarter> spliterator;
+    if (between >= 0L) {
+      spliterator = new IncrementingQuarterSpliterator(start, size, options.minimumSplitSize(size));
+    } else {
+      spliterator = new DecrementingQuarterSpliterator(start, size, options.minimumSplitSize(size));
+    }
+    return StreamSupport.stream(spliterator, parallel);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of quarter indices from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one quarter.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one quarter is performed instead.</p>
+   *
+   * <p>Unlike {@link #range(Quarter, Quarter)} no {@link Quarter} is allocated
+   * per element, use {@link Quarter#ofIndex(long, java.time.Month)} to convert an
+   * element back.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @return a sequential {@code LongStream} for the range of quarter indices
+   * @throws IllegalArgumentException if the quarters have different fiscal year starts
+   * @see Quarter#toIndex()
+   */
+  public static LongStream indexRange(Quarter startInclusive, Quarter endExclusive) {
+    return indexRange(startInclusive, endExclusive, false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of quarter indices from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one quarter.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one quarter is performed instead.</p>
+   *
+   * <p>Unlike {@link #rangeClosed(Quarter, Quarter)} no {@link Quarter} is
+   * allocated per element, use {@link Quarter#ofIndex(long, java.time.Month)} to
+   * convert an element back.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @return a sequential {@code LongStream} for the range of quarter indices
+   * @throws IllegalArgumentException if the quarters have different fiscal year starts
+   * @see Quarter#toIndex()
+   */
+  public static LongStream indexRangeClosed(Quarter startInclusive, Quarter endInclusive) {
+    return indexRange(startInclusive, endInclusive, true);
+  }
+
+  private static LongStream indexRange(Quarter start, Quarter end, boolean inclusive) {
+    long between = between(start, end);
+    long size = Math.abs(between) + (inclusive ? 1L : 0L);
+    if (size == 0L) {
+      return LongStream.empty();
+    }
+    // the epoch day spliterators step by one
+    if (between >= 0L) {
+      return StreamSupport.longStream(new IncrementingEpochDaySpliterator(start.toIndex(), size, 1L), false);
+    } else {
+      return StreamSupport.longStream(new DecrementingEpochDaySpliterator(start.toIndex(), size, 1L), false);
+    }
+  }
+
+  private static long between(Quarter start, Quarter end) {
+    if (!start.getFiscalYearStart().equals(end.getFiscalYearStart())) {
+      throw new IllegalArgumentException("start and end must have the same fiscal year start but were: "
+              + start.getFiscalYearStart() + " and " + end.getFiscalYearStart());
+    }
+    return end.toIndex() - start.toIndex();
+  }
+
+  static final class IncrementingQuarterSpliterator extends AdvancingSpliterator<Quarter> {
+
+    IncrementingQuarterSpliterator(Quarter current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
+    }
+
+    @Override
+    Spliterator<Quarter> newInstance(Quarter current, long left) {
+      return new IncrementingQuarterSpliterator(current, left, this.minimumSplitSize);
+    }
+
+    @Override
+    Quarter advance(Quarter current, long count) {
+      return current.plusQuarters(count);
+    }
+
+    @Override
+    public int characteristics() {
+      return super.characteristics() | SORTED;
+    }
+
+    @Override
+    public Comparator<? super Quarter> getComparator() {
+      // natural order
+      return null;
+    }
+
+  }
+
+  static final class DecrementingQuarterSpliterator extends AdvancingSpliterator<Quarter> {
+
+    DecrementingQuarterSpliterator(Quarter current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
+    }
+
+    @Override
+    Spliterator<Quarter> newInstance(Quarter current, long left) {
+      return new DecrementingQuarterSpliterator(current, left, this.minimumSplitSize);
+    }
+
+    @Override
+    Quarter advance(Quarter current, long count) {
+      return current.plusQuarters(-count);
+    }
+
+  }
+
+}
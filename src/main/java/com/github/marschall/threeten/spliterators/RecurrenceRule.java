@@ -0,0 +1,786 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A date based recurrence rule as defined by
+ * <a href="https://tools.ietf.org/html/rfc5545#section-3.3.10">RFC 5545</a>.
+ *
+ * <p>Supported are the frequencies {@code DAILY}, {@code WEEKLY},
+ * {@code MONTHLY} and {@code YEARLY} together with {@code INTERVAL},
+ * {@code COUNT}, {@code UNTIL}, {@code BYMONTH}, {@code BYMONTHDAY},
+ * {@code BYYEARDAY}, {@code BYDAY}, {@code BYSETPOS} and {@code WKST}.
+ * Time based parts and {@code BYWEEKNO} are not supported.</p>
+ *
+ * <p>Occurrences are generated one period (day, week, month or year)
+ * at a time. The streams split at period boundaries so that a single
+ * rule can be expanded in parallel. A start date that does not match
+ * the rule is not an occurrence.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class RecurrenceRule {
+
+  private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+  private final String text;
+  private final Frequency frequency;
+  private final long interval;
+  /**
+   * {@code 0} if not limited.
+   */
+  private final long count;
+  /**
+   * {@code null} if not limited.
+   */
+  private final LocalDate until;
+  /**
+   * Bit {@code n} is set for month {@code n}, {@code 0} if not present.
+   */
+  private final int byMonth;
+  private final boolean hasByMonthDay;
+  /**
+   * Bit {@code n} is set for day of month {@code n}.
+   */
+  private final long byMonthDay;
+  /**
+   * Bit {@code n} is set for day of month {@code -n}.
+   */
+  private final long byNegativeMonthDay;
+  private final boolean hasByYearDay;
+  private final BitSet byYearDay;
+  private final BitSet byNegativeYearDay;
+  private final boolean hasByDay;
+  /**
+   * Bit {@code n} is set for every {@link DayOfWeek} with value
+   * {@code n + 1} without an ordinal.
+   */
+  private final int byDay;
+  /**
+   * Bit {@code n} of element {@code d} is set for the {@code n}th day of
+   * week {@code d + 1}.
+   */
+  private final long[] byDayOrdinal;
+  private final long[] byDayNegativeOrdinal;
+  private final int[] bySetPos;
+  private final DayOfWeek weekStart;
+
+  private RecurrenceRule(Builder builder) {
+    this.text = builder.text;
+    this.frequency = builder.frequency;
+    this.interval = builder.interval;
+    this.count = builder.count;
+    this.until = builder.until;
+    this.byMonth = builder.byMonth;
+    this.hasByMonthDay = builder.hasByMonthDay;
+    this.byMonthDay = builder.byMonthDay;
+    this.byNegativeMonthDay = builder.byNegativeMonthDay;
+    this.hasByYearDay = builder.hasByYearDay;
+    this.byYearDay = builder.byYearDay;
+    this.byNegativeYearDay = builder.byNegativeYearDay;
+    this.hasByDay = builder.hasByDay;
+    this.byDay = builder.byDay;
+    this.byDayOrdinal = builder.byDayOrdinal;
+    this.byDayNegativeOrdinal = builder.byDayNegativeOrdinal;
+    this.bySetPos = builder.bySetPos;
+    this.weekStart = builder.weekStart;
+  }
+
+  /**
+   * Parses a recurrence rule like {@code FREQ=MONTHLY;BYDAY=MO,TU;BYSETPOS=-1}.
+   *
+   * <p>An optional {@code RRULE:} prefix is ignored. The time of an
+   * {@code UNTIL} date-time is ignored.</p>
+   *
+   * @param rule the rule to parse, not {@code null}
+   * @return the parsed rule, not {@code null}
+   * @throws IllegalArgumentException if {@code rule} is not a valid or
+   *         not a supported recurrence rule
+   */
+  public static RecurrenceRule parse(String rule) {
+    Objects.requireNonNull(rule, "rule");
+    String text = rule.startsWith("RRULE:") ? rule.substring("RRULE:".length()) : rule;
+    Builder builder = new Builder(text);
+    for (String part : text.split(";")) {
+      int equals = part.indexOf('=');
+      if (equals <= 0) {
+        throw new IllegalArgumentException("invalid rule part: " + part + " in: " + rule);
+      }
+      builder.set(part.substring(0, equals).toUpperCase(Locale.ROOT), part.substring(equals + 1));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a sequential ordered stream of the occurrences of this rule
+   * starting with {@code start}.
+   *
+   * <p>If the rule has neither {@code COUNT} nor {@code UNTIL} the
+   * stream ends at {@link LocalDate#MAX}.</p>
+   *
+   * @param start the start date ({@code DTSTART}) of the rule, not {@code null}
+   * @return a sequential {@code Stream} of the occurrences
+   */
+  public Stream<LocalDate> occurrences(LocalDate start) {
+    return this.occurrences(start, Collections.emptySet());
+  }
+
+  /**
+   * Returns a sequential ordered stream of the occurrences of this rule
+   * starting with {@code start} without the dates in {@code excluded}.
+   *
+   * <p>Excluded dates still count towards {@code COUNT}. If the rule has
+   * neither {@code COUNT} nor {@code UNTIL} the stream ends at
+   * {@link LocalDate#MAX}.</p>
+   *
+   * @param start the start date ({@code DTSTART}) of the rule, not {@code null}
+   * @param excluded the excluded dates ({@code EXDATE}), not {@code null}
+   * @return a sequential {@code Stream} of the occurrences
+   */
+  public Stream<LocalDate> occurrences(LocalDate start, Collection<LocalDate> excluded) {
+    Objects.requireNonNull(start, "start");
+    long[] excludedEpochDays = excluded.stream()
+            .mapToLong(LocalDate::toEpochDay)
+            .sorted()
+            .distinct()
+            .toArray();
+    Schedule schedule = new Schedule(this, start, excludedEpochDays);
+    long fence = schedule.fence();
+    return StreamSupport.stream(new OccurrenceSpliterator(schedule, 0L, fence, new long[this.frequency.maxDays], 0, 0), false);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof RecurrenceRule)) {
+      return false;
+    }
+    RecurrenceRule other = (RecurrenceRule) obj;
+    return this.text.equals(other.text);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.text.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.text;
+  }
+
+  enum Frequency {
+
+    DAILY(1, 146_097L),
+    WEEKLY(7, 20_871L),
+    MONTHLY(31, 4_800L),
+    YEARLY(366, 400L);
+
+    /**
+     * Maximum number of days in a period.
+     */
+    final int maxDays;
+
+    /**
+     * The number of periods in 400 years, after which the Gregorian
+     * calendar and therefore every rule repeats.
+     */
+    final long cycle;
+
+    Frequency(int maxDays, long cycle) {
+      this.maxDays = maxDays;
+      this.cycle = cycle;
+    }
+
+  }
+
+  /**
+   * A rule bound to a start date.
+   */
+  static final class Schedule {
+
+    private final RecurrenceRule rule;
+    private final long startEpochDay;
+    private final int startMonth;
+    private final int startDayOfMonth;
+    private final int startDayOfWeek;
+    /**
+     * Epoch day of the first day of period {@code 0} for daily and
+     * weekly rules, proleptic month for monthly rules, year for yearly
+     * rules.
+     */
+    private final long origin;
+    private final long[] excluded;
+    /**
+     * Inclusive, may be updated once by {@link #fence()} for COUNT.
+     */
+    private long untilEpochDay;
+
+    Schedule(RecurrenceRule rule, LocalDate start, long[] excluded) {
+      this.rule = rule;
+      this.startEpochDay = start.toEpochDay();
+      this.startMonth = start.getMonthValue();
+      this.startDayOfMonth = start.getDayOfMonth();
+      this.startDayOfWeek = start.getDayOfWeek().getValue();
+      this.excluded = excluded;
+      this.untilEpochDay = rule.until != null ? rule.until.toEpochDay() : MAX_EPOCH_DAY;
+      switch (rule.frequency) {
+        case DAILY:
+          this.origin = this.startEpochDay;
+          break;
+        case WEEKLY:
+          this.origin = this.startEpochDay - Math.floorMod(this.startDayOfWeek - rule.weekStart.getValue(), 7);
+          break;
+        case MONTHLY:
+          this.origin = start.getLong(ChronoField.PROLEPTIC_MONTH);
+          break;
+        case YEARLY:
+          this.origin = start.getYear();
+          break;
+        default:
+          throw new IllegalStateException("unknown frequency: " + rule.frequency);
+      }
+    }
+
+    /**
+     * Returns the index of the period containing {@code date}.
+     */
+    private long periodOf(LocalDate date) {
+      long units;
+      switch (this.rule.frequency) {
+        case DAILY:
+          units = date.toEpochDay() - this.origin;
+          break;
+        case WEEKLY:
+          units = Math.floorDiv(date.toEpochDay() - this.origin, 7L);
+          break;
+        case MONTHLY:
+          units = date.getLong(ChronoField.PROLEPTIC_MONTH) - this.origin;
+          break;
+        case YEARLY:
+          units = date.getYear() - this.origin;
+          break;
+        default:
+          throw new IllegalStateException("unknown frequency: " + this.rule.frequency);
+      }
+      return Math.floorDiv(units, this.rule.interval);
+    }
+
+    /**
+     * Returns the exclusive end of the periods that can contain
+     * occurrences.
+     */
+    long fence() {
+      if (this.untilEpochDay < this.startEpochDay) {
+        return 0L;
+      }
+      long fence = this.periodOf(LocalDate.ofEpochDay(this.untilEpochDay)) + 1L;
+      long[] buffer = new long[this.rule.frequency.maxDays];
+      if (this.rule.count > 0L) {
+        // the last occurrence can only be found by counting
+        long remaining = this.rule.count;
+        long empty = 0L;
+        for (long period = 0L; period < fence; period++) {
+          int length = this.expand(period, buffer, false);
+          if (length >= remaining) {
+            this.untilEpochDay = buffer[(int) remaining - 1];
+            return period + 1L;
+          }
+          remaining -= length;
+          empty = length == 0 ? empty + 1L : 0L;
+          if (empty > this.rule.frequency.cycle) {
+            // the rule will not produce any more occurrences
+            return period;
+          }
+        }
+        return fence;
+      }
+      for (long period = 0L; period < fence && period <= this.rule.frequency.cycle; period++) {
+        if (this.expand(period, buffer, false) > 0) {
+          return fence;
+        }
+      }
+      // the rule never produces an occurrence
+      return 0L;
+    }
+
+    /**
+     * Writes the occurrences in {@code period} in ascending order to
+     * {@code buffer} and returns how many there are.
+     */
+    int expand(long period, long[] buffer, boolean exclude) {
+      RecurrenceRule rule = this.rule;
+      long units = period * rule.interval;
+      long periodStart;
+      long periodEnd;
+      switch (rule.frequency) {
+        case DAILY:
+          periodStart = this.origin + units;
+          periodEnd = periodStart + 1L;
+          break;
+        case WEEKLY:
+          periodStart = this.origin + units * 7L;
+          periodEnd = periodStart + 7L;
+          break;
+        case MONTHLY: {
+          long prolepticMonth = this.origin + units;
+          int year = Math.toIntExact(Math.floorDiv(prolepticMonth, 12L));
+          int month = (int) Math.floorMod(prolepticMonth, 12L) + 1;
+          periodStart = LocalDate.of(year, month, 1).toEpochDay();
+          periodEnd = periodStart + LocalDateStreams.lengthOfMonth(year, month);
+          break;
+        }
+        case YEARLY: {
+          int year = Math.toIntExact(this.origin + units);
+          periodStart = LocalDate.of(year, 1, 1).toEpochDay();
+          periodEnd = periodStart + (Year.isLeap(year) ? 366L : 365L);
+          break;
+        }
+        default:
+          throw new IllegalStateException("unknown frequency: " + rule.frequency);
+      }
+      periodEnd = Math.min(periodEnd, MAX_EPOCH_DAY + 1L);
+
+      int length = 0;
+      LocalDate first = LocalDate.ofEpochDay(periodStart);
+      int year = first.getYear();
+      int month = first.getMonthValue();
+      int dayOfMonth = first.getDayOfMonth();
+      int monthLength = LocalDateStreams.lengthOfMonth(year, month);
+      int dayOfYear = first.getDayOfYear();
+      int yearLength = Year.isLeap(year) ? 366 : 365;
+      int dayOfWeek = first.getDayOfWeek().getValue();
+      for (long epochDay = periodStart; epochDay < periodEnd; epochDay++) {
+        if (this.matches(month, dayOfMonth, monthLength, dayOfYear, yearLength, dayOfWeek)) {
+          buffer[length++] = epochDay;
+        }
+        dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+        dayOfYear += 1;
+        if (dayOfMonth < monthLength) {
+          dayOfMonth += 1;
+        } else {
+          dayOfMonth = 1;
+          if (month < 12) {
+            month += 1;
+          } else {
+            month = 1;
+            year += 1;
+            dayOfYear = 1;
+            yearLength = Year.isLeap(year) ? 366 : 365;
+          }
+          monthLength = LocalDateStreams.lengthOfMonth(year, month);
+        }
+      }
+      if (rule.bySetPos.length > 0) {
+        length = this.selectPositions(buffer, length);
+      }
+      // only keep occurrences in [start, until] that are not excluded
+      int kept = 0;
+      for (int i = 0; i < length; i++) {
+        long epochDay = buffer[i];
+        if (epochDay >= this.startEpochDay && epochDay <= this.untilEpochDay
+                && !(exclude && Arrays.binarySearch(this.excluded, epochDay) >= 0)) {
+          buffer[kept++] = epochDay;
+        }
+      }
+      return kept;
+    }
+
+    private int selectPositions(long[] buffer, int length) {
+      boolean[] selected = new boolean[length];
+      for (int position : this.rule.bySetPos) {
+        int index = position > 0 ? position - 1 : length + position;
+        if (index >= 0 && index < length) {
+          selected[index] = true;
+        }
+      }
+      int kept = 0;
+      for (int i = 0; i < length; i++) {
+        if (selected[i]) {
+          buffer[kept++] = buffer[i];
+        }
+      }
+      return kept;
+    }
+
+    private boolean matches(int month, int dayOfMonth, int monthLength, int dayOfYear, int yearLength, int dayOfWeek) {
+      RecurrenceRule rule = this.rule;
+      if (rule.byMonth != 0 && (rule.byMonth & (1 << month)) == 0) {
+        return false;
+      }
+      if (rule.hasByMonthDay
+              && (rule.byMonthDay & (1L << dayOfMonth)) == 0L
+              && (rule.byNegativeMonthDay & (1L << (monthLength - dayOfMonth + 1))) == 0L) {
+        return false;
+      }
+      if (rule.hasByYearDay
+              && !rule.byYearDay.get(dayOfYear)
+              && !rule.byNegativeYearDay.get(yearLength - dayOfYear + 1)) {
+        return false;
+      }
+      if (rule.hasByDay && (rule.byDay & (1 << (dayOfWeek - 1))) == 0) {
+        // ordinals are relative to the month for monthly rules and yearly rules with BYMONTH
+        boolean inMonth = rule.frequency == Frequency.MONTHLY || rule.byMonth != 0;
+        int ordinal = inMonth ? (dayOfMonth - 1) / 7 + 1 : (dayOfYear - 1) / 7 + 1;
+        int negativeOrdinal = inMonth ? (monthLength - dayOfMonth) / 7 + 1 : (yearLength - dayOfYear) / 7 + 1;
+        if ((rule.byDayOrdinal[dayOfWeek - 1] & (1L << ordinal)) == 0L
+                && (rule.byDayNegativeOrdinal[dayOfWeek - 1] & (1L << negativeOrdinal)) == 0L) {
+          return false;
+        }
+      }
+      // without a BYxxx rule part the missing information comes from the start
+      switch (rule.frequency) {
+        case WEEKLY:
+          return rule.hasByDay || dayOfWeek == this.startDayOfWeek;
+        case MONTHLY:
+          return rule.hasByDay || rule.hasByMonthDay || dayOfMonth == this.startDayOfMonth;
+        case YEARLY:
+          if (rule.hasByDay || rule.hasByMonthDay || rule.hasByYearDay) {
+            return true;
+          }
+          return dayOfMonth == this.startDayOfMonth && (rule.byMonth != 0 || month == this.startMonth);
+        default:
+          return true;
+      }
+    }
+
+  }
+
+  /**
+   * Expands one period at a time, splits at period boundaries.
+   */
+  static final class OccurrenceSpliterator implements Spliterator<LocalDate> {
+
+    private static final int CHARACTERISTIS = ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+
+    private final Schedule schedule;
+    /**
+     * Index of the next period to expand.
+     */
+    private long period;
+    private final long fence;
+    /**
+     * Occurrences of the last expanded period.
+     */
+    private final long[] buffer;
+    private int bufferIndex;
+    private int bufferLength;
+
+    OccurrenceSpliterator(Schedule schedule, long period, long fence, long[] buffer, int bufferIndex, int bufferLength) {
+      this.schedule = schedule;
+      this.period = period;
+      this.fence = fence;
+      this.buffer = buffer;
+      this.bufferIndex = bufferIndex;
+      this.bufferLength = bufferLength;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super LocalDate> action) {
+      while (this.bufferIndex == this.bufferLength) {
+        if (this.period >= this.fence) {
+          return false;
+        }
+        this.bufferLength = this.schedule.expand(this.period, this.buffer, true);
+        this.bufferIndex = 0;
+        this.period += 1L;
+      }
+      action.accept(LocalDate.ofEpochDay(this.buffer[this.bufferIndex++]));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super LocalDate> action) {
+      long[] values = this.buffer;
+      int index = this.bufferIndex;
+      int length = this.bufferLength;
+      long p = this.period;
+      long end = this.fence;
+      this.period = end;
+      this.bufferIndex = 0;
+      this.bufferLength = 0;
+      while (true) {
+        while (index < length) {
+          action.accept(LocalDate.ofEpochDay(values[index++]));
+        }
+        if (p >= end) {
+          return;
+        }
+        length = this.schedule.expand(p++, values, true);
+        index = 0;
+      }
+    }
+
+    @Override
+    public Spliterator<LocalDate> trySplit() {
+      long half = (this.fence - this.period) / 2L;
+      if (half == 0L) {
+        return null;
+      }
+      long middle = this.period + half;
+      // the prefix takes the rest of the current period
+      Spliterator<LocalDate> prefix = new OccurrenceSpliterator(this.schedule, this.period, middle,
+              this.buffer.clone(), this.bufferIndex, this.bufferLength);
+      this.period = middle;
+      this.bufferIndex = 0;
+      this.bufferLength = 0;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      // the number of occurrences per period is not known before expanding
+      return this.fence - this.period + this.bufferLength - this.bufferIndex;
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTIS;
+    }
+
+    @Override
+    public Comparator<? super LocalDate> getComparator() {
+      // natural order
+      return null;
+    }
+
+  }
+
+  /**
+   * Collects the rule parts during parsing.
+   */
+  static final class Builder {
+
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    final String text;
+    Frequency frequency;
+    long interval = 1L;
+    long count;
+    LocalDate until;
+    int byMonth;
+    boolean hasByMonthDay;
+    long byMonthDay;
+    long byNegativeMonthDay;
+    boolean hasByYearDay;
+    final BitSet byYearDay = new BitSet(367);
+    final BitSet byNegativeYearDay = new BitSet(367);
+    boolean hasByDay;
+    int byDay;
+    final long[] byDayOrdinal = new long[7];
+    final long[] byDayNegativeOrdinal = new long[7];
+    int[] bySetPos = new int[0];
+    DayOfWeek weekStart = DayOfWeek.MONDAY;
+
+    Builder(String text) {
+      this.text = text;
+    }
+
+    void set(String name, String value) {
+      switch (name) {
+        case "FREQ":
+          this.frequency = this.parseFrequency(value);
+          break;
+        case "INTERVAL":
+          this.interval = this.parsePositive(name, value);
+          break;
+        case "COUNT":
+          this.count = this.parsePositive(name, value);
+          break;
+        case "UNTIL":
+          this.until = this.parseUntil(value);
+          break;
+        case "BYMONTH":
+          for (String each : value.split(",")) {
+            this.byMonth |= 1 << this.parseInt(name, each, 1, 12, false);
+          }
+          break;
+        case "BYMONTHDAY":
+          this.hasByMonthDay = true;
+          for (String each : value.split(",")) {
+            int day = this.parseInt(name, each, 1, 31, true);
+            if (day > 0) {
+              this.byMonthDay |= 1L << day;
+            } else {
+              this.byNegativeMonthDay |= 1L << -day;
+            }
+          }
+          break;
+        case "BYYEARDAY":
+          this.hasByYearDay = true;
+          for (String each : value.split(",")) {
+            int day = this.parseInt(name, each, 1, 366, true);
+            if (day > 0) {
+              this.byYearDay.set(day);
+            } else {
+              this.byNegativeYearDay.set(-day);
+            }
+          }
+          break;
+        case "BYDAY":
+          this.hasByDay = true;
+          for (String each : value.split(",")) {
+            this.parseByDay(each);
+          }
+          break;
+        case "BYSETPOS":
+          this.bySetPos = Arrays.stream(value.split(","))
+                  .mapToInt((each) -> this.parseInt(name, each, 1, 366, true))
+                  .toArray();
+          break;
+        case "WKST":
+          this.weekStart = this.parseDayOfWeek(value);
+          break;
+        case "BYWEEKNO":
+        case "BYHOUR":
+        case "BYMINUTE":
+        case "BYSECOND":
+          throw new IllegalArgumentException("unsupported rule part: " + name);
+        default:
+          throw new IllegalArgumentException("unknown rule part: " + name);
+      }
+    }
+
+    RecurrenceRule build() {
+      if (this.frequency == null) {
+        throw new IllegalArgumentException("FREQ missing in: " + this.text);
+      }
+      if (this.count > 0L && this.until != null) {
+        throw new IllegalArgumentException("COUNT and UNTIL must not both be present in: " + this.text);
+      }
+      if (this.hasByYearDay && this.frequency != Frequency.YEARLY) {
+        throw new IllegalArgumentException("BYYEARDAY is only supported for YEARLY in: " + this.text);
+      }
+      if (this.hasByMonthDay && this.frequency == Frequency.WEEKLY) {
+        throw new IllegalArgumentException("BYMONTHDAY is not supported for WEEKLY in: " + this.text);
+      }
+      if (this.hasOrdinals() && this.frequency != Frequency.MONTHLY && this.frequency != Frequency.YEARLY) {
+        throw new IllegalArgumentException("BYDAY with ordinals requires MONTHLY or YEARLY in: " + this.text);
+      }
+      return new RecurrenceRule(this);
+    }
+
+    private boolean hasOrdinals() {
+      for (int i = 0; i < 7; i++) {
+        if (this.byDayOrdinal[i] != 0L || this.byDayNegativeOrdinal[i] != 0L) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private Frequency parseFrequency(String value) {
+      switch (value) {
+        case "DAILY":
+          return Frequency.DAILY;
+        case "WEEKLY":
+          return Frequency.WEEKLY;
+        case "MONTHLY":
+          return Frequency.MONTHLY;
+        case "YEARLY":
+          return Frequency.YEARLY;
+        case "SECONDLY":
+        case "MINUTELY":
+        case "HOURLY":
+          throw new IllegalArgumentException("unsupported frequency: " + value);
+        default:
+          throw new IllegalArgumentException("unknown frequency: " + value);
+      }
+    }
+
+    private LocalDate parseUntil(String value) {
+      // a date-time like 20171231T235959Z is truncated to its date
+      String date = value.length() > 8 ? value.substring(0, 8) : value;
+      try {
+        return LocalDate.parse(date, UNTIL_FORMAT);
+      } catch (DateTimeParseException e) {
+        throw new IllegalArgumentException("invalid UNTIL: " + value, e);
+      }
+    }
+
+    private long parsePositive(String name, String value) {
+      long parsed;
+      try {
+        parsed = Long.parseLong(value);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("invalid " + name + ": " + value, e);
+      }
+      if (parsed <= 0L) {
+        throw new IllegalArgumentException(name + " must be positive but was: " + value);
+      }
+      return parsed;
+    }
+
+    private int parseInt(String name, String value, int min, int max, boolean negativeAllowed) {
+      int parsed;
+      try {
+        parsed = Integer.parseInt(value.startsWith("+") ? value.substring(1) : value);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("invalid " + name + ": " + value, e);
+      }
+      int absolute = Math.abs(parsed);
+      if (absolute < min || absolute > max || (parsed < 0 && !negativeAllowed)) {
+        throw new IllegalArgumentException("invalid " + name + ": " + value);
+      }
+      return parsed;
+    }
+
+    private void parseByDay(String value) {
+      if (value.length() < 2) {
+        throw new IllegalArgumentException("invalid BYDAY: " + value);
+      }
+      int dayIndex = this.parseDayOfWeek(value.substring(value.length() - 2)).getValue() - 1;
+      if (value.length() == 2) {
+        this.byDay |= 1 << dayIndex;
+        return;
+      }
+      int ordinal = this.parseInt("BYDAY", value.substring(0, value.length() - 2), 1, 53, true);
+      if (ordinal > 0) {
+        this.byDayOrdinal[dayIndex] |= 1L << ordinal;
+      } else {
+        this.byDayNegativeOrdinal[dayIndex] |= 1L << -ordinal;
+      }
+    }
+
+    private DayOfWeek parseDayOfWeek(String value) {
+      switch (value) {
+        case "MO":
+          return DayOfWeek.MONDAY;
+        case "TU":
+          return DayOfWeek.TUESDAY;
+        case "WE":
+          return DayOfWeek.WEDNESDAY;
+        case "TH":
+          return DayOfWeek.THURSDAY;
+        case "FR":
+          return DayOfWeek.FRIDAY;
+        case "SA":
+          return DayOfWeek.SATURDAY;
+        case "SU":
+          return DayOfWeek.SUNDAY;
+        default:
+          throw new IllegalArgumentException("invalid day of week: " + value);
+      }
+    }
+
+  }
+
+}
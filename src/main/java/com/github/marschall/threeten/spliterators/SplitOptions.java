@@ -0,0 +1,108 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.Spliterator;
+
+/**
+ * Controls how fine grained the {@link Spliterator}s backing parallel
+ * streams split.
+ *
+ * <p>By default a range is split down to single elements. For cheap
+ * elements like dates this creates many more fork join tasks than are
+ * useful. Setting a minimum chunk size or a target parallelism stops
+ * splitting at a coarser grain.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class SplitOptions {
+
+  private static final SplitOptions DEFAULTS = new SplitOptions(1L, 0);
+
+  private final long minimumChunkSize;
+  private final int targetParallelism;
+
+  private SplitOptions(long minimumChunkSize, int targetParallelism) {
+    this.minimumChunkSize = minimumChunkSize;
+    this.targetParallelism = targetParallelism;
+  }
+
+  /**
+   * Returns options that split down to single elements.
+   *
+   * @return the default options, not {@code null}
+   */
+  public static SplitOptions defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * Returns options that never split a range into parts with fewer than
+   * {@code minimumChunkSize} elements.
+   *
+   * @param minimumChunkSize the minimum number of elements of a split part
+   * @return the options, not {@code null}
+   * @throws IllegalArgumentException if {@code minimumChunkSize} is not positive
+   */
+  public static SplitOptions minimumChunkSize(long minimumChunkSize) {
+    if (minimumChunkSize <= 0L) {
+      throw new IllegalArgumentException("minimumChunkSize must be positive but was: " + minimumChunkSize);
+    }
+    return new SplitOptions(minimumChunkSize, 0);
+  }
+
+  /**
+   * Returns options that additionally stop splitting once the range
+   * is split into about {@code targetParallelism} parts.
+   *
+   * @param targetParallelism the number of parts to aim for, for example
+   *                          {@link java.util.concurrent.ForkJoinPool#getCommonPoolParallelism()}
+   * @return the options, not {@code null}
+   * @throws IllegalArgumentException if {@code targetParallelism} is not positive
+   */
+  public SplitOptions withTargetParallelism(int targetParallelism) {
+    if (targetParallelism <= 0) {
+      throw new IllegalArgumentException("targetParallelism must be positive but was: " + targetParallelism);
+    }
+    return new SplitOptions(this.minimumChunkSize, targetParallelism);
+  }
+
+  /**
+   * Returns the minimum number of elements of a split part.
+   *
+   * @return the minimum number of elements of a split part, positive
+   */
+  public long getMinimumChunkSize() {
+    return this.minimumChunkSize;
+  }
+
+  /**
+   * Returns the number of parts to aim for.
+   *
+   * @return the number of parts to aim for, {@code 0} if not set
+   */
+  public int getTargetParallelism() {
+    return this.targetParallelism;
+  }
+
+  /**
+   * Computes the minimum size of a split part for a range.
+   *
+   * @param size the size of the whole range
+   * @return the minimum size of a split part, positive
+   */
+  long minimumSplitSize(long size) {
+    if (this.targetParallelism == 0) {
+      return this.minimumChunkSize;
+    }
+    long perPart = size / this.targetParallelism;
+    if (size % this.targetParallelism != 0L) {
+      perPart += 1L;
+    }
+    return Math.max(this.minimumChunkSize, perPart);
+  }
+
+  @Override
+  public String toString() {
+    return "SplitOptions[minimumChunkSize=" + this.minimumChunkSize + ", targetParallelism=" + this.targetParallelism + ']';
+  }
+
+}
@@ -0,0 +1,430 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Collects metrics about how a stream was split and traversed.
+ *
+ * <p>Instrumentation is opt-in, only streams and spliterators passed
+ * to one of the {@code instrument} methods are measured. All other
+ * streams are unaffected and do not pay for it.</p>
+ *
+ * <pre><code>
+ * SpliteratorMetrics metrics = new SpliteratorMetrics();
+ * metrics.instrument(LocalDateStreams.parallelRange(start, end, options))
+ *   .forEach((localDate) -&gt; {
+ *     // body
+ *   });
+ * System.out.println(metrics);
+ * </code></pre>
+ *
+ * <p>The traversal time is measured around {@code tryAdvance} and
+ * {@code forEachRemaining} and therefore includes the downstream
+ * pipeline. Elements per thread are recorded per traversal call, a
+ * lopsided distribution shows up as few threads with many
+ * elements.</p>
+ *
+ * <p>Instances are thread safe, one instance can instrument several
+ * streams.</p>
+ */
+public final class SpliteratorMetrics {
+
+  private final LongAdder elements;
+  private final LongAdder splits;
+  private final LongAdder refusedSplits;
+  private final LongAccumulator maximumSplitDepth;
+  private final LongAdder traversalNanos;
+  private final ConcurrentHashMap<String, LongAdder> elementsPerThread;
+
+  /**
+   * Creates new metrics with all counters at zero.
+   */
+  public SpliteratorMetrics() {
+    this.elements = new LongAdder();
+    this.splits = new LongAdder();
+    this.refusedSplits = new LongAdder();
+    this.maximumSplitDepth = new LongAccumulator(Math::max, 0L);
+    this.traversalNanos = new LongAdder();
+    this.elementsPerThread = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns a stream over the same elements that records its splits
+   * and traversals in these metrics.
+   *
+   * @param <T> the type of the elements
+   * @param stream the stream to instrument, not {@code null}
+   * @return the instrumented stream, parallel if {@code stream} is parallel,
+   *         closing it closes {@code stream}
+   */
+  public <T> Stream<T> instrument(Stream<T> stream) {
+    return StreamSupport.stream(this.instrument(stream.spliterator()), stream.isParallel())
+            .onClose(stream::close);
+  }
+
+  /**
+   * Returns a stream over the same elements that records its splits
+   * and traversals in these metrics.
+   *
+   * @param stream the stream to instrument, not {@code null}
+   * @return the instrumented stream, parallel if {@code stream} is parallel,
+   *         closing it closes {@code stream}
+   */
+  public LongStream instrument(LongStream stream) {
+    return StreamSupport.longStream(this.instrument(stream.spliterator()), stream.isParallel())
+            .onClose(stream::close);
+  }
+
+  /**
+   * Returns a stream over the same elements that records its splits
+   * and traversals in these metrics.
+   *
+   * @param stream the stream to instrument, not {@code null}
+   * @return the instrumented stream, parallel if {@code stream} is parallel,
+   *         closing it closes {@code stream}
+   */
+  public IntStream instrument(IntStream stream) {
+    return StreamSupport.intStream(this.instrument(stream.spliterator()), stream.isParallel())
+            .onClose(stream::close);
+  }
+
+  /**
+   * Returns a spliterator over the same elements that records its splits
+   * and traversals in these metrics.
+   *
+   * @param <T> the type of the elements
+   * @param spliterator the spliterator to instrument, not {@code null}
+   * @return the instrumented spliterator
+   */
+  public <T> Spliterator<T> instrument(Spliterator<T> spliterator) {
+    return new InstrumentedSpliterator<>(Objects.requireNonNull(spliterator, "spliterator"), this, 0);
+  }
+
+  /**
+   * Returns a spliterator over the same elements that records its splits
+   * and traversals in these metrics.
+   *
+   * @param spliterator the spliterator to instrument, not {@code null}
+   * @return the instrumented spliterator
+   */
+  public Spliterator.OfLong instrument(Spliterator.OfLong spliterator) {
+    return new InstrumentedLongSpliterator(Objects.requireNonNull(spliterator, "spliterator"), this, 0);
+  }
+
+  /**
+   * Returns a spliterator over the same elements that records its splits
+   * and traversals in these metrics.
+   *
+   * @param spliterator the spliterator to instrument, not {@code null}
+   * @return the instrumented spliterator
+   */
+  public Spliterator.OfInt instrument(Spliterator.OfInt spliterator) {
+    return new InstrumentedIntSpliterator(Objects.requireNonNull(spliterator, "spliterator"), this, 0);
+  }
+
+  /**
+   * Returns the number of elements emitted.
+   *
+   * @return the number of elements emitted
+   */
+  public long getElements() {
+    return this.elements.sum();
+  }
+
+  /**
+   * Returns the number of calls to {@code trySplit} that split.
+   *
+   * @return the number of splits
+   */
+  public long getSplits() {
+    return this.splits.sum();
+  }
+
+  /**
+   * Returns the number of calls to {@code trySplit} that returned
+   * {@code null}.
+   *
+   * @return the number of refused splits
+   */
+  public long getRefusedSplits() {
+    return this.refusedSplits.sum();
+  }
+
+  /**
+   * Returns the depth of the deepest part of the split tree, {@code 0}
+   * if no spliterator was split.
+   *
+   * @return the maximum split depth
+   */
+  public long getMaximumSplitDepth() {
+    return this.maximumSplitDepth.get();
+  }
+
+  /**
+   * Returns the time spent in {@code tryAdvance} and
+   * {@code forEachRemaining} summed over all threads.
+   *
+   * @return the traversal time in nanoseconds
+   */
+  public long getTraversalNanos() {
+    return this.traversalNanos.sum();
+  }
+
+  /**
+   * Returns the number of elements emitted per thread name.
+   *
+   * @return a snapshot of the elements per thread sorted by thread name,
+   *         not {@code null}
+   */
+  public Map<String, Long> getElementsPerThread() {
+    Map<String, Long> snapshot = new TreeMap<>();
+    this.elementsPerThread.forEach((thread, count) -> snapshot.put(thread, count.sum()));
+    return snapshot;
+  }
+
+  /**
+   * Sets all counters back to zero.
+   */
+  public void reset() {
+    this.elements.reset();
+    this.splits.reset();
+    this.refusedSplits.reset();
+    this.maximumSplitDepth.reset();
+    this.traversalNanos.reset();
+    this.elementsPerThread.clear();
+  }
+
+  void recordSplit(Object prefix, int depth) {
+    if (prefix == null) {
+      this.refusedSplits.increment();
+    } else {
+      this.splits.increment();
+      this.maximumSplitDepth.accumulate(depth);
+    }
+  }
+
+  void recordTraversal(long count, long startNanos) {
+    this.traversalNanos.add(System.nanoTime() - startNanos);
+    if (count > 0L) {
+      this.elements.add(count);
+      this.elementsPerThread.computeIfAbsent(Thread.currentThread().getName(), name -> new LongAdder()).add(count);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "SpliteratorMetrics[elements=" + this.getElements()
+            + ", splits=" + this.getSplits()
+            + ", refusedSplits=" + this.getRefusedSplits()
+            + ", maximumSplitDepth=" + this.getMaximumSplitDepth()
+            + ", traversalNanos=" + this.getTraversalNanos()
+            + ", elementsPerThread=" + this.getElementsPerThread() + ']';
+  }
+
+  /**
+   * Shared state of the instrumented spliterators.
+   *
+   * @param <S> the type of the instrumented spliterator
+   */
+  static abstract class AbstractInstrumentedSpliterator<S extends Spliterator<?>> {
+
+    final S delegate;
+    final SpliteratorMetrics metrics;
+    /**
+     * Number of splits between the instrumented root and this spliterator.
+     */
+    int depth;
+    /**
+     * Elements emitted in the current traversal call.
+     */
+    long count;
+
+    AbstractInstrumentedSpliterator(S delegate, SpliteratorMetrics metrics, int depth) {
+      this.delegate = delegate;
+      this.metrics = metrics;
+      this.depth = depth;
+    }
+
+    abstract S newInstance(S prefix, int depth);
+
+    final S split(S prefix) {
+      this.metrics.recordSplit(prefix, this.depth + 1);
+      if (prefix == null) {
+        return null;
+      }
+      this.depth += 1;
+      return this.newInstance(prefix, this.depth);
+    }
+
+    final void record(long startNanos) {
+      this.metrics.recordTraversal(this.count, startNanos);
+      this.count = 0L;
+    }
+
+    public long estimateSize() {
+      return this.delegate.estimateSize();
+    }
+
+    public long getExactSizeIfKnown() {
+      return this.delegate.getExactSizeIfKnown();
+    }
+
+    public int characteristics() {
+      return this.delegate.characteristics();
+    }
+
+  }
+
+  static final class InstrumentedSpliterator<T>
+          extends AbstractInstrumentedSpliterator<Spliterator<T>>
+          implements Spliterator<T> {
+
+    InstrumentedSpliterator(Spliterator<T> delegate, SpliteratorMetrics metrics, int depth) {
+      super(delegate, metrics, depth);
+    }
+
+    @Override
+    Spliterator<T> newInstance(Spliterator<T> prefix, int depth) {
+      return new InstrumentedSpliterator<>(prefix, this.metrics, depth);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      long start = System.nanoTime();
+      boolean advanced = this.delegate.tryAdvance(action);
+      if (advanced) {
+        this.count = 1L;
+      }
+      this.record(start);
+      return advanced;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      long start = System.nanoTime();
+      this.delegate.forEachRemaining(element -> {
+        this.count += 1L;
+        action.accept(element);
+      });
+      this.record(start);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      return this.split(this.delegate.trySplit());
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      return this.delegate.getComparator();
+    }
+
+  }
+
+  static final class InstrumentedLongSpliterator
+          extends AbstractInstrumentedSpliterator<Spliterator.OfLong>
+          implements Spliterator.OfLong {
+
+    InstrumentedLongSpliterator(Spliterator.OfLong delegate, SpliteratorMetrics metrics, int depth) {
+      super(delegate, metrics, depth);
+    }
+
+    @Override
+    Spliterator.OfLong newInstance(Spliterator.OfLong prefix, int depth) {
+      return new InstrumentedLongSpliterator(prefix, this.metrics, depth);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      long start = System.nanoTime();
+      boolean advanced = this.delegate.tryAdvance(action);
+      if (advanced) {
+        this.count = 1L;
+      }
+      this.record(start);
+      return advanced;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      long start = System.nanoTime();
+      this.delegate.forEachRemaining((long element) -> {
+        this.count += 1L;
+        action.accept(element);
+      });
+      this.record(start);
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      return this.split(this.delegate.trySplit());
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      return this.delegate.getComparator();
+    }
+
+  }
+
+  static final class InstrumentedIntSpliterator
+          extends AbstractInstrumentedSpliterator<Spliterator.OfInt>
+          implements Spliterator.OfInt {
+
+    InstrumentedIntSpliterator(Spliterator.OfInt delegate, SpliteratorMetrics metrics, int depth) {
+      super(delegate, metrics, depth);
+    }
+
+    @Override
+    Spliterator.OfInt newInstance(Spliterator.OfInt prefix, int depth) {
+      return new InstrumentedIntSpliterator(prefix, this.metrics, depth);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      long start = System.nanoTime();
+      boolean advanced = this.delegate.tryAdvance(action);
+      if (advanced) {
+        this.count = 1L;
+      }
+      this.record(start);
+      return advanced;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      long start = System.nanoTime();
+      this.delegate.forEachRemaining((int element) -> {
+        this.count += 1L;
+        action.accept(element);
+      });
+      this.record(start);
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+      return this.split(this.delegate.trySplit());
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+      return this.delegate.getComparator();
+    }
+
+  }
+
+}
@@ -0,0 +1,388 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalUnit;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Factory methods for demand driven publishers over temporal ranges.
+ *
+ * <p>The nested {@link Publisher}, {@link Subscriber} and
+ * {@link Subscription} interfaces have the same methods and contracts as
+ * the ones in {@code java.util.concurrent.Flow} and the Reactive Streams
+ * specification. They are defined here because this library only
+ * requires Java 8, adapting them is a matter of delegating every
+ * method.</p>
+ *
+ * <p>Every subscriber gets its own spliterator over the range. A call to
+ * {@link Subscription#request(long)} advances that spliterator exactly
+ * as many steps as requested, on the calling thread, so no elements are
+ * buffered for slow subscribers.</p>
+ */
+public final class TemporalPublishers {
+
+  private TemporalPublishers() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * A provider of elements to {@link Subscriber}s.
+   *
+   * @param <T> the type of the elements
+   */
+  @FunctionalInterface
+  public interface Publisher<T> {
+
+    /**
+     * Adds a subscriber, elements are only published once the subscriber
+     * requests them through its {@link Subscription}.
+     *
+     * @param subscriber the subscriber, not {@code null}
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+
+  }
+
+  /**
+   * A receiver of elements from a {@link Publisher}.
+   *
+   * @param <T> the type of the elements
+   */
+  public interface Subscriber<T> {
+
+    /**
+     * Called once before any other method.
+     *
+     * @param subscription the subscription to request elements from
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Called with the next element, never more often than requested.
+     *
+     * @param item the element
+     */
+    void onNext(T item);
+
+    /**
+     * Called if the publisher fails, no other method is called afterwards.
+     *
+     * @param throwable the failure
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called once all elements have been published, no other method is
+     * called afterwards.
+     */
+    void onComplete();
+
+  }
+
+  /**
+   * The link between a {@link Publisher} and a {@link Subscriber}.
+   */
+  public interface Subscription {
+
+    /**
+     * Requests more elements.
+     *
+     * @param n the number of additional elements, a non-positive number
+     *          signals an {@link IllegalArgumentException} to the subscriber
+     */
+    void request(long n);
+
+    /**
+     * Stops publishing elements, elements already being published may
+     * still arrive.
+     */
+    void cancel();
+
+  }
+
+  /**
+   * Returns a publisher of all days from {@code startInclusive} (inclusive)
+   * to {@code endExclusive} (exclusive).
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive upper bound
+   * @return a publisher of the days in the range
+   * @see LocalDateStreams#range(LocalDate, LocalDate)
+   */
+  public static Publisher<LocalDate> range(LocalDate startInclusive, LocalDate endExclusive) {
+    return fromSpliterators(() -> LocalDateStreams.range(startInclusive, endExclusive).spliterator());
+  }
+
+  /**
+   * Returns a publisher of all days from {@code startInclusive} (inclusive)
+   * to {@code endInclusive} (inclusive).
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive upper bound
+   * @return a publisher of the days in the range
+   * @see LocalDateStreams#rangeClosed(LocalDate, LocalDate)
+   */
+  public static Publisher<LocalDate> rangeClosed(LocalDate startInclusive, LocalDate endInclusive) {
+    return fromSpliterators(() -> LocalDateStreams.rangeClosed(startInclusive, endInclusive).spliterator());
+  }
+
+  /**
+   * Returns a publisher of all months from {@code startInclusive} (inclusive)
+   * to {@code endExclusive} (exclusive).
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive upper bound
+   * @return a publisher of the months in the range
+   * @see YearMonthStreams#range(YearMonth, YearMonth)
+   */
+  public static Publisher<YearMonth> range(YearMonth startInclusive, YearMonth endExclusive) {
+    return fromSpliterators(() -> YearMonthStreams.range(startInclusive, endExclusive).spliterator());
+  }
+
+  /**
+   * Returns a publisher of all months from {@code startInclusive} (inclusive)
+   * to {@code endInclusive} (inclusive).
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive upper bound
+   * @return a publisher of the months in the range
+   * @see YearMonthStreams#rangeClosed(YearMonth, YearMonth)
+   */
+  public static Publisher<YearMonth> rangeClosed(YearMonth startInclusive, YearMonth endInclusive) {
+    return fromSpliterators(() -> YearMonthStreams.rangeClosed(startInclusive, endInclusive).spliterator());
+  }
+
+  /**
+   * Returns a publisher from {@code startInclusive} (inclusive) to
+   * {@code endExclusive} (exclusive) by an incremental step of
+   * {@code amountToAdd} {@code unit}.
+   *
+   * @param <T> the temporal type
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive upper bound
+   * @param amountToAdd the amount of the unit to add per step
+   * @param unit the unit of the amount to add
+   * @return a publisher of the elements in the range
+   * @see TemporalStreams#range(Temporal, Temporal, long, TemporalUnit)
+   */
+  public static <T extends Temporal & Comparable<? super T>> Publisher<T> range(T startInclusive, T endExclusive, long amountToAdd, TemporalUnit unit) {
+    return fromSpliterators(() -> TemporalStreams.range(startInclusive, endExclusive, amountToAdd, unit).spliterator());
+  }
+
+  /**
+   * Returns a publisher from {@code startInclusive} (inclusive) to
+   * {@code endInclusive} (inclusive) by an incremental step of
+   * {@code amountToAdd} {@code unit}.
+   *
+   * @param <T> the temporal type
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive upper bound
+   * @param amountToAdd the amount of the unit to add per step
+   * @param unit the unit of the amount to add
+   * @return a publisher of the elements in the range
+   * @see TemporalStreams#rangeClosed(Temporal, Temporal, long, TemporalUnit)
+   */
+  public static <T extends Temporal & Comparable<? super T>> Publisher<T> rangeClosed(T startInclusive, T endInclusive, long amountToAdd, TemporalUnit unit) {
+    return fromSpliterators(() -> TemporalStreams.rangeClosed(startInclusive, endInclusive, amountToAdd, unit).spliterator());
+  }
+
+  /**
+   * Returns a publisher from {@code startInclusive} (inclusive) to
+   * {@code endExclusive} (exclusive) by an incremental step of
+   * {@code adjuster}.
+   *
+   * @param <T> the temporal type
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive upper bound
+   * @param adjuster the adjuster computing the next element
+   * @return a publisher of the elements in the range
+   * @see TemporalStreams#range(Temporal, Temporal, TemporalAdjuster)
+   */
+  public static <T extends Temporal & Comparable<? super T>> Publisher<T> range(T startInclusive, T endExclusive, TemporalAdjuster adjuster) {
+    return fromSpliterators(() -> TemporalStreams.range(startInclusive, endExclusive, adjuster).spliterator());
+  }
+
+  /**
+   * Returns a publisher from {@code startInclusive} (inclusive) to
+   * {@code endInclusive} (inclusive) by an incremental step of
+   * {@code adjuster}.
+   *
+   * @param <T> the temporal type
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive upper bound
+   * @param adjuster the adjuster computing the next element
+   * @return a publisher of the elements in the range
+   * @see TemporalStreams#rangeClosed(Temporal, Temporal, TemporalAdjuster)
+   */
+  public static <T extends Temporal & Comparable<? super T>> Publisher<T> rangeClosed(T startInclusive, T endInclusive, TemporalAdjuster adjuster) {
+    return fromSpliterators(() -> TemporalStreams.rangeClosed(startInclusive, endInclusive, adjuster).spliterator());
+  }
+
+  /**
+   * Returns a publisher that publishes the elements of a new spliterator
+   * to every subscriber.
+   *
+   * <p>The first spliterator is created immediately so that invalid
+   * arguments fail here rather than in every subscriber.</p>
+   *
+   * @param <T> the type of the elements
+   * @param spliterators creates a new spliterator for every subscriber, not {@code null}
+   * @return a publisher of the elements
+   */
+  public static <T> Publisher<T> fromSpliterators(Supplier<? extends Spliterator<T>> spliterators) {
+    Objects.requireNonNull(spliterators, "spliterators");
+    return new SpliteratorPublisher<>(spliterators, spliterators.get());
+  }
+
+  static final class SpliteratorPublisher<T> implements Publisher<T> {
+
+    private final Supplier<? extends Spliterator<T>> spliterators;
+    /**
+     * The spliterator created on construction, taken by the first subscriber.
+     */
+    private final AtomicReference<Spliterator<T>> first;
+
+    SpliteratorPublisher(Supplier<? extends Spliterator<T>> spliterators, Spliterator<T> first) {
+      this.spliterators = spliterators;
+      this.first = new AtomicReference<>(Objects.requireNonNull(first, "first"));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+      Objects.requireNonNull(subscriber, "subscriber");
+      Spliterator<T> spliterator = this.first.getAndSet(null);
+      if (spliterator == null) {
+        spliterator = this.spliterators.get();
+      }
+      SpliteratorSubscription<T> subscription = new SpliteratorSubscription<>(subscriber, spliterator);
+      subscriber.onSubscribe(subscription);
+      subscription.completeIfEmpty();
+    }
+
+  }
+
+  /**
+   * Publishes elements in a drain loop so that calls to
+   * {@link #request(long)} from within {@link Subscriber#onNext(Object)}
+   * do not recurse and signals are never concurrent.
+   */
+  static final class SpliteratorSubscription<T> implements Subscription, Consumer<T> {
+
+    private final Subscriber<? super T> subscriber;
+    private final Spliterator<T> spliterator;
+    private final AtomicLong requested;
+    /**
+     * Number of drain requests, the thread incrementing it from zero drains.
+     */
+    private final AtomicInteger work;
+    private volatile boolean cancelled;
+    private volatile Throwable invalidRequest;
+
+    SpliteratorSubscription(Subscriber<? super T> subscriber, Spliterator<T> spliterator) {
+      this.subscriber = subscriber;
+      this.spliterator = spliterator;
+      this.requested = new AtomicLong();
+      this.work = new AtomicInteger();
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0L) {
+        this.invalidRequest = new IllegalArgumentException("non-positive request: " + n);
+      } else {
+        this.requested.getAndAccumulate(n, SpliteratorSubscription::addCapped);
+      }
+      this.drain();
+    }
+
+    private static long addCapped(long current, long n) {
+      long sum = current + n;
+      return sum < 0L ? Long.MAX_VALUE : sum;
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+    }
+
+    @Override
+    public void accept(T element) {
+      this.subscriber.onNext(element);
+    }
+
+    /**
+     * Completes a known empty range without waiting for demand.
+     */
+    void completeIfEmpty() {
+      if (this.spliterator.getExactSizeIfKnown() == 0L) {
+        this.drain();
+      }
+    }
+
+    private void drain() {
+      if (this.work.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      while (true) {
+        if (this.cancelled) {
+          return;
+        }
+        Throwable error = this.invalidRequest;
+        if (error != null) {
+          this.cancelled = true;
+          this.subscriber.onError(error);
+          return;
+        }
+        long demand = this.requested.get();
+        long emitted = 0L;
+        try {
+          while (emitted != demand) {
+            if (this.cancelled) {
+              return;
+            }
+            if (!this.spliterator.tryAdvance(this)) {
+              this.complete();
+              return;
+            }
+            emitted += 1L;
+          }
+          if (this.spliterator.getExactSizeIfKnown() == 0L) {
+            this.complete();
+            return;
+          }
+        } catch (Throwable t) {
+          // failures of the source or the subscriber terminate the subscription
+          this.cancelled = true;
+          this.subscriber.onError(t);
+          return;
+        }
+        if (emitted != 0L && demand != Long.MAX_VALUE) {
+          this.requested.addAndGet(-emitted);
+        }
+        missed = this.work.addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+
+    private void complete() {
+      if (!this.cancelled) {
+        this.cancelled = true;
+        this.subscriber.onComplete();
+      }
+    }
+
+  }
+
+}
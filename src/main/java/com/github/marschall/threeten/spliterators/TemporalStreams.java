@@ -1,10 +1,24 @@
 package com.github.marschall.threeten.spliterators;
 
+import static java.time.temporal.ChronoField.INSTANT_SECONDS;
+import static java.time.temporal.ChronoField.NANO_OF_SECOND;
+
+import java.time.DateTimeException;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -13,7 +27,12 @@ import java.util.stream.StreamSupport;
  * with an arbitrary increment.
  *
  * @implNote
- * The {@link Spliterator}s backing the streams will not support splitting.
+ * The {@link Spliterator}s backing the streams with a
+ * {@link TemporalAdjuster} walk the range once when they are first
+ * split or sized, recording up to 2048 evenly spaced checkpoints where
+ * they can later be split. Sequential streams never do this. The
+ * {@link Spliterator}s backing the streams with a fixed step are sized
+ * and support splitting in constant time.
  */
 public final class TemporalStreams {
 
@@ -37,11 +56,7 @@ public final class TemporalStreams {
    *         elements
    */
   public static <T extends Temporal & Comparable<? super T>> Stream<T> range(T startInclusive, T endExclusive, TemporalAdjuster adjuster) {
-    if (startInclusive.compareTo(endExclusive) <= 0) {
-      return StreamSupport.stream(new AscendingExclusiveTemporalSpliterator<>(startInclusive, endExclusive, adjuster), false);
-    } else {
-      return StreamSupport.stream(new DescendingExclusiveTemporalSpliterator<>(startInclusive, endExclusive, adjuster), false);
-    }
+    return adjusterRange(startInclusive, endExclusive, adjuster, SplitOptions.defaults(), false);
   }
 
   /**
@@ -60,77 +75,1018 @@ public final class TemporalStreams {
    *         elements
    */
   public static <T extends Temporal & Comparable<? super T>> Stream<T> rangeClosed(T startInclusive, T endInclusive, TemporalAdjuster adjuster) {
+    return adjusterRangeClosed(startInclusive, endInclusive, adjuster, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of {@code amountToAdd} {@code unit}s is
+   * performed instead.</p>
+   *
+   * <p>The element at index {@code n} is
+   * {@code startInclusive.plus(n * amountToAdd, unit)} so that
+   * month ends are not clamped repeatedly.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, not {@code null}
+   * @param <T> the type of stream elements
+   * @return a sequential {@code Stream} for the range of {@code Temporal}
+   *         elements
+   * @throws IllegalArgumentException if {@code amountToAdd} is not positive
+   * @throws UnsupportedTemporalTypeException if {@code unit} is not
+   *         supported by {@code startInclusive}
+   * @throws ArithmeticException if the range has more than
+   *         {@link Long#MAX_VALUE} elements
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> range(T startInclusive, T endExclusive, long amountToAdd, TemporalUnit unit) {
+    return stepRange(startInclusive, endExclusive, Step.of(amountToAdd, unit), SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of {@code amountToAdd} {@code unit}s is
+   * performed instead.</p>
+   *
+   * <p>The element at index {@code n} is
+   * {@code startInclusive.plus(n * amountToAdd, unit)} so that
+   * month ends are not clamped repeatedly.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, not {@code null}
+   * @param <T> the type of stream elements
+   * @return a sequential {@code Stream} for the range of {@code Temporal}
+   *         elements
+   * @throws IllegalArgumentException if {@code amountToAdd} is not positive
+   * @throws UnsupportedTemporalTypeException if {@code unit} is not
+   *         supported by {@code startInclusive}
+   * @throws ArithmeticException if the range has more than
+   *         {@link Long#MAX_VALUE} elements
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> rangeClosed(T startInclusive, T endInclusive, long amountToAdd, TemporalUnit unit) {
+    return stepRangeClosed(startInclusive, endInclusive, Step.of(amountToAdd, unit), SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code step}.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of {@code step} is performed instead.</p>
+   *
+   * <p>The element at index {@code n} is {@code startInclusive} plus
+   * {@code n} times {@code step} so that month ends are not clamped
+   * repeatedly.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param step the size of the step, for example a {@link Period} or
+   *             a {@link java.time.Duration}, positive
+   * @param <T> the type of stream elements
+   * @return a sequential {@code Stream} for the range of {@code Temporal}
+   *         elements
+   * @throws IllegalArgumentException if {@code step} is zero or has a
+   *         negative part
+   * @throws UnsupportedTemporalTypeException if a unit of {@code step}
+   *         is not supported by {@code startInclusive}
+   * @throws ArithmeticException if the range has more than
+   *         {@link Long#MAX_VALUE} elements
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> range(T startInclusive, T endExclusive, TemporalAmount step) {
+    return stepRange(startInclusive, endExclusive, Step.of(step), SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code step}.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of {@code step} is performed instead.</p>
+   *
+   * <p>The element at index {@code n} is {@code startInclusive} plus
+   * {@code n} times {@code step} so that month ends are not clamped
+   * repeatedly.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param step the size of the step, for example a {@link Period} or
+   *             a {@link java.time.Duration}, positive
+   * @param <T> the type of stream elements
+   * @return a sequential {@code Stream} for the range of {@code Temporal}
+   *         elements
+   * @throws IllegalArgumentException if {@code step} is zero or has a
+   *         negative part
+   * @throws UnsupportedTemporalTypeException if a unit of {@code step}
+   *         is not supported by {@code startInclusive}
+   * @throws ArithmeticException if the range has more than
+   *         {@link Long#MAX_VALUE} elements
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> rangeClosed(T startInclusive, T endInclusive, TemporalAmount step) {
+    return stepRangeClosed(startInclusive, endInclusive, Step.of(step), SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental given by {@code adjuster}.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step given by {@code adjuster} is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param adjuster creates the values in the stream
+   * @param options how fine grained the range is split
+   * @param <T> the type of stream elements
+   * @return a parallel {@code Stream} for the range of {@code Temporal}
+   *         elements
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> parallelRange(T startInclusive, T endExclusive, TemporalAdjuster adjuster, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return adjusterRange(startInclusive, endExclusive, adjuster, options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental given by {@code adjuster}.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step given by {@code adjuster} is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param adjuster creates the values in the stream
+   * @param options how fine grained the range is split
+   * @param <T> the type of stream elements
+   * @return a parallel {@code Stream} for the range of {@code Temporal}
+   *         elements
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> parallelRangeClosed(T startInclusive, T endInclusive, TemporalAdjuster adjuster, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return adjusterRangeClosed(startInclusive, endInclusive, adjuster, options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, not {@code null}
+   * @param options how fine grained the range is split
+   * @param <T> the type of stream elements
+   * @return a parallel {@code Stream} for the range of {@code Temporal}
+   *         elements
+   * @throws IllegalArgumentException if {@code amountToAdd} is not positive
+   * @throws UnsupportedTemporalTypeException if {@code unit} is not
+   *         supported by {@code startInclusive}
+   * @throws ArithmeticException if the range has more than
+   *         {@link Long#MAX_VALUE} elements
+   * @see #range(Temporal, Temporal, long, TemporalUnit)
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> parallelRange(T startInclusive, T endExclusive, long amountToAdd, TemporalUnit unit, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return stepRange(startInclusive, endExclusive, Step.of(amountToAdd, unit), options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, not {@code null}
+   * @param options how fine grained the range is split
+   * @param <T> the type of stream elements
+   * @return a parallel {@code Stream} for the range of {@code Temporal}
+   *         elements
+   * @throws IllegalArgumentException if {@code amountToAdd} is not positive
+   * @throws UnsupportedTemporalTypeException if {@code unit} is not
+   *         supported by {@code startInclusive}
+   * @throws ArithmeticException if the range has more than
+   *         {@link Long#MAX_VALUE} elements
+   * @see #rangeClosed(Temporal, Temporal, long, TemporalUnit)
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> parallelRangeClosed(T startInclusive, T endInclusive, long amountToAdd, TemporalUnit unit, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return stepRangeClosed(startInclusive, endInclusive, Step.of(amountToAdd, unit), options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code step}.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param step the size of the step, positive
+   * @param options how fine grained the range is split
+   * @param <T> the type of stream elements
+   * @return a parallel {@code Stream} for the range of {@code Temporal}
+   *         elements
+   * @throws IllegalArgumentException if {@code step} is zero or has a
+   *         negative part
+   * @throws UnsupportedTemporalTypeException if a unit of {@code step}
+   *         is not supported by {@code startInclusive}
+   * @throws ArithmeticException if the range has more than
+   *         {@link Long#MAX_VALUE} elements
+   * @see #range(Temporal, Temporal, TemporalAmount)
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> parallelRange(T startInclusive, T endExclusive, TemporalAmount step, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return stepRange(startInclusive, endExclusive, Step.of(step), options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Temporal>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code step}.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param step the size of the step, positive
+   * @param options how fine grained the range is split
+   * @param <T> the type of stream elements
+   * @return a parallel {@code Stream} for the range of {@code Temporal}
+   *         elements
+   * @throws IllegalArgumentException if {@code step} is zero or has a
+   *         negative part
+   * @throws UnsupportedTemporalTypeException if a unit of {@code step}
+   *         is not supported by {@code startInclusive}
+   * @throws ArithmeticException if the range has more than
+   *         {@link Long#MAX_VALUE} elements
+   * @see #rangeClosed(Temporal, Temporal, TemporalAmount)
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> parallelRangeClosed(T startInclusive, T endInclusive, TemporalAmount step, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return stepRangeClosed(startInclusive, endInclusive, Step.of(step), options, true);
+  }
+
+  /**
+   * Merges ascending ordered streams into one ascending ordered stream.
+   *
+   * <p>The merge is lazy, only the current element of every stream is
+   * held in memory. Equal elements are all retained. If all streams are
+   * sized the result is sized as well.</p>
+   *
+   * <p>Closing the returned stream closes all {@code streams}.</p>
+   *
+   * @param streams the streams to merge, each in ascending order
+   * @param <T> the type of stream elements
+   * @return a sequential {@code Stream} of all elements in ascending order
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> merge(Collection<? extends Stream<T>> streams) {
+    return merge(streams, false);
+  }
+
+  /**
+   * Merges ascending ordered streams into one ascending ordered stream.
+   *
+   * <p>The merge is lazy, only the current element of every stream is
+   * held in memory. If all streams are sized and {@code distinct} is
+   * {@code false} the result is sized as well.</p>
+   *
+   * <p>Closing the returned stream closes all {@code streams}.</p>
+   *
+   * @param streams the streams to merge, each in ascending order
+   * @param distinct whether only the first of equal elements should be
+   *                 retained, elements supporting
+   *                 {@link java.time.temporal.ChronoField#INSTANT_SECONDS} like
+   *                 {@code ZonedDateTime} are equal if they are at the
+   *                 same instant, others if {@code compareTo} returns
+   *                 {@code 0}
+   * @param <T> the type of stream elements
+   * @return a sequential {@code Stream} of all elements in ascending order
+   */
+  public static <T extends Temporal & Comparable<? super T>> Stream<T> merge(Collection<? extends Stream<T>> streams, boolean distinct) {
+    List<Stream<T>> inputs = new ArrayList<>(streams);
+    List<Spliterator<T>> spliterators = new ArrayList<>(inputs.size());
+    for (Stream<T> stream : inputs) {
+      spliterators.add(stream.spliterator());
+    }
+    return StreamSupport.stream(new MergingSpliterator<>(spliterators, distinct), false)
+            .onClose(() -> closeAll(inputs));
+  }
+
+  private static void closeAll(List<? extends Stream<?>> streams) {
+    RuntimeException exception = null;
+    for (Stream<?> stream : streams) {
+      try {
+        stream.close();
+      } catch (RuntimeException e) {
+        if (exception == null) {
+          exception = e;
+        } else {
+          exception.addSuppressed(e);
+        }
+      }
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  private static <T extends Temporal & Comparable<? super T>> Stream<T> adjusterRange(T startInclusive, T endExclusive, TemporalAdjuster adjuster, SplitOptions options, boolean parallel) {
+    if (startInclusive.compareTo(endExclusive) <= 0) {
+      return StreamSupport.stream(new AscendingExclusiveTemporalSpliterator<>(startInclusive, endExclusive, adjuster, options), parallel);
+    } else {
+      return StreamSupport.stream(new DescendingExclusiveTemporalSpliterator<>(startInclusive, endExclusive, adjuster, options), parallel);
+    }
+  }
+
+  private static <T extends Temporal & Comparable<? super T>> Stream<T> adjusterRangeClosed(T startInclusive, T endInclusive, TemporalAdjuster adjuster, SplitOptions options, boolean parallel) {
+    if (startInclusive.compareTo(endInclusive) <= 0) {
+      return StreamSupport.stream(new AscendingInclusiveTemporalSpliterator<>(startInclusive, endInclusive, adjuster, options), parallel);
+    } else {
+      return StreamSupport.stream(new DescendingInclusiveTemporalSpliterator<>(startInclusive, endInclusive, adjuster, options), parallel);
+    }
+  }
+
+  private static <T extends Temporal & Comparable<? super T>> Stream<T> stepRange(T startInclusive, T endExclusive, Step step, SplitOptions options, boolean parallel) {
+    Objects.requireNonNull(endExclusive, "endExclusive");
+    step.checkSupported(startInclusive);
+    int comparison = startInclusive.compareTo(endExclusive);
+    if (comparison == 0) {
+      return parallel ? Stream.<T>empty().parallel() : Stream.empty();
+    }
+    if (comparison < 0) {
+      long size = step.count(startInclusive, (t) -> t.compareTo(endExclusive) < 0);
+      return StreamSupport.stream(new StepSpliterator<>(startInclusive, step, 0L, size, options.minimumSplitSize(size)), parallel);
+    } else {
+      Step negated = step.negated();
+      long size = negated.count(startInclusive, (t) -> t.compareTo(endExclusive) > 0);
+      return StreamSupport.stream(new StepSpliterator<>(startInclusive, negated, 0L, size, options.minimumSplitSize(size)), parallel);
+    }
+  }
+
+  private static <T extends Temporal & Comparable<? super T>> Stream<T> stepRangeClosed(T startInclusive, T endInclusive, Step step, SplitOptions options, boolean parallel) {
+    Objects.requireNonNull(endInclusive, "endInclusive");
+    step.checkSupported(startInclusive);
     if (startInclusive.compareTo(endInclusive) <= 0) {
-      return StreamSupport.stream(new AscendingInclusiveTemporalSpliterator<>(startInclusive, endInclusive, adjuster), false);
+      long size = step.count(startInclusive, (t) -> t.compareTo(endInclusive) <= 0);
+      return StreamSupport.stream(new StepSpliterator<>(startInclusive, step, 0L, size, options.minimumSplitSize(size)), parallel);
     } else {
-      return StreamSupport.stream(new DescendingInclusiveTemporalSpliterator<>(startInclusive, endInclusive, adjuster), false);
+      Step negated = step.negated();
+      long size = negated.count(startInclusive, (t) -> t.compareTo(endInclusive) >= 0);
+      return StreamSupport.stream(new StepSpliterator<>(startInclusive, negated, 0L, size, options.minimumSplitSize(size)), parallel);
+    }
+  }
+
+  /**
+   * A fixed step made up of an amount per unit, can be added any
+   * number of times in constant time.
+   */
+  static final class Step {
+
+    private final long[] amounts;
+    private final TemporalUnit[] units;
+
+    private Step(long[] amounts, TemporalUnit[] units) {
+      this.amounts = amounts;
+      this.units = units;
+    }
+
+    static Step of(long amountToAdd, TemporalUnit unit) {
+      Objects.requireNonNull(unit, "unit");
+      if (amountToAdd <= 0L) {
+        throw new IllegalArgumentException("amountToAdd must be positive but was: " + amountToAdd);
+      }
+      return new Step(new long[] {amountToAdd}, new TemporalUnit[] {unit});
+    }
+
+    static Step of(TemporalAmount step) {
+      Objects.requireNonNull(step, "step");
+      if (step instanceof Period) {
+        // Period#addTo adds years and months together
+        Period period = (Period) step;
+        return of(new long[] {period.toTotalMonths(), period.getDays()}, new TemporalUnit[] {ChronoUnit.MONTHS, ChronoUnit.DAYS}, step);
+      }
+      List<TemporalUnit> units = step.getUnits();
+      long[] amounts = new long[units.size()];
+      for (int i = 0; i < amounts.length; i++) {
+        amounts[i] = step.get(units.get(i));
+      }
+      return of(amounts, units.toArray(new TemporalUnit[0]), step);
+    }
+
+    private static Step of(long[] amounts, TemporalUnit[] units, TemporalAmount step) {
+      int nonZero = 0;
+      for (long amount : amounts) {
+        if (amount < 0L) {
+          throw new IllegalArgumentException("step must not be negative but was: " + step);
+        }
+        if (amount > 0L) {
+          nonZero += 1;
+        }
+      }
+      if (nonZero == 0) {
+        throw new IllegalArgumentException("step must not be zero");
+      }
+      long[] nonZeroAmounts = new long[nonZero];
+      TemporalUnit[] nonZeroUnits = new TemporalUnit[nonZero];
+      int j = 0;
+      for (int i = 0; i < amounts.length; i++) {
+        if (amounts[i] != 0L) {
+          nonZeroAmounts[j] = amounts[i];
+          nonZeroUnits[j] = units[i];
+          j += 1;
+        }
+      }
+      return new Step(nonZeroAmounts, nonZeroUnits);
+    }
+
+    boolean isPositive() {
+      return this.amounts[0] > 0L;
+    }
+
+    Step negated() {
+      long[] negatedAmounts = new long[this.amounts.length];
+      for (int i = 0; i < negatedAmounts.length; i++) {
+        negatedAmounts[i] = Math.negateExact(this.amounts[i]);
+      }
+      return new Step(negatedAmounts, this.units);
+    }
+
+    void checkSupported(Temporal temporal) {
+      for (TemporalUnit unit : this.units) {
+        if (!temporal.isSupported(unit)) {
+          throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+      }
+    }
+
+    /**
+     * Adds this step {@code count} times to {@code origin}.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Temporal> T addTo(T origin, long count) {
+      Temporal result = origin;
+      for (int i = 0; i < this.amounts.length; i++) {
+        result = result.plus(Math.multiplyExact(this.amounts[i], count), this.units[i]);
+      }
+      // plus returns the same type
+      return (T) result;
     }
+
+    /**
+     * Computes the number of times this step can be added to
+     * {@code origin} while staying in bounds, including zero times.
+     *
+     * <p>Uses an exponential search so only a logarithmic number of
+     * additions is performed.</p>
+     *
+     * @throws ArithmeticException if the count does not fit into a long
+     */
+    <T extends Temporal> long count(T origin, Predicate<T> inBounds) {
+      if (!inBounds.test(origin)) {
+        return 0L;
+      }
+      // invariant: inside is in bounds, outside is out of bounds
+      long inside = 0L;
+      long outside = 1L;
+      while (this.isInBounds(origin, outside, inBounds)) {
+        inside = outside;
+        if (outside == Long.MAX_VALUE) {
+          // Long.MAX_VALUE + 1 elements
+          throw new ArithmeticException("range has more than " + Long.MAX_VALUE + " elements");
+        }
+        outside = outside > Long.MAX_VALUE / 2L ? Long.MAX_VALUE : outside * 2L;
+      }
+      while (outside - inside > 1L) {
+        long middle = (inside + outside) >>> 1;
+        if (this.isInBounds(origin, middle, inBounds)) {
+          inside = middle;
+        } else {
+          outside = middle;
+        }
+      }
+      return inside + 1L;
+    }
+
+    private <T extends Temporal> boolean isInBounds(T origin, long count, Predicate<T> inBounds) {
+      T value;
+      try {
+        value = this.addTo(origin, count);
+      } catch (DateTimeException | ArithmeticException e) {
+        // beyond the supported range, therefore beyond the bound
+        return false;
+      }
+      return inBounds.test(value);
+    }
+
+  }
+
+  /**
+   * Computes the elements from the origin and the index so that
+   * splitting is a constant time operation.
+   */
+  static final class StepSpliterator<T extends Temporal & Comparable<? super T>> implements Spliterator<T> {
+
+    private static final int CHARACTERISTIS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
+
+    private final T origin;
+    private final Step step;
+    /**
+     * Index of the next read.
+     */
+    private long index;
+    private final long fence;
+    private final long minimumSplitSize;
+
+    StepSpliterator(T origin, Step step, long index, long fence, long minimumSplitSize) {
+      this.origin = origin;
+      this.step = step;
+      this.index = index;
+      this.fence = fence;
+      this.minimumSplitSize = minimumSplitSize;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      long i = this.index;
+      long end = this.fence;
+      this.index = end;
+      while (i < end) {
+        action.accept(this.step.addTo(this.origin, i));
+        i += 1L;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (this.index >= this.fence) {
+        return false;
+      }
+      action.accept(this.step.addTo(this.origin, this.index));
+      this.index += 1L;
+      return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      long half = (this.fence - this.index) / 2L;
+      if (half < this.minimumSplitSize) {
+        // empty, size 1 or too small => null
+        return null;
+      }
+      long middle = this.index + half;
+      Spliterator<T> prefix = new StepSpliterator<>(this.origin, this.step, this.index, middle, this.minimumSplitSize);
+      this.index = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.fence - this.index;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+      return this.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      if (this.step.isPositive()) {
+        return CHARACTERISTIS | SORTED;
+      }
+      return CHARACTERISTIS;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      if (this.step.isPositive()) {
+        // natural order
+        return null;
+      }
+      throw new IllegalStateException();
+    }
+
+  }
+
+  /**
+   * Lazily merges ascending spliterators using a binary heap of the
+   * current element of every spliterator.
+   */
+  static final class MergingSpliterator<T extends Temporal & Comparable<? super T>> implements Spliterator<T> {
+
+    private final List<Spliterator<T>> sources;
+    private final boolean distinct;
+    private final int characteristics;
+    private long size;
+
+    /**
+     * Binary heap of the indices of the sources that are not yet
+     * exhausted ordered by their current element, {@code null} until
+     * the first element is requested.
+     */
+    private int[] heap;
+    private int heapSize;
+    private final Object[] heads;
+    private T last;
+    private T next;
+    /**
+     * Stores the element passed to it in {@link #next}, allocated once.
+     */
+    private final Consumer<T> nextSetter;
+
+    MergingSpliterator(List<Spliterator<T>> sources, boolean distinct) {
+      this.sources = sources;
+      this.heads = new Object[this.sources.size()];
+      this.distinct = distinct;
+      this.nextSetter = this::setNext;
+      // only sized sources are asked for their size, others may have to
+      // walk their range to compute it
+      long sum = 0L;
+      for (Spliterator<T> source : this.sources) {
+        if (!source.hasCharacteristics(SIZED)) {
+          sum = Long.MAX_VALUE;
+          break;
+        }
+        long estimate = source.estimateSize();
+        sum = sum + estimate < 0L ? Long.MAX_VALUE : sum + estimate;
+      }
+      this.size = sum;
+      int flags = ORDERED | SORTED | NONNULL;
+      if (distinct) {
+        flags |= DISTINCT;
+      } else if (sum != Long.MAX_VALUE) {
+        flags |= SIZED;
+      }
+      this.characteristics = flags;
+    }
+
+    private void initialize() {
+      this.heap = new int[this.sources.size()];
+      for (int i = 0; i < this.heap.length; i++) {
+        if (this.sources.get(i).tryAdvance(this.nextSetter)) {
+          this.heads[i] = this.next;
+          this.heap[this.heapSize] = i;
+          this.heapSize += 1;
+          this.siftUp(this.heapSize - 1);
+        }
+      }
+      this.next = null;
+    }
+
+    private void setNext(T value) {
+      this.next = value;
+    }
+
+    private T head(int heapIndex) {
+      return this.current(this.heap[heapIndex]);
+    }
+
+    /**
+     * Returns the current element of a source.
+     */
+    @SuppressWarnings("unchecked")
+    private T current(int source) {
+      // only elements of the sources are stored in heads
+      return (T) this.heads[source];
+    }
+
+    private void siftUp(int index) {
+      int source = this.heap[index];
+      T value = this.current(source);
+      while (index > 0) {
+        int parent = (index - 1) >>> 1;
+        if (this.compare(value, source, this.heap[parent]) >= 0) {
+          break;
+        }
+        this.heap[index] = this.heap[parent];
+        index = parent;
+      }
+      this.heap[index] = source;
+    }
+
+    private void siftDown(int index) {
+      int source = this.heap[index];
+      T value = this.current(source);
+      int half = this.heapSize >>> 1;
+      while (index < half) {
+        int child = 2 * index + 1;
+        int right = child + 1;
+        if (right < this.heapSize && this.compare(this.head(right), this.heap[right], this.heap[child]) < 0) {
+          child = right;
+        }
+        if (this.compare(value, source, this.heap[child]) <= 0) {
+          break;
+        }
+        this.heap[index] = this.heap[child];
+        index = child;
+      }
+      this.heap[index] = source;
+    }
+
+    /**
+     * Compares the current element of two sources, ties are broken by
+     * source index to make the merge stable.
+     */
+    private int compare(T value, int source, int otherSource) {
+      int comparison = value.compareTo(this.current(otherSource));
+      if (comparison != 0) {
+        return comparison;
+      }
+      return Integer.compare(source, otherSource);
+    }
+
+    /**
+     * Removes the smallest element and refills the heap from its source.
+     */
+    private T poll() {
+      T smallest = this.head(0);
+      int source = this.heap[0];
+      if (this.sources.get(source).tryAdvance(this.nextSetter)) {
+        this.heads[source] = this.next;
+        this.next = null;
+      } else {
+        this.heads[source] = null;
+        this.heapSize -= 1;
+        this.heap[0] = this.heap[this.heapSize];
+      }
+      if (this.heapSize > 0) {
+        this.siftDown(0);
+      }
+      return smallest;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (this.heap == null) {
+        this.initialize();
+      }
+      while (this.heapSize > 0) {
+        T value = this.poll();
+        if (this.size != Long.MAX_VALUE) {
+          this.size -= 1L;
+        }
+        if (this.distinct && this.last != null && isSameElement(this.last, value)) {
+          continue;
+        }
+        this.last = value;
+        action.accept(value);
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Checks whether two elements are duplicates. Elements at the same
+     * instant are adjacent because {@code compareTo} of
+     * {@code ZonedDateTime} and {@code OffsetDateTime} orders by instant
+     * first.
+     */
+    private static <T extends Temporal & Comparable<? super T>> boolean isSameElement(T previous, T value) {
+      if (previous.isSupported(INSTANT_SECONDS) && value.isSupported(INSTANT_SECONDS)) {
+        return previous.getLong(INSTANT_SECONDS) == value.getLong(INSTANT_SECONDS)
+                && previous.getLong(NANO_OF_SECOND) == value.getLong(NANO_OF_SECOND);
+      }
+      return previous.compareTo(value) == 0;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      return null;
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.size;
+    }
+
+    @Override
+    public int characteristics() {
+      return this.characteristics;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+      // natural order
+      return null;
+    }
+
   }
 
   static abstract class TemporalSpliterator<T extends Temporal & Comparable<? super T>> implements Spliterator<T> {
 
+    /**
+     * Upper bound for the number of checkpoints recorded, twice this
+     * many are kept at most.
+     */
+    static final int MAX_CHECKPOINTS = 1024;
+
     /**
      * Position of the next read.
      */
     private T current;
     private final T last;
     private final TemporalAdjuster adjuster;
+    private final SplitOptions options;
+
+    /**
+     * Every {@code stride}-th element of the range, {@code null} until
+     * the range has been walked. Shared between split instances.
+     */
+    private Object[] checkpoints;
+    private long stride;
+    /**
+     * Index of {@link #current} relative to the first checkpoint.
+     */
+    private long index;
+    /**
+     * Exclusive end index, {@code -1} until the range has been walked.
+     */
+    private long fence;
+    /**
+     * Split parts will have at least this many elements, computed once
+     * the range has been walked.
+     */
+    private long minimumSplitSize;
+    private boolean split;
 
-    TemporalSpliterator(T current, T last, TemporalAdjuster adjuster) {
+    TemporalSpliterator(T current, T last, TemporalAdjuster adjuster, SplitOptions options) {
       Objects.requireNonNull(current, "startInclusive");
       Objects.requireNonNull(last, "endInclusive");
       Objects.requireNonNull(adjuster, "adjuster");
       this.current = current;
       this.last = last;
       this.adjuster = adjuster;
+      this.options = options;
+      this.fence = -1L;
     }
 
+    private void initializeSplit(Object[] checkpoints, long stride, long index, long fence, long minimumSplitSize) {
+      this.checkpoints = checkpoints;
+      this.stride = stride;
+      this.index = index;
+      this.fence = fence;
+      this.minimumSplitSize = minimumSplitSize;
+      this.split = true;
+    }
 
     @Override
     public void forEachRemaining(Consumer<? super T> action) {
-      while (!isAtEnd()) {
-        action.accept(this.current);
-        this.current = (T) this.current.with(adjuster);
+      if (this.fence < 0L) {
+        while (!isAtEnd()) {
+          action.accept(this.current);
+          this.current = this.adjust(this.current);
+        }
+      } else {
+        while (this.index < this.fence) {
+          action.accept(this.current);
+          this.index += 1L;
+          if (this.index < this.fence) {
+            this.current = this.adjust(this.current);
+          }
+        }
       }
     }
 
+    private T adjust(T value) {
+      return this.element(value.with(this.adjuster));
+    }
+
+    /**
+     * Casts an adjusted element or a checkpoint back to the element type.
+     */
+    @SuppressWarnings("unchecked")
+    private T element(Object value) {
+      // adjusters return the same type, checkpoints are elements
+      return (T) value;
+    }
+
     private boolean isAtEnd() {
       return this.isAtEnd(this.current, this.last);
     }
 
     abstract boolean isAtEnd(T current, T last);
 
+    abstract TemporalSpliterator<T> newInstance(T current, T last, TemporalAdjuster adjuster, SplitOptions options);
 
     @Override
     public boolean tryAdvance(Consumer<? super T> action) {
-      if (isAtEnd()) {
+      if (this.fence < 0L) {
+        if (isAtEnd()) {
+          return false;
+        }
+        action.accept(this.current);
+        this.current = this.adjust(this.current);
+        return true;
+      }
+      if (this.index >= this.fence) {
         return false;
       }
       action.accept(this.current);
-      this.current = (T) this.current.with(adjuster);
+      this.index += 1L;
+      if (this.index < this.fence) {
+        this.current = this.adjust(this.current);
+      }
       return true;
     }
 
+    /**
+     * Walks the remaining range once and records every
+     * {@link #stride}-th element as a checkpoint to split at.
+     */
+    private void walk() {
+      List<Object> values = new ArrayList<>();
+      long step = 1L;
+      long count = 0L;
+      T value = this.current;
+      while (!this.isAtEnd(value, this.last)) {
+        if (count % step == 0L) {
+          values.add(value);
+          if (values.size() == MAX_CHECKPOINTS * 2) {
+            // keep every other checkpoint
+            for (int i = 0; i < MAX_CHECKPOINTS; i++) {
+              values.set(i, values.get(i * 2));
+            }
+            values.subList(MAX_CHECKPOINTS, values.size()).clear();
+            step *= 2L;
+          }
+        }
+        value = this.adjust(value);
+        count += 1L;
+      }
+      this.checkpoints = values.toArray();
+      this.stride = step;
+      this.index = 0L;
+      this.fence = count;
+      this.minimumSplitSize = this.options.minimumSplitSize(count);
+    }
+
     @Override
     public Spliterator<T> trySplit() {
-      return null;
+      if (this.fence < 0L) {
+        this.walk();
+      }
+      this.split = true;
+      long middle = this.index + (this.fence - this.index) / 2L;
+      long checkpoint = middle / this.stride;
+      if (checkpoint * this.stride <= this.index) {
+        checkpoint += 1L;
+      }
+      long splitIndex = checkpoint * this.stride;
+      if (splitIndex - this.index < this.minimumSplitSize || this.fence - splitIndex < this.minimumSplitSize) {
+        // too small or no checkpoint inside => null
+        return null;
+      }
+      TemporalSpliterator<T> prefix = this.newInstance(this.current, this.last, this.adjuster, this.options);
+      prefix.initializeSplit(this.checkpoints, this.stride, this.index, splitIndex, this.minimumSplitSize);
+      this.current = this.element(this.checkpoints[(int) checkpoint]);
+      this.index = splitIndex;
+      return prefix;
     }
 
     @Override
     public long estimateSize() {
-      return Long.MAX_VALUE;
+      if (this.fence < 0L) {
+        this.walk();
+      }
+      return this.fence - this.index;
     }
 
     @Override
     public int characteristics() {
-      return IMMUTABLE | NONNULL;
+      if (this.split) {
+        return ORDERED | IMMUTABLE | NONNULL | SIZED | SUBSIZED;
+      }
+      return ORDERED | IMMUTABLE | NONNULL;
     }
   }
 
   static final class AscendingInclusiveTemporalSpliterator<T extends Temporal & Comparable<? super T>> extends TemporalSpliterator<T> {
 
-    AscendingInclusiveTemporalSpliterator(T current, T last, TemporalAdjuster adjuster) {
-      super(current, last, adjuster);
+    AscendingInclusiveTemporalSpliterator(T current, T last, TemporalAdjuster adjuster, SplitOptions options) {
+      super(current, last, adjuster, options);
+    }
+
+    @Override
+    TemporalSpliterator<T> newInstance(T current, T last, TemporalAdjuster adjuster, SplitOptions options) {
+      return new AscendingInclusiveTemporalSpliterator<>(current, last, adjuster, options);
     }
 
     @Override
@@ -142,8 +1098,13 @@ public final class TemporalStreams {
 
   static final class AscendingExclusiveTemporalSpliterator<T extends Temporal & Comparable<? super T>> extends TemporalSpliterator<T> {
 
-    AscendingExclusiveTemporalSpliterator(T current, T last, TemporalAdjuster adjuster) {
-      super(current, last, adjuster);
+    AscendingExclusiveTemporalSpliterator(T current, T last, TemporalAdjuster adjuster, SplitOptions options) {
+      super(current, last, adjuster, options);
+    }
+
+    @Override
+    TemporalSpliterator<T> newInstance(T current, T last, TemporalAdjuster adjuster, SplitOptions options) {
+      return new AscendingExclusiveTemporalSpliterator<>(current, last, adjuster, options);
     }
 
     @Override
@@ -155,8 +1116,13 @@ public final class TemporalStreams {
 
   static final class DescendingInclusiveTemporalSpliterator<T extends Temporal & Comparable<? super T>> extends TemporalSpliterator<T> {
 
-    DescendingInclusiveTemporalSpliterator(T current, T last, TemporalAdjuster adjuster) {
-      super(current, last, adjuster);
+    DescendingInclusiveTemporalSpliterator(T current, T last, TemporalAdjuster adjuster, SplitOptions options) {
+      super(current, last, adjuster, options);
+    }
+
+    @Override
+    TemporalSpliterator<T> newInstance(T current, T last, TemporalAdjuster adjuster, SplitOptions options) {
+      return new DescendingInclusiveTemporalSpliterator<>(current, last, adjuster, options);
     }
 
     @Override
@@ -168,8 +1134,13 @@ public final class TemporalStreams {
 
   static final class DescendingExclusiveTemporalSpliterator<T extends Temporal & Comparable<? super T>> extends TemporalSpliterator<T> {
 
-    DescendingExclusiveTemporalSpliterator(T current, T last, TemporalAdjuster adjuster) {
-      super(current, last, adjuster);
+    DescendingExclusiveTemporalSpliterator(T current, T last, TemporalAdjuster adjuster, SplitOptions options) {
+      super(current, last, adjuster, options);
+    }
+
+    @Override
+    TemporalSpliterator<T> newInstance(T current, T last, TemporalAdjuster adjuster, SplitOptions options) {
+      return new DescendingExclusiveTemporalSpliterator<>(current, last, adjuster, options);
     }
 
     @Override
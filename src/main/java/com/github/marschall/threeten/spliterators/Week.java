@@ -0,0 +1,231 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.Objects;
+
+/**
+ * A week of a week based year as defined by a {@link WeekFields}, for
+ * example the ISO week {@code 2017-W01}.
+ *
+ * <p>Only the epoch day of the first day of the week is stored, the
+ * week based year and the week number are computed on access.</p>
+ *
+ * <p>Every week has an index, the number of weeks since the week
+ * containing the epoch day {@code 0}. Weeks can be created from their
+ * index without allocating anything else, see
+ * {@link WeekStreams#indexRange(Week, Week)}.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class Week implements Comparable<Week> {
+
+  private final long firstEpochDay;
+  private final WeekFields weekFields;
+
+  private Week(long firstEpochDay, WeekFields weekFields) {
+    this.firstEpochDay = firstEpochDay;
+    this.weekFields = weekFields;
+  }
+
+  /**
+   * Obtains a week from a week based year and a week of that year.
+   *
+   * @param weekBasedYear the week based year
+   * @param week the week of the week based year, from 1 to 53
+   * @param weekFields the week definition, not {@code null}
+   * @return the week, not {@code null}
+   * @throws IllegalArgumentException if the week based year does not have
+   *         {@code week} weeks
+   */
+  public static Week of(int weekBasedYear, int week, WeekFields weekFields) {
+    Objects.requireNonNull(weekFields, "weekFields");
+    if (week < 1 || week > 53) {
+      throw new IllegalArgumentException("week must be from 1 to 53 but was: " + week);
+    }
+    // the day with the minimal days of the first week is always in week 1
+    LocalDate inFirstWeek = LocalDate.of(weekBasedYear, 1, weekFields.getMinimalDaysInFirstWeek());
+    Week result = from(inFirstWeek, weekFields).plusWeeks(week - 1L);
+    if (result.getWeekBasedYear() != weekBasedYear) {
+      throw new IllegalArgumentException("week based year " + weekBasedYear + " does not have week " + week);
+    }
+    return result;
+  }
+
+  /**
+   * Obtains the ISO week from a week based year and a week of that year.
+   *
+   * @param weekBasedYear the ISO week based year
+   * @param week the ISO week of the week based year, from 1 to 53
+   * @return the week, not {@code null}
+   * @throws IllegalArgumentException if the week based year does not have
+   *         {@code week} weeks
+   */
+  public static Week ofIso(int weekBasedYear, int week) {
+    return of(weekBasedYear, week, WeekFields.ISO);
+  }
+
+  /**
+   * Obtains the week containing a date.
+   *
+   * @param date the date, not {@code null}
+   * @param weekFields the week definition, not {@code null}
+   * @return the week containing {@code date}, not {@code null}
+   */
+  public static Week from(LocalDate date, WeekFields weekFields) {
+    long epochDay = date.toEpochDay();
+    return new Week(epochDay - Math.floorMod(epochDay - firstDayOffset(weekFields), 7L), weekFields);
+  }
+
+  /**
+   * Obtains a week from its index.
+   *
+   * @param index the number of weeks since the week containing the epoch day {@code 0}
+   * @param weekFields the week definition, not {@code null}
+   * @return the week, not {@code null}
+   * @see #toIndex()
+   */
+  public static Week ofIndex(long index, WeekFields weekFields) {
+    return new Week(index * 7L + firstDayOffset(weekFields), weekFields);
+  }
+
+  /**
+   * Returns the epoch day of the first day of the week with index {@code 0}.
+   */
+  private static long firstDayOffset(WeekFields weekFields) {
+    DayOfWeek firstDayOfWeek = weekFields.getFirstDayOfWeek();
+    // epoch day 0 is a Thursday
+    return -Math.floorMod(DayOfWeek.THURSDAY.getValue() - firstDayOfWeek.getValue(), 7);
+  }
+
+  /**
+   * Returns the index of this week.
+   *
+   * @return the number of weeks since the week containing the epoch day {@code 0}
+   * @see #ofIndex(long, WeekFields)
+   */
+  public long toIndex() {
+    return Math.floorDiv(this.firstEpochDay - firstDayOffset(this.weekFields), 7L);
+  }
+
+  /**
+   * Returns the week definition.
+   *
+   * @return the week definition, not {@code null}
+   */
+  public WeekFields getWeekFields() {
+    return this.weekFields;
+  }
+
+  /**
+   * Returns the week based year.
+   *
+   * @return the week based year
+   */
+  public int getWeekBasedYear() {
+    return this.getFirstDay().get(this.weekFields.weekBasedYear());
+  }
+
+  /**
+   * Returns the week of the week based year.
+   *
+   * @return the week of the week based year, from 1 to 53
+   */
+  public int getWeek() {
+    return this.getFirstDay().get(this.weekFields.weekOfWeekBasedYear());
+  }
+
+  /**
+   * Returns the first day of this week.
+   *
+   * @return the first day, not {@code null}
+   */
+  public LocalDate getFirstDay() {
+    return LocalDate.ofEpochDay(this.firstEpochDay);
+  }
+
+  /**
+   * Returns the last day of this week.
+   *
+   * @return the last day, not {@code null}
+   */
+  public LocalDate getLastDay() {
+    return LocalDate.ofEpochDay(this.firstEpochDay + 6L);
+  }
+
+  /**
+   * Checks whether a date is in this week.
+   *
+   * @param date the date to check, not {@code null}
+   * @return whether {@code date} is in this week
+   */
+  public boolean contains(LocalDate date) {
+    long epochDay = date.toEpochDay();
+    return epochDay >= this.firstEpochDay && epochDay < this.firstEpochDay + 7L;
+  }
+
+  /**
+   * Returns the days of this week.
+   *
+   * @return the range of the seven days of this week, not {@code null}
+   */
+  public LocalDateRange toLocalDateRange() {
+    return LocalDateRange.ofEpochDays(this.firstEpochDay, this.firstEpochDay + 7L);
+  }
+
+  /**
+   * Returns a week with the specified number of weeks added.
+   *
+   * @param weeksToAdd the weeks to add, may be negative
+   * @return the week with the weeks added, not {@code null}
+   */
+  public Week plusWeeks(long weeksToAdd) {
+    if (weeksToAdd == 0L) {
+      return this;
+    }
+    return new Week(this.firstEpochDay + weeksToAdd * 7L, this.weekFields);
+  }
+
+  long getFirstEpochDay() {
+    return this.firstEpochDay;
+  }
+
+  @Override
+  public int compareTo(Week other) {
+    int comparison = Long.compare(this.firstEpochDay, other.firstEpochDay);
+    if (comparison != 0) {
+      return comparison;
+    }
+    return Integer.compare(this.weekFields.getMinimalDaysInFirstWeek(), other.weekFields.getMinimalDaysInFirstWeek());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Week)) {
+      return false;
+    }
+    Week other = (Week) obj;
+    return this.firstEpochDay == other.firstEpochDay
+            && this.weekFields.equals(other.weekFields);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.firstEpochDay) * 31 + this.weekFields.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    int week = this.getWeek();
+    String text = this.getWeekBasedYear() + (week < 10 ? "-W0" : "-W") + week;
+    if (this.weekFields.equals(WeekFields.ISO)) {
+      return text;
+    }
+    return text + this.weekFields.toString().substring("WeekFields".length());
+  }
+
+}
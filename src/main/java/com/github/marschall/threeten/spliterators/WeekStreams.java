@@ -0,0 +1,228 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.marschall.threeten.spliterators.LocalDateStreams.DecrementingEpochDaySpliterator;
+import com.github.marschall.threeten.spliterators.LocalDateStreams.IncrementingEpochDaySpliterator;
+
+/**
+ * Factory methods for sized and splittable streams over {@link Week}s.
+ *
+ * <p>The start and the end of a range must have the same week definition.</p>
+ */
+public final class WeekStreams {
+
+  private WeekStreams() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Week>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one week.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one week is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @return a sequential {@code Stream} for the range of {@code Week}
+   *         elements
+   * @throws IllegalArgumentException if the weeks have different week definitions
+   */
+  public static Stream<Week> range(Week startInclusive, Week endExclusive) {
+    return range(startInclusive, endExclusive, false, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<Week>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one week.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one week is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @return a sequential {@code Stream} for the range of {@code Week}
+   *         elements
+   * @throws IllegalArgumentException if the weeks have different week definitions
+   */
+  public static Stream<Week> rangeClosed(Week startInclusive, Week endInclusive) {
+    return range(startInclusive, endInclusive, true, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Week>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one week.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one week is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code Week}
+   *         elements
+   * @throws IllegalArgumentException if the weeks have different week definitions
+   */
+  public static Stream<Week> parallelRange(Week startInclusive, Week endExclusive, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return range(startInclusive, endExclusive, false, options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<Week>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one week.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one week is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code Week}
+   *         elements
+   * @throws IllegalArgumentException if the weeks have different week definitions
+   */
+  public static Stream<Week> parallelRangeClosed(Week startInclusive, Week endInclusive, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return range(startInclusive, endInclusive, true, options, true);
+  }
+
+  private static Stream<Week> range(Week start, Week end, boolean inclusive, SplitOptions options, boolean parallel) {
+    long between = between(start, end);
+    long size = Math.abs(between) + (inclusive ? 1L : 0L);
+    if (size == 0L) {
+      return parallel ? Stream.<Week>empty().parallel() : Stream.empty();
+    }
+    Spliterator<Week> spliterator;
+    if (between >= 0L) {
+      spliterator = new IncrementingWeekSpliterator(start, size, options.minimumSplitSize(size));
+    } else {
+      spliterator = new DecrementingWeekSpliterator(start, size, options.minimumSplitSize(size));
+    }
+    return StreamSupport.stream(spliterator, parallel);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of week indices from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one week.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one week is performed instead.</p>
+   *
+   * <p>Unlike {@link #range(Week, Week)} no {@link Week} is allocated
+   * per element, use {@link Week#ofIndex(long, java.time.temporal.WeekFields)} to convert an
+   * element back.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @return a sequential {@code LongStream} for the range of week indices
+   * @throws IllegalArgumentException if the weeks have different week definitions
+   * @see Week#toIndex()
+   */
+  public static LongStream indexRange(Week startInclusive, Week endExclusive) {
+    return indexRange(startInclusive, endExclusive, false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code LongStream} of week indices from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one week.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one week is performed instead.</p>
+   *
+   * <p>Unlike {@link #rangeClosed(Week, Week)} no {@link Week} is
+   * allocated per element, use {@link Week#ofIndex(long, java.time.temporal.WeekFields)} to
+   * convert an element back.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @return a sequential {@code LongStream} for the range of week indices
+   * @throws IllegalArgumentException if the weeks have different week definitions
+   * @see Week#toIndex()
+   */
+  public static LongStream indexRangeClosed(Week startInclusive, Week endInclusive) {
+    return indexRange(startInclusive, endInclusive, true);
+  }
+
+  private static LongStream indexRange(Week start, Week end, boolean inclusive) {
+    long between = between(start, end);
+    long size = Math.abs(between) + (inclusive ? 1L : 0L);
+    if (size == 0L) {
+      return LongStream.empty();
+    }
+    // the epoch day spliterators step by one
+    if (between >= 0L) {
+      return StreamSupport.longStream(new IncrementingEpochDaySpliterator(start.toIndex(), size, 1L), false);
+    } else {
+      return StreamSupport.longStream(new DecrementingEpochDaySpliterator(start.toIndex(), size, 1L), false);
+    }
+  }
+
+  private static long between(Week start, Week end) {
+    if (!start.getWeekFields().equals(end.getWeekFields())) {
+      throw new IllegalArgumentException("start and end must have the same week definition but were: "
+              + start.getWeekFields() + " and " + end.getWeekFields());
+    }
+    return end.toIndex() - start.toIndex();
+  }
+
+  static final class IncrementingWeekSpliterator extends AdvancingSpliterator<Week> {
+
+    IncrementingWeekSpliterator(Week current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
+    }
+
+    @Override
+    Spliterator<Week> newInstance(Week current, long left) {
+      return new IncrementingWeekSpliterator(current, left, this.minimumSplitSize);
+    }
+
+    @Override
+    Week advance(Week current, long count) {
+      return current.plusWeeks(count);
+    }
+
+    @Override
+    public int characteristics() {
+      return super.characteristics() | SORTED;
+    }
+
+    @Override
+    public Comparator<? super Week> getComparator() {
+      // natural order
+      return null;
+    }
+
+  }
+
+  static final class DecrementingWeekSpliterator extends AdvancingSpliterator<Week> {
+
+    DecrementingWeekSpliterator(Week current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
+    }
+
+    @Override
+    Spliterator<Week> newInstance(Week current, long left) {
+      return new DecrementingWeekSpliterator(current, left, this.minimumSplitSize);
+    }
+
+    @Override
+    Week advance(Week current, long count) {
+      return current.plusWeeks(-count);
+    }
+
+  }
+
+}
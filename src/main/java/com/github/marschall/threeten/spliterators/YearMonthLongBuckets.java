@@ -0,0 +1,79 @@
+package com.github.marschall.threeten.spliterators;
+
+import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
+
+import java.time.YearMonth;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Read-only per month {@code long} values over a {@link YearMonthRange}
+ * backed by a dense array, the result of the by month collectors in
+ * {@link BucketCollectors}.
+ *
+ * <p>Instances are thread safe.</p>
+ */
+public final class YearMonthLongBuckets {
+
+  private final LongBuckets buckets;
+
+  YearMonthLongBuckets(LongBuckets buckets) {
+    this.buckets = buckets;
+  }
+
+  /**
+   * Returns the range of months covered.
+   *
+   * @return the range of months covered, not {@code null}
+   */
+  public YearMonthRange getRange() {
+    return YearMonthRange.ofProlepticMonths(this.buckets.firstKey(), this.buckets.firstKey() + this.buckets.size());
+  }
+
+  /**
+   * Returns the value of a month.
+   *
+   * @param yearMonth the month, not {@code null}
+   * @return the value of the month, {@code 0} if no element was collected
+   *         for the month
+   * @throws IllegalArgumentException if {@code yearMonth} is outside of
+   *         {@link #getRange()}
+   */
+  public long get(YearMonth yearMonth) {
+    return this.buckets.get(yearMonth.getLong(PROLEPTIC_MONTH));
+  }
+
+  /**
+   * Checks if no element was collected for a month.
+   *
+   * @param yearMonth the month, not {@code null}
+   * @return {@code true} if no element was collected for {@code yearMonth}
+   * @throws IllegalArgumentException if {@code yearMonth} is outside of
+   *         {@link #getRange()}
+   */
+  public boolean isEmpty(YearMonth yearMonth) {
+    return !this.buckets.isPresent(yearMonth.getLong(PROLEPTIC_MONTH));
+  }
+
+  /**
+   * Performs an action for every month for which an element was collected
+   * in ascending order.
+   *
+   * @param action the action to perform, not {@code null}
+   */
+  public void forEach(ObjLongConsumer<? super YearMonth> action) {
+    for (int i = this.buckets.nextPresent(0); i >= 0; i = this.buckets.nextPresent(i + 1)) {
+      action.accept(YearMonthRange.toYearMonth(this.buckets.firstKey() + i), this.buckets.valueAt(i));
+    }
+  }
+
+  /**
+   * Returns the values of all months in ascending order.
+   *
+   * @return a copy of the values, index {@code 0} is the start of
+   *         {@link #getRange()}, not {@code null}
+   */
+  public long[] toArray() {
+    return this.buckets.toArray();
+  }
+
+}
@@ -0,0 +1,242 @@
+package com.github.marschall.threeten.spliterators;
+
+import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.marschall.threeten.spliterators.YearMonthStreams.DecrementingYearMonthSpliterator;
+import com.github.marschall.threeten.spliterators.YearMonthStreams.IncrementingYearMonthSpliterator;
+
+/**
+ * An immutable range of {@link YearMonth}s from a start month (inclusive)
+ * to an end month (exclusive).
+ *
+ * <p>Only the proleptic months of the bounds are stored, the
+ * {@link YearMonth}s are created on access.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class YearMonthRange {
+
+  private final long startProlepticMonth;
+  private final long endProlepticMonth;
+
+  private YearMonthRange(long startProlepticMonth, long endProlepticMonth) {
+    this.startProlepticMonth = startProlepticMonth;
+    this.endProlepticMonth = endProlepticMonth;
+  }
+
+  /**
+   * Obtains a range from {@code startInclusive} (inclusive) to
+   * {@code endExclusive} (exclusive).
+   *
+   * @param startInclusive the (inclusive) start, not {@code null}
+   * @param endExclusive the exclusive end, not {@code null}
+   * @return the range, not {@code null}
+   * @throws IllegalArgumentException if {@code endExclusive} is before
+   *         {@code startInclusive}
+   */
+  public static YearMonthRange of(YearMonth startInclusive, YearMonth endExclusive) {
+    Objects.requireNonNull(startInclusive, "startInclusive");
+    Objects.requireNonNull(endExclusive, "endExclusive");
+    return ofProlepticMonths(startInclusive.getLong(PROLEPTIC_MONTH), endExclusive.getLong(PROLEPTIC_MONTH));
+  }
+
+  static YearMonthRange ofProlepticMonths(long startProlepticMonth, long endProlepticMonth) {
+    if (endProlepticMonth < startProlepticMonth) {
+      throw new IllegalArgumentException("end must not be before start");
+    }
+    return new YearMonthRange(startProlepticMonth, endProlepticMonth);
+  }
+
+  static YearMonth toYearMonth(long prolepticMonth) {
+    return YearMonth.of(Math.toIntExact(Math.floorDiv(prolepticMonth, 12L)), (int) Math.floorMod(prolepticMonth, 12L) + 1);
+  }
+
+  /**
+   * Returns the first month of this range.
+   *
+   * @return the (inclusive) start, not {@code null}
+   */
+  public YearMonth getStartInclusive() {
+    return toYearMonth(this.startProlepticMonth);
+  }
+
+  /**
+   * Returns the month after the last month of this range.
+   *
+   * @return the exclusive end, not {@code null}
+   */
+  public YearMonth getEndExclusive() {
+    return toYearMonth(this.endProlepticMonth);
+  }
+
+  /**
+   * Checks if this range contains no months.
+   *
+   * @return {@code true} if start and end are equal
+   */
+  public boolean isEmpty() {
+    return this.startProlepticMonth == this.endProlepticMonth;
+  }
+
+  /**
+   * Returns the number of months in this range.
+   *
+   * @return the number of months in this range, not negative
+   */
+  public long size() {
+    return this.endProlepticMonth - this.startProlepticMonth;
+  }
+
+  /**
+   * Checks if a month is inside this range.
+   *
+   * @param yearMonth the month to check, not {@code null}
+   * @return {@code true} if {@code yearMonth} is inside this range
+   */
+  public boolean contains(YearMonth yearMonth) {
+    long value = yearMonth.getLong(PROLEPTIC_MONTH);
+    return value >= this.startProlepticMonth && value < this.endProlepticMonth;
+  }
+
+  /**
+   * Computes the months that are inside both this and an other range.
+   *
+   * @param other the other range, not {@code null}
+   * @return the common months, empty if the ranges do not overlap
+   */
+  public Optional<YearMonthRange> intersection(YearMonthRange other) {
+    long intersectionStart = Math.max(this.startProlepticMonth, other.startProlepticMonth);
+    long intersectionEnd = Math.min(this.endProlepticMonth, other.endProlepticMonth);
+    if (intersectionStart >= intersectionEnd) {
+      return Optional.empty();
+    }
+    return Optional.of(new YearMonthRange(intersectionStart, intersectionEnd));
+  }
+
+  /**
+   * Computes the smallest range that contains both this and an other
+   * range.
+   *
+   * @param other the other range, not {@code null}
+   * @return the smallest range enclosing both ranges, not {@code null}
+   */
+  public YearMonthRange span(YearMonthRange other) {
+    return new YearMonthRange(Math.min(this.startProlepticMonth, other.startProlepticMonth), Math.max(this.endProlepticMonth, other.endProlepticMonth));
+  }
+
+  /**
+   * Checks if an other range starts where this range ends or ends where
+   * this range starts.
+   *
+   * @param other the other range, not {@code null}
+   * @return {@code true} if the ranges are adjacent
+   */
+  public boolean isAdjacent(YearMonthRange other) {
+    return this.endProlepticMonth == other.startProlepticMonth || other.endProlepticMonth == this.startProlepticMonth;
+  }
+
+  /**
+   * Splits this range into consecutive ranges whose sizes differ by at
+   * most one month.
+   *
+   * <p>If {@code parts} is bigger than {@link #size()} some of the ranges
+   * will be empty.</p>
+   *
+   * @param parts the number of ranges, positive
+   * @return {@code parts} consecutive ranges covering this range, the
+   *         longer ones first
+   * @throws IllegalArgumentException if {@code parts} is not positive
+   */
+  public List<YearMonthRange> split(int parts) {
+    if (parts <= 0) {
+      throw new IllegalArgumentException("parts must be positive but was: " + parts);
+    }
+    long size = this.size();
+    long partSize = size / parts;
+    long remainder = size % parts;
+    List<YearMonthRange> result = new ArrayList<>(parts);
+    long partStart = this.startProlepticMonth;
+    for (int i = 0; i < parts; i++) {
+      long partEnd = partStart + partSize + (i < remainder ? 1L : 0L);
+      result.add(new YearMonthRange(partStart, partEnd));
+      partStart = partEnd;
+    }
+    return result;
+  }
+
+  /**
+   * Returns a sequential ordered stream over the months in this range
+   * from start to end.
+   *
+   * @return a sequential {@code Stream} over the months in this range
+   * @see YearMonthStreams#range(YearMonth, YearMonth)
+   */
+  public Stream<YearMonth> stream() {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+
+  /**
+   * Returns a sequential ordered stream over the months in this range
+   * from end to start.
+   *
+   * @return a sequential {@code Stream} over the months in this range
+   *         in reverse order
+   */
+  public Stream<YearMonth> reverseStream() {
+    long size = this.size();
+    if (size == 0L) {
+      return Stream.empty();
+    }
+    return StreamSupport.stream(new DecrementingYearMonthSpliterator(toYearMonth(this.endProlepticMonth - 1L), size, 1L), false);
+  }
+
+  /**
+   * Returns a spliterator over the months in this range from start to end.
+   *
+   * @return a sized spliterator over the months in this range
+   */
+  public Spliterator<YearMonth> spliterator() {
+    return new IncrementingYearMonthSpliterator(this.getStartInclusive(), this.size(), 1L);
+  }
+
+  long getStartProlepticMonth() {
+    return this.startProlepticMonth;
+  }
+
+  long getEndProlepticMonth() {
+    return this.endProlepticMonth;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof YearMonthRange)) {
+      return false;
+    }
+    YearMonthRange other = (YearMonthRange) obj;
+    return this.startProlepticMonth == other.startProlepticMonth
+            && this.endProlepticMonth == other.endProlepticMonth;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.startProlepticMonth) * 31 + Long.hashCode(this.endProlepticMonth);
+  }
+
+  @Override
+  public String toString() {
+    return "[" + this.getStartInclusive() + ", " + this.getEndExclusive() + ')';
+  }
+
+}
@@ -0,0 +1,240 @@
+package com.github.marschall.threeten.spliterators;
+
+import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.marschall.threeten.spliterators.DisjointRanges.RangesSpliterator;
+import com.github.marschall.threeten.spliterators.YearMonthStreams.IncrementingYearMonthSpliterator;
+
+/**
+ * An immutable set of {@link YearMonth}s stored as sorted, disjoint
+ * {@link YearMonthRange}s.
+ *
+ * <p>Overlapping and adjacent ranges are merged. Lookups are done with a
+ * binary search over the ranges, set operations sweep over the ranges
+ * and streams create the months only while iterating, so the individual
+ * months are never stored.</p>
+ *
+ * <p>Instances are immutable and thread safe.</p>
+ */
+public final class YearMonthRangeSet {
+
+  private static final YearMonthRangeSet EMPTY = new YearMonthRangeSet(DisjointRanges.EMPTY);
+
+  private final DisjointRanges ranges;
+
+  private YearMonthRangeSet(DisjointRanges ranges) {
+    this.ranges = ranges;
+  }
+
+  /**
+   * Returns a set containing no months.
+   *
+   * @return the empty set, not {@code null}
+   */
+  public static YearMonthRangeSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a set containing the months of all given ranges.
+   *
+   * @param ranges the ranges, may overlap, not {@code null}
+   * @return the set, not {@code null}
+   */
+  public static YearMonthRangeSet of(YearMonthRange... ranges) {
+    return of(Arrays.asList(ranges));
+  }
+
+  /**
+   * Creates a set containing the months of all given ranges.
+   *
+   * @param ranges the ranges, may overlap, not {@code null}
+   * @return the set, not {@code null}
+   */
+  public static YearMonthRangeSet of(Collection<YearMonthRange> ranges) {
+    long[] starts = new long[ranges.size()];
+    long[] ends = new long[ranges.size()];
+    int i = 0;
+    for (YearMonthRange range : ranges) {
+      starts[i] = range.getStartProlepticMonth();
+      ends[i] = range.getEndProlepticMonth();
+      i += 1;
+    }
+    return wrap(DisjointRanges.of(starts, ends));
+  }
+
+  private static YearMonthRangeSet wrap(DisjointRanges ranges) {
+    if (ranges == DisjointRanges.EMPTY) {
+      return EMPTY;
+    }
+    return new YearMonthRangeSet(ranges);
+  }
+
+  /**
+   * Checks if a month is in this set.
+   *
+   * @param yearMonth the month to check, not {@code null}
+   * @return {@code true} if {@code yearMonth} is in this set
+   */
+  public boolean contains(YearMonth yearMonth) {
+    return this.ranges.indexOfRangeContaining(yearMonth.getLong(PROLEPTIC_MONTH)) >= 0;
+  }
+
+  /**
+   * Looks up the range of this set containing a month.
+   *
+   * @param yearMonth the month to look up, not {@code null}
+   * @return the maximal range containing {@code yearMonth}, empty if
+   *         {@code yearMonth} is not in this set
+   */
+  public Optional<YearMonthRange> rangeContaining(YearMonth yearMonth) {
+    int index = this.ranges.indexOfRangeContaining(yearMonth.getLong(PROLEPTIC_MONTH));
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(this.range(index));
+  }
+
+  private YearMonthRange range(int index) {
+    return YearMonthRange.ofProlepticMonths(this.ranges.starts[index], this.ranges.ends[index]);
+  }
+
+  /**
+   * Returns the number of months in this set.
+   *
+   * @return the number of months in this set
+   */
+  public long size() {
+    return this.ranges.keyCount();
+  }
+
+  /**
+   * Checks if this set contains no months.
+   *
+   * @return {@code true} if this set contains no months
+   */
+  public boolean isEmpty() {
+    return this.ranges.rangeCount() == 0;
+  }
+
+  /**
+   * Returns the sorted, disjoint and non-adjacent ranges of this set.
+   *
+   * @return the ranges of this set, not {@code null}
+   */
+  public List<YearMonthRange> asRanges() {
+    List<YearMonthRange> result = new ArrayList<>(this.ranges.rangeCount());
+    for (int i = 0; i < this.ranges.rangeCount(); i++) {
+      result.add(this.range(i));
+    }
+    return result;
+  }
+
+  /**
+   * Computes the months that are in this or an other set.
+   *
+   * @param other the other set, not {@code null}
+   * @return the union, not {@code null}
+   */
+  public YearMonthRangeSet union(YearMonthRangeSet other) {
+    return wrap(this.ranges.union(other.ranges));
+  }
+
+  /**
+   * Computes the months that are in both this and an other set.
+   *
+   * @param other the other set, not {@code null}
+   * @return the intersection, not {@code null}
+   */
+  public YearMonthRangeSet intersection(YearMonthRangeSet other) {
+    return wrap(this.ranges.intersection(other.ranges));
+  }
+
+  /**
+   * Computes the months that are in this but not in an other set.
+   *
+   * @param other the other set, not {@code null}
+   * @return the difference, not {@code null}
+   */
+  public YearMonthRangeSet difference(YearMonthRangeSet other) {
+    return wrap(this.ranges.difference(other.ranges));
+  }
+
+  /**
+   * Returns a sequential ordered stream over the months in this set in
+   * ascending order.
+   *
+   * @return a sequential {@code Stream} over the months in this set
+   */
+  public Stream<YearMonth> stream() {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+
+  /**
+   * Returns a spliterator over the months in this set in ascending order.
+   *
+   * <p>The spliterator is sized and splits in the middle of the remaining
+   * months regardless of range boundaries.</p>
+   *
+   * @return a sized spliterator over the months in this set
+   */
+  public Spliterator<YearMonth> spliterator() {
+    return new YearMonthRangesSpliterator(this.ranges, 0L, this.ranges.keyCount());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof YearMonthRangeSet)) {
+      return false;
+    }
+    YearMonthRangeSet other = (YearMonthRangeSet) obj;
+    return this.ranges.equals(other.ranges);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.ranges.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.asRanges().toString();
+  }
+
+  static final class YearMonthRangesSpliterator extends RangesSpliterator<YearMonth> {
+
+    YearMonthRangesSpliterator(DisjointRanges ranges, long index, long fence) {
+      super(ranges, index, fence);
+    }
+
+    @Override
+    YearMonth element(long key) {
+      return YearMonthRange.toYearMonth(key);
+    }
+
+    @Override
+    Spliterator<YearMonth> segment(long startKey, long length) {
+      return new IncrementingYearMonthSpliterator(YearMonthRange.toYearMonth(startKey), length, 1L);
+    }
+
+    @Override
+    Spliterator<YearMonth> newInstance(DisjointRanges ranges, long index, long fence) {
+      return new YearMonthRangesSpliterator(ranges, index, fence);
+    }
+
+  }
+
+}
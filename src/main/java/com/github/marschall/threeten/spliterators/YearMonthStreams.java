@@ -1,9 +1,13 @@
 package com.github.marschall.threeten.spliterators;
 
+import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
 import static java.time.temporal.ChronoUnit.MONTHS;
 
 import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.Objects;
 import java.util.Spliterator;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -30,15 +34,7 @@ public final class YearMonthStreams {
    *         elements
    */
   public static Stream<YearMonth> range(YearMonth startInclusive, YearMonth endExclusive) {
-    long monthsBetween = MONTHS.between(startInclusive, endExclusive);
-    if (monthsBetween == 0L) {
-      return Stream.empty();
-    }
-    if (monthsBetween > 0L) {
-      return StreamSupport.stream(new IncrementingYearMonthSpliterator(startInclusive, monthsBetween), false);
-    } else {
-      return StreamSupport.stream(new DecrementingYearMonthSpliterator(startInclusive, -monthsBetween), false);
-    }
+    return range(startInclusive, endExclusive, SplitOptions.defaults(), null, false);
   }
 
   /**
@@ -55,33 +51,302 @@ public final class YearMonthStreams {
    *         elements
    */
   public static Stream<YearMonth> rangeClosed(YearMonth startInclusive, YearMonth endInclusive) {
+    return rangeClosed(startInclusive, endInclusive, SplitOptions.defaults(), null, false);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<YearMonth>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one month.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one month is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code YearMonth}
+   *         elements
+   */
+  public static Stream<YearMonth> parallelRange(YearMonth startInclusive, YearMonth endExclusive, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return range(startInclusive, endExclusive, options, null, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<YearMonth>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one month.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one month is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code YearMonth}
+   *         elements
+   */
+  public static Stream<YearMonth> parallelRangeClosed(YearMonth startInclusive, YearMonth endInclusive, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return rangeClosed(startInclusive, endInclusive, options, null, true);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<YearMonth>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one month, serving the
+   * elements from {@code cache} if possible.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one month is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param cache the cache to serve the elements from, not {@code null}
+   * @return a sequential {@code Stream} for the range of {@code YearMonth}
+   *         elements
+   */
+  public static Stream<YearMonth> range(YearMonth startInclusive, YearMonth endExclusive, DateCache cache) {
+    Objects.requireNonNull(cache, "cache");
+    return range(startInclusive, endExclusive, SplitOptions.defaults(), cache, false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<YearMonth>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one month, serving the
+   * elements from {@code cache} if possible.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one month is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param cache the cache to serve the elements from, not {@code null}
+   * @return a sequential {@code Stream} for the range of {@code YearMonth}
+   *         elements
+   */
+  public static Stream<YearMonth> rangeClosed(YearMonth startInclusive, YearMonth endInclusive, DateCache cache) {
+    Objects.requireNonNull(cache, "cache");
+    return rangeClosed(startInclusive, endInclusive, SplitOptions.defaults(), cache, false);
+  }
+
+  private static Stream<YearMonth> range(YearMonth startInclusive, YearMonth endExclusive, SplitOptions options, DateCache cache, boolean parallel) {
+    long monthsBetween = MONTHS.between(startInclusive, endExclusive);
+    if (monthsBetween == 0L) {
+      return parallel ? Stream.<YearMonth>empty().parallel() : Stream.empty();
+    }
+    if (monthsBetween > 0L) {
+      return StreamSupport.stream(spliterator(startInclusive, monthsBetween, true, options.minimumSplitSize(monthsBetween), cache), parallel);
+    } else {
+      return StreamSupport.stream(spliterator(startInclusive, -monthsBetween, false, options.minimumSplitSize(-monthsBetween), cache), parallel);
+    }
+  }
+
+  private static Stream<YearMonth> rangeClosed(YearMonth startInclusive, YearMonth endInclusive, SplitOptions options, DateCache cache, boolean parallel) {
     long monthsBetween = MONTHS.between(startInclusive, endInclusive);
     if (monthsBetween >= 0L) {
-      return StreamSupport.stream(new IncrementingYearMonthSpliterator(startInclusive, monthsBetween + 1L), false);
+      return StreamSupport.stream(spliterator(startInclusive, monthsBetween + 1L, true, options.minimumSplitSize(monthsBetween + 1L), cache), parallel);
+    } else {
+      return StreamSupport.stream(spliterator(startInclusive, -monthsBetween + 1L, false, options.minimumSplitSize(-monthsBetween + 1L), cache), parallel);
+    }
+  }
+
+  private static Spliterator<YearMonth> spliterator(YearMonth first, long size, boolean ascending, long minimumSplitSize, DateCache cache) {
+    if (cache != null) {
+      Spliterator<YearMonth> cached = cache.yearMonths(first, size, ascending, minimumSplitSize);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    if (ascending) {
+      return new IncrementingYearMonthSpliterator(first, size, minimumSplitSize);
     } else {
-      return StreamSupport.stream(new DecrementingYearMonthSpliterator(startInclusive, -monthsBetween + 1L), false);
+      return new DecrementingYearMonthSpliterator(first, size, minimumSplitSize);
     }
   }
 
+  /**
+   * Returns a sequential ordered {@code IntStream} of proleptic months
+   * from {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of one month.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endExclusive}
+   * a decremental step of one month is performed instead.</p>
+   *
+   * <p>Unlike {@link #range(YearMonth, YearMonth)} no {@link YearMonth}
+   * is allocated per element, use {@link #ofProlepticMonth(int)} to
+   * convert an element back.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @return a sequential {@code IntStream} for the range of proleptic months
+   * @throws ArithmeticException if a bound is outside the range of
+   *         {@link #toProlepticMonth(YearMonth)}
+   * @see java.time.temporal.ChronoField#PROLEPTIC_MONTH
+   */
+  public static IntStream prolepticMonthRange(YearMonth startInclusive, YearMonth endExclusive) {
+    int start = toProlepticMonth(startInclusive);
+    long monthsBetween = (long) toProlepticMonth(endExclusive) - start;
+    if (monthsBetween == 0L) {
+      return IntStream.empty();
+    }
+    if (monthsBetween > 0L) {
+      return StreamSupport.intStream(new IncrementingProlepticMonthSpliterator(start, monthsBetween, 1L), false);
+    } else {
+      return StreamSupport.intStream(new DecrementingProlepticMonthSpliterator(start, -monthsBetween, 1L), false);
+    }
+  }
+
+  /**
+   * Returns a sequential ordered {@code IntStream} of proleptic months
+   * from {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of one month.
+   *
+   * <p>If {@code startInclusive} is bigger than {@code endInclusive}
+   * a decremental step of one month is performed instead.</p>
+   *
+   * <p>Unlike {@link #rangeClosed(YearMonth, YearMonth)} no
+   * {@link YearMonth} is allocated per element, use
+   * {@link #ofProlepticMonth(int)} to convert an element back.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @return a sequential {@code IntStream} for the range of proleptic months
+   * @throws ArithmeticException if a bound is outside the range of
+   *         {@link #toProlepticMonth(YearMonth)}
+   * @see java.time.temporal.ChronoField#PROLEPTIC_MONTH
+   */
+  public static IntStream prolepticMonthRangeClosed(YearMonth startInclusive, YearMonth endInclusive) {
+    int start = toProlepticMonth(startInclusive);
+    long monthsBetween = (long) toProlepticMonth(endInclusive) - start;
+    if (monthsBetween >= 0L) {
+      return StreamSupport.intStream(new IncrementingProlepticMonthSpliterator(start, monthsBetween + 1L, 1L), false);
+    } else {
+      return StreamSupport.intStream(new DecrementingProlepticMonthSpliterator(start, -monthsBetween + 1L, 1L), false);
+    }
+  }
+
+  /**
+   * Returns the proleptic month of a {@link YearMonth}, the number of
+   * months since January of year 0.
+   *
+   * @param yearMonth the month to convert, not {@code null}
+   * @return the proleptic month
+   * @throws ArithmeticException if the proleptic month does not fit
+   *         into an {@code int}, this is the case for years beyond
+   *         about ±178 million
+   * @see #ofProlepticMonth(int)
+   */
+  public static int toProlepticMonth(YearMonth yearMonth) {
+    return Math.toIntExact(yearMonth.getLong(PROLEPTIC_MONTH));
+  }
+
+  /**
+   * Obtains a {@link YearMonth} from a proleptic month, the inverse of
+   * {@link #toProlepticMonth(YearMonth)}.
+   *
+   * @param prolepticMonth the number of months since January of year 0
+   * @return the {@link YearMonth}, not {@code null}
+   * @see #toProlepticMonth(YearMonth)
+   */
+  public static YearMonth ofProlepticMonth(int prolepticMonth) {
+    return YearMonth.of(Math.floorDiv(prolepticMonth, 12), Math.floorMod(prolepticMonth, 12) + 1);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<YearMonthRange>} of consecutive
+   * ranges of {@code chunkSize} months from {@code startInclusive}
+   * (inclusive) to {@code endExclusive} (exclusive).
+   *
+   * <p>The last range is shorter if the number of months is not a
+   * multiple of {@code chunkSize}. The ranges are computed arithmetically,
+   * no {@link YearMonth} is allocated for the months inside a range.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param chunkSize the number of months per range, positive
+   * @return a sequential {@code Stream} of ranges
+   * @throws IllegalArgumentException if {@code chunkSize} is not positive
+   *         or {@code endExclusive} is before {@code startInclusive}
+   */
+  public static Stream<YearMonthRange> chunks(YearMonth startInclusive, YearMonth endExclusive, int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive but was: " + chunkSize);
+    }
+    long start = startInclusive.getLong(PROLEPTIC_MONTH);
+    long end = endExclusive.getLong(PROLEPTIC_MONTH);
+    if (end < start) {
+      throw new IllegalArgumentException("endExclusive must not be before startInclusive");
+    }
+    if (end == start) {
+      return Stream.empty();
+    }
+    long chunkCount = (end - start - 1L) / chunkSize + 1L;
+    YearMonthRange first = YearMonthRange.ofProlepticMonths(start, Math.min(start + chunkSize, end));
+    return StreamSupport.stream(new YearMonthChunkSpliterator(first, chunkCount, 1L, chunkSize, end), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<YearMonthRange>} of windows of
+   * {@code size} months that start every {@code step} months from
+   * {@code startInclusive} (inclusive) and end at or before
+   * {@code endExclusive} (exclusive).
+   *
+   * <p>A {@code step} smaller than {@code size} gives sliding windows, a
+   * {@code step} equal to {@code size} tumbling windows. Only windows
+   * that fit completely into the range are returned. The windows are
+   * computed arithmetically from their index, the stream is sized and
+   * splits at any window.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param size the number of months per window, positive
+   * @param step the number of months between the starts of two windows, positive
+   * @return a sequential {@code Stream} of windows
+   * @throws IllegalArgumentException if {@code size} or {@code step} is
+   *         not positive or {@code endExclusive} is before {@code startInclusive}
+   */
+  public static Stream<YearMonthRange> windows(YearMonth startInclusive, YearMonth endExclusive, int size, int step) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be positive but was: " + size);
+    }
+    if (step <= 0) {
+      throw new IllegalArgumentException("step must be positive but was: " + step);
+    }
+    long start = startInclusive.getLong(PROLEPTIC_MONTH);
+    long end = endExclusive.getLong(PROLEPTIC_MONTH);
+    if (end < start) {
+      throw new IllegalArgumentException("endExclusive must not be before startInclusive");
+    }
+    if (end - start < size) {
+      return Stream.empty();
+    }
+    long windowCount = (end - start - size) / step + 1L;
+    YearMonthRange first = YearMonthRange.ofProlepticMonths(start, start + size);
+    return StreamSupport.stream(new YearMonthWindowSpliterator(first, windowCount, 1L, size, step), false);
+  }
+
   abstract static class YearMonthSpliterator extends AdvancingSpliterator<YearMonth> {
 
     // move the bridge methods here
 
-    YearMonthSpliterator(YearMonth current, long left) {
-      super(current, left);
+    YearMonthSpliterator(YearMonth current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
     }
 
   }
 
   static final class IncrementingYearMonthSpliterator extends YearMonthSpliterator {
 
-    IncrementingYearMonthSpliterator(YearMonth current, long left) {
-      super(current, left);
+    IncrementingYearMonthSpliterator(YearMonth current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
     }
 
     @Override
     Spliterator<YearMonth> newInstance(YearMonth current, long left) {
-      return new IncrementingYearMonthSpliterator(current, left);
+      return new IncrementingYearMonthSpliterator(current, left, this.minimumSplitSize);
     }
 
     @Override
@@ -89,17 +354,28 @@ public final class YearMonthStreams {
       return current.plusMonths(count);
     }
 
+    @Override
+    public int characteristics() {
+      return super.characteristics() | SORTED;
+    }
+
+    @Override
+    public Comparator<? super YearMonth> getComparator() {
+      // natural order
+      return null;
+    }
+
   }
 
   static final class DecrementingYearMonthSpliterator extends YearMonthSpliterator {
 
-    DecrementingYearMonthSpliterator(YearMonth current, long left) {
-      super(current, left);
+    DecrementingYearMonthSpliterator(YearMonth current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
     }
 
     @Override
     Spliterator<YearMonth> newInstance(YearMonth current, long left) {
-      return new DecrementingYearMonthSpliterator(current, left);
+      return new DecrementingYearMonthSpliterator(current, left, this.minimumSplitSize);
     }
 
     @Override
@@ -109,4 +385,101 @@ public final class YearMonthStreams {
 
   }
 
+  static final class IncrementingProlepticMonthSpliterator extends AdvancingIntSpliterator {
+
+    IncrementingProlepticMonthSpliterator(int current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
+    }
+
+    @Override
+    Spliterator.OfInt newInstance(int current, long left) {
+      return new IncrementingProlepticMonthSpliterator(current, left, this.minimumSplitSize);
+    }
+
+    @Override
+    int advance(int current, long count) {
+      return (int) (current + count);
+    }
+
+    @Override
+    public int characteristics() {
+      return super.characteristics() | SORTED;
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+      // natural order
+      return null;
+    }
+
+  }
+
+  static final class DecrementingProlepticMonthSpliterator extends AdvancingIntSpliterator {
+
+    DecrementingProlepticMonthSpliterator(int current, long left, long minimumSplitSize) {
+      super(current, left, minimumSplitSize);
+    }
+
+    @Override
+    Spliterator.OfInt newInstance(int current, long left) {
+      return new DecrementingProlepticMonthSpliterator(current, left, this.minimumSplitSize);
+    }
+
+    @Override
+    int advance(int current, long count) {
+      return (int) (current - count);
+    }
+
+  }
+
+  static final class YearMonthChunkSpliterator extends AdvancingSpliterator<YearMonthRange> {
+
+    private final int chunkSize;
+    private final long end;
+
+    YearMonthChunkSpliterator(YearMonthRange current, long left, long minimumSplitSize, int chunkSize, long end) {
+      super(current, left, minimumSplitSize);
+      this.chunkSize = chunkSize;
+      this.end = end;
+    }
+
+    @Override
+    Spliterator<YearMonthRange> newInstance(YearMonthRange current, long left) {
+      return new YearMonthChunkSpliterator(current, left, this.minimumSplitSize, this.chunkSize, this.end);
+    }
+
+    @Override
+    YearMonthRange advance(YearMonthRange current, long count) {
+      // clamp to an empty range at the end when advancing past the last range
+      long start = Math.min(current.getStartProlepticMonth() + count * this.chunkSize, this.end);
+      return YearMonthRange.ofProlepticMonths(start, Math.min(start + this.chunkSize, this.end));
+    }
+
+  }
+
+  static final class YearMonthWindowSpliterator extends AdvancingSpliterator<YearMonthRange> {
+
+    private final int size;
+    private final int step;
+
+    YearMonthWindowSpliterator(YearMonthRange current, long left, long minimumSplitSize, int size, int step) {
+      super(current, left, minimumSplitSize);
+      this.size = size;
+      this.step = step;
+    }
+
+    @Override
+    Spliterator<YearMonthRange> newInstance(YearMonthRange current, long left) {
+      return new YearMonthWindowSpliterator(current, left, this.minimumSplitSize, this.size, this.step);
+    }
+
+    @Override
+    YearMonthRange advance(YearMonthRange current, long count) {
+      // count never exceeds the remaining windows plus one so this does not overflow
+      long start = current.getStartProlepticMonth() + count * this.step;
+      return YearMonthRange.ofProlepticMonths(start, start + this.size);
+    }
+
+  }
+
 }
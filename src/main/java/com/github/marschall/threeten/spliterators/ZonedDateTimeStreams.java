@@ -0,0 +1,533 @@
+package com.github.marschall.threeten.spliterators;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.marschall.threeten.spliterators.InstantStreams.InstantProgression;
+
+/**
+ * Factory methods for streams over ranges of {@link ZonedDateTime}s with
+ * a fixed step.
+ *
+ * <p>The offset transitions of the zone are looked up once for the
+ * whole range, every element and every split point is computed from its
+ * index. The streams are sized exactly, also across daylight saving
+ * time gaps and overlaps, and split in constant time.</p>
+ *
+ * <p>All elements are in the zone of the start, the end is compared
+ * as an instant.</p>
+ */
+public final class ZonedDateTimeStreams {
+
+  private ZonedDateTimeStreams() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<ZonedDateTime>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code step}.
+   *
+   * <p>The step is applied to the instant, consistent with
+   * {@link ZonedDateTime#plus(java.time.temporal.TemporalAmount)} for
+   * a {@link Duration}. If {@code startInclusive} is after
+   * {@code endExclusive} a decremental step is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param step the size of the step, positive
+   * @return a sequential {@code Stream} for the range of {@code ZonedDateTime}
+   *         elements
+   * @throws IllegalArgumentException if {@code step} is not positive or
+   *         the range has more than {@link Long#MAX_VALUE} elements
+   */
+  public static Stream<ZonedDateTime> range(ZonedDateTime startInclusive, ZonedDateTime endExclusive, Duration step) {
+    return durationRange(startInclusive, endExclusive, step, false, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<ZonedDateTime>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code step}.
+   *
+   * <p>The step is applied to the instant, consistent with
+   * {@link ZonedDateTime#plus(java.time.temporal.TemporalAmount)} for
+   * a {@link Duration}. If {@code startInclusive} is after
+   * {@code endInclusive} a decremental step is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param step the size of the step, positive
+   * @return a sequential {@code Stream} for the range of {@code ZonedDateTime}
+   *         elements
+   * @throws IllegalArgumentException if {@code step} is not positive or
+   *         the range has more than {@link Long#MAX_VALUE} elements
+   */
+  public static Stream<ZonedDateTime> rangeClosed(ZonedDateTime startInclusive, ZonedDateTime endInclusive, Duration step) {
+    return durationRange(startInclusive, endInclusive, step, true, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<ZonedDateTime>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * <p>The element at index {@code n} is
+   * {@code startInclusive.plus(n * amountToAdd, unit)}. Time based
+   * units are applied to the instant, date based units to the local
+   * date-time, which is then resolved in the zone preferring the offset
+   * of {@code startInclusive}. If {@code startInclusive} is after
+   * {@code endExclusive} a decremental step is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, not {@code null}
+   * @return a sequential {@code Stream} for the range of {@code ZonedDateTime}
+   *         elements
+   * @throws IllegalArgumentException if {@code amountToAdd} is not positive
+   * @throws UnsupportedTemporalTypeException if {@code unit} is neither
+   *         date nor time based
+   */
+  public static Stream<ZonedDateTime> range(ZonedDateTime startInclusive, ZonedDateTime endExclusive, long amountToAdd, TemporalUnit unit) {
+    return unitRange(startInclusive, endExclusive, amountToAdd, unit, false, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a sequential ordered {@code Stream<ZonedDateTime>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * <p>The element at index {@code n} is
+   * {@code startInclusive.plus(n * amountToAdd, unit)}. Time based
+   * units are applied to the instant, date based units to the local
+   * date-time, which is then resolved in the zone preferring the offset
+   * of {@code startInclusive}. If {@code startInclusive} is after
+   * {@code endInclusive} a decremental step is performed instead.</p>
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, not {@code null}
+   * @return a sequential {@code Stream} for the range of {@code ZonedDateTime}
+   *         elements
+   * @throws IllegalArgumentException if {@code amountToAdd} is not positive
+   * @throws UnsupportedTemporalTypeException if {@code unit} is neither
+   *         date nor time based
+   */
+  public static Stream<ZonedDateTime> rangeClosed(ZonedDateTime startInclusive, ZonedDateTime endInclusive, long amountToAdd, TemporalUnit unit) {
+    return unitRange(startInclusive, endInclusive, amountToAdd, unit, true, SplitOptions.defaults(), false);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<ZonedDateTime>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code step}.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param step the size of the step, positive
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code ZonedDateTime}
+   *         elements
+   * @see #range(ZonedDateTime, ZonedDateTime, Duration)
+   */
+  public static Stream<ZonedDateTime> parallelRange(ZonedDateTime startInclusive, ZonedDateTime endExclusive, Duration step, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return durationRange(startInclusive, endExclusive, step, false, options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<ZonedDateTime>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code step}.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param step the size of the step, positive
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code ZonedDateTime}
+   *         elements
+   * @see #rangeClosed(ZonedDateTime, ZonedDateTime, Duration)
+   */
+  public static Stream<ZonedDateTime> parallelRangeClosed(ZonedDateTime startInclusive, ZonedDateTime endInclusive, Duration step, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return durationRange(startInclusive, endInclusive, step, true, options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<ZonedDateTime>} from
+   * {@code startInclusive} (inclusive) to {@code endExclusive}
+   * (exclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endExclusive the exclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, not {@code null}
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code ZonedDateTime}
+   *         elements
+   * @see #range(ZonedDateTime, ZonedDateTime, long, TemporalUnit)
+   */
+  public static Stream<ZonedDateTime> parallelRange(ZonedDateTime startInclusive, ZonedDateTime endExclusive, long amountToAdd, TemporalUnit unit, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return unitRange(startInclusive, endExclusive, amountToAdd, unit, false, options, true);
+  }
+
+  /**
+   * Returns a parallel ordered {@code Stream<ZonedDateTime>} from
+   * {@code startInclusive} (inclusive) to {@code endInclusive}
+   * (inclusive) by an incremental step of {@code amountToAdd}
+   * {@code unit}s.
+   *
+   * @param startInclusive the (inclusive) initial value
+   * @param endInclusive the inclusive bound
+   * @param amountToAdd the size of the step, positive
+   * @param unit the unit of the step, not {@code null}
+   * @param options how fine grained the range is split
+   * @return a parallel {@code Stream} for the range of {@code ZonedDateTime}
+   *         elements
+   * @see #rangeClosed(ZonedDateTime, ZonedDateTime, long, TemporalUnit)
+   */
+  public static Stream<ZonedDateTime> parallelRangeClosed(ZonedDateTime startInclusive, ZonedDateTime endInclusive, long amountToAdd, TemporalUnit unit, SplitOptions options) {
+    Objects.requireNonNull(options, "options");
+    return unitRange(startInclusive, endInclusive, amountToAdd, unit, true, options, true);
+  }
+
+  private static Stream<ZonedDateTime> durationRange(ZonedDateTime start, ZonedDateTime end, Duration step, boolean inclusive, SplitOptions options, boolean parallel) {
+    Instant startInstant = start.toInstant();
+    Instant endInstant = end.toInstant();
+    InstantProgression progression = InstantProgression.of(startInstant, endInstant, step);
+    long size = progression.count(endInstant, inclusive);
+    ZoneTransitions transitions = ZoneTransitions.of(start.getZone(), startInstant, endInstant);
+    return StreamSupport.stream(new DurationSpliterator(progression, transitions, 0L, size, options.minimumSplitSize(size)), parallel);
+  }
+
+  private static Stream<ZonedDateTime> unitRange(ZonedDateTime start, ZonedDateTime end, long amountToAdd, TemporalUnit unit, boolean inclusive, SplitOptions options, boolean parallel) {
+    Objects.requireNonNull(unit, "unit");
+    if (amountToAdd <= 0L) {
+      throw new IllegalArgumentException("amountToAdd must be positive but was: " + amountToAdd);
+    }
+    if (unit.isTimeBased()) {
+      return durationRange(start, end, unit.getDuration().multipliedBy(amountToAdd), inclusive, options, parallel);
+    }
+    if (!unit.isDateBased()) {
+      throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+    Objects.requireNonNull(end, "end");
+    ZoneTransitions transitions = ZoneTransitions.of(start.getZone(), start.toInstant(), end.toInstant());
+    long signedAmount = start.isAfter(end) ? -amountToAdd : amountToAdd;
+    LocalDateProgression progression = new LocalDateProgression(start, signedAmount, unit, transitions);
+    long size = progression.count(end, inclusive);
+    return StreamSupport.stream(new LocalDateTimeSpliterator(progression, 0L, size, options.minimumSplitSize(size)), parallel);
+  }
+
+  /**
+   * The offsets of a zone over a range of instants.
+   */
+  static final class ZoneTransitions {
+
+    /**
+     * Offsets are at most 18 hours, the cache covers this much more on
+     * either side so that every local date-time in the range can be
+     * resolved.
+     */
+    private static final long MARGIN_SECONDS = 2L * 24L * 60L * 60L;
+
+    private static final long MAX_OFFSET_SECONDS = 18L * 60L * 60L;
+
+    private final ZoneId zone;
+    /**
+     * Epoch seconds of the transitions in ascending order.
+     */
+    private final long[] transitions;
+    /**
+     * {@code offsets[i]} is valid before {@code transitions[i]}, has one
+     * more element than {@link #transitions}.
+     */
+    private final ZoneOffset[] offsets;
+
+    private ZoneTransitions(ZoneId zone, long[] transitions, ZoneOffset[] offsets) {
+      this.zone = zone;
+      this.transitions = transitions;
+      this.offsets = offsets;
+    }
+
+    static ZoneTransitions of(ZoneId zone, Instant start, Instant end) {
+      ZoneRules rules = zone.getRules();
+      Instant from = clamp(Math.min(start.getEpochSecond(), end.getEpochSecond()) - MARGIN_SECONDS);
+      long to = Math.max(start.getEpochSecond(), end.getEpochSecond()) + MARGIN_SECONDS;
+      if (rules.isFixedOffset()) {
+        return new ZoneTransitions(zone, new long[0], new ZoneOffset[] {rules.getOffset(from)});
+      }
+      List<ZoneOffsetTransition> found = new ArrayList<>();
+      ZoneOffsetTransition transition = rules.nextTransition(from);
+      while (transition != null && transition.toEpochSecond() <= to) {
+        found.add(transition);
+        transition = rules.nextTransition(transition.getInstant());
+      }
+      long[] transitions = new long[found.size()];
+      ZoneOffset[] offsets = new ZoneOffset[found.size() + 1];
+      offsets[0] = rules.getOffset(from);
+      for (int i = 0; i < transitions.length; i++) {
+        transitions[i] = found.get(i).toEpochSecond();
+        offsets[i + 1] = found.get(i).getOffsetAfter();
+      }
+      return new ZoneTransitions(zone, transitions, offsets);
+    }
+
+    private static Instant clamp(long epochSecond) {
+      return Instant.ofEpochSecond(Math.max(epochSecond, Instant.MIN.getEpochSecond()));
+    }
+
+    /**
+     * Returns the index of the offset valid at {@code epochSecond}.
+     */
+    private int segment(long epochSecond) {
+      int index = Arrays.binarySearch(this.transitions, epochSecond);
+      // the offset after a transition is valid at the transition
+      return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    ZonedDateTime atInstant(Instant instant) {
+      ZoneOffset offset = this.offsets[this.segment(instant.getEpochSecond())];
+      LocalDateTime local = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
+      return this.atOffset(local, offset);
+    }
+
+    /**
+     * Returns the earliest valid offset for a local date-time given as
+     * epoch second in UTC, {@code null} if the local date-time is in a gap.
+     */
+    ZoneOffset earliestValidOffset(long localSecond) {
+      int first = this.segment(localSecond - MAX_OFFSET_SECONDS);
+      int last = this.segment(localSecond + MAX_OFFSET_SECONDS);
+      for (int i = first; i <= last; i++) {
+        ZoneOffset offset = this.offsets[i];
+        if (this.segment(localSecond - offset.getTotalSeconds()) == i) {
+          return offset;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Creates an element from a local date-time and an offset taken from
+     * the cached transitions.
+     *
+     * <p>{@code ZonedDateTime} has no public factory method that trusts
+     * a given offset for a region based zone.
+     * {@link ZonedDateTime#ofLocal(LocalDateTime, ZoneId, ZoneOffset)}
+     * is the cheapest one, it keeps {@code local} instead of converting
+     * to an instant and back like {@code ofInstant} does on Java 8 and it
+     * does not consult the rules at all for zones that are offsets.</p>
+     */
+    ZonedDateTime atOffset(LocalDateTime local, ZoneOffset offset) {
+      // offset is valid for local, the preferred offset is therefore kept
+      return ZonedDateTime.ofLocal(local, this.zone, offset);
+    }
+
+    /**
+     * Resolves a local date-time the same way as
+     * {@link ZonedDateTime#ofLocal(LocalDateTime, ZoneId, ZoneOffset)}.
+     */
+    ZonedDateTime atLocal(LocalDateTime local, ZoneOffset preferredOffset) {
+      long localSecond = local.toEpochSecond(ZoneOffset.UTC);
+      int first = this.segment(localSecond - MAX_OFFSET_SECONDS);
+      int last = this.segment(localSecond + MAX_OFFSET_SECONDS);
+      ZoneOffset earliest = null;
+      for (int i = first; i <= last; i++) {
+        ZoneOffset offset = this.offsets[i];
+        if (this.segment(localSecond - offset.getTotalSeconds()) == i) {
+          if (offset.equals(preferredOffset)) {
+            return this.atOffset(local, offset);
+          }
+          if (earliest == null) {
+            earliest = offset;
+          }
+        }
+      }
+      if (earliest != null) {
+        // overlap without the preferred offset or a single valid offset
+        return this.atOffset(local, earliest);
+      }
+      // gap, move later by the length of the gap
+      for (int i = Math.max(first, 1); i <= last; i++) {
+        long transition = this.transitions[i - 1];
+        int before = this.offsets[i - 1].getTotalSeconds();
+        ZoneOffset after = this.offsets[i];
+        if (localSecond >= transition + before && localSecond < transition + after.getTotalSeconds()) {
+          return this.atOffset(local.plusSeconds(after.getTotalSeconds() - before), after);
+        }
+      }
+      throw new IllegalStateException("no offset for " + local + " in " + this.zone);
+    }
+
+  }
+
+  /**
+   * An origin and a step of a date based unit applied to the local
+   * date-time.
+   */
+  static final class LocalDateProgression {
+
+    private final LocalDateTime origin;
+    private final ZoneOffset preferredOffset;
+    /**
+     * Negative for a decremental step.
+     */
+    private final long amount;
+    private final TemporalUnit unit;
+    private final ZoneTransitions transitions;
+
+    LocalDateProgression(ZonedDateTime origin, long amount, TemporalUnit unit, ZoneTransitions transitions) {
+      this.origin = origin.toLocalDateTime();
+      this.preferredOffset = origin.getOffset();
+      this.amount = amount;
+      this.unit = unit;
+      this.transitions = transitions;
+    }
+
+    boolean isAscending() {
+      return this.amount > 0L;
+    }
+
+    ZonedDateTime element(long index) {
+      LocalDateTime local = this.origin.plus(Math.multiplyExact(index, this.amount), this.unit);
+      return this.transitions.atLocal(local, this.preferredOffset);
+    }
+
+    private boolean isInRange(long index, ZonedDateTime end, boolean inclusive) {
+      ZonedDateTime element;
+      try {
+        element = this.element(index);
+      } catch (DateTimeException | ArithmeticException e) {
+        return false;
+      }
+      int comparison = element.toInstant().compareTo(end.toInstant());
+      if (!this.isAscending()) {
+        comparison = -comparison;
+      }
+      return inclusive ? comparison <= 0 : comparison < 0;
+    }
+
+    /**
+     * Counts the elements up to {@code end}.
+     */
+    long count(ZonedDateTime end, boolean inclusive) {
+      LocalDateTime endLocal = end.withZoneSameInstant(this.transitions.zone).toLocalDateTime();
+      // local distance is off by at most one because of the offsets
+      long count = this.unit.between(this.origin, endLocal) / this.amount;
+      if (count < 0L) {
+        count = 0L;
+      }
+      while (count > 0L && !this.isInRange(count - 1L, end, inclusive)) {
+        count -= 1L;
+      }
+      while (this.isInRange(count, end, inclusive)) {
+        count += 1L;
+      }
+      return count;
+    }
+
+  }
+
+  static final class DurationSpliterator extends IndexSpliterator<ZonedDateTime> {
+
+    private final InstantProgression progression;
+    private final ZoneTransitions transitions;
+
+    DurationSpliterator(InstantProgression progression, ZoneTransitions transitions, long index, long fence, long minimumSplitSize) {
+      super(index, fence, minimumSplitSize);
+      this.progression = progression;
+      this.transitions = transitions;
+    }
+
+    @Override
+    ZonedDateTime element(long index) {
+      return this.transitions.atInstant(this.progression.instant(index));
+    }
+
+    @Override
+    Spliterator<ZonedDateTime> newInstance(long index, long fence) {
+      return new DurationSpliterator(this.progression, this.transitions, index, fence, this.minimumSplitSize);
+    }
+
+    @Override
+    public int characteristics() {
+      if (this.progression.isAscending()) {
+        return super.characteristics() | SORTED;
+      }
+      return super.characteristics();
+    }
+
+    @Override
+    public Comparator<? super ZonedDateTime> getComparator() {
+      if (this.progression.isAscending()) {
+        // natural order
+        return null;
+      }
+      throw new IllegalStateException();
+    }
+
+  }
+
+  static final class LocalDateTimeSpliterator extends IndexSpliterator<ZonedDateTime> {
+
+    private final LocalDateProgression progression;
+
+    LocalDateTimeSpliterator(LocalDateProgression progression, long index, long fence, long minimumSplitSize) {
+      super(index, fence, minimumSplitSize);
+      this.progression = progression;
+    }
+
+    @Override
+    ZonedDateTime element(long index) {
+      return this.progression.element(index);
+    }
+
+    @Override
+    Spliterator<ZonedDateTime> newInstance(long index, long fence) {
+      return new LocalDateTimeSpliterator(this.progression, index, fence, this.minimumSplitSize);
+    }
+
+    @Override
+    public int characteristics() {
+      if (this.progression.isAscending()) {
+        return super.characteristics() | SORTED;
+      }
+      return super.characteristics();
+    }
+
+    @Override
+    public Comparator<? super ZonedDateTime> getComparator() {
+      if (this.progression.isAscending()) {
+        // natural order
+        return null;
+      }
+      throw new IllegalStateException();
+    }
+
+  }
+
+}
@@ -0,0 +1,90 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+
+public class BucketCollectorsTest {
+
+  @Test
+  public void countingByDay() {
+    LocalDateRange range = LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 4));
+    LocalDateLongBuckets buckets = Stream.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 3), LocalDate.of(2016, 1, 1))
+      .collect(BucketCollectors.countingByDay(range, Function.identity()));
+    assertEquals(range, buckets.getRange());
+    assertArrayEquals(new long[] {2L, 0L, 1L}, buckets.toArray());
+    assertEquals(2L, buckets.get(LocalDate.of(2016, 1, 1)));
+    assertTrue(buckets.isEmpty(LocalDate.of(2016, 1, 2)));
+    assertFalse(buckets.isEmpty(LocalDate.of(2016, 1, 3)));
+    assertThrows(IllegalArgumentException.class, () -> buckets.get(LocalDate.of(2016, 1, 4)));
+  }
+
+  @Test
+  public void outsideOfRange() {
+    LocalDateRange range = LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 4));
+    assertThrows(IllegalArgumentException.class, () -> Stream.of(LocalDate.of(2015, 12, 31))
+      .collect(BucketCollectors.countingByDay(range, Function.identity())));
+  }
+
+  @Test
+  public void parallelCountingByMonth() {
+    LocalDate start = LocalDate.of(2000, 1, 1);
+    LocalDate end = LocalDate.of(2016, 1, 1);
+    YearMonthRange range = YearMonthRange.of(YearMonth.from(start), YearMonth.from(end));
+    YearMonthLongBuckets buckets = LocalDateStreams.range(start, end)
+      .parallel()
+      .collect(BucketCollectors.countingByMonth(range, YearMonth::from));
+    for (YearMonth month : (Iterable<YearMonth>) range.stream()::iterator) {
+      assertEquals(month.lengthOfMonth(), buckets.get(month));
+    }
+  }
+
+  @Test
+  public void sumMinMax() {
+    LocalDateRange range = LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2017, 1, 1));
+    List<LocalDate> dates = new ArrayList<>();
+    LocalDateStreams.range(LocalDate.of(2016, 1, 1), LocalDate.of(2017, 1, 1)).forEach(dates::add);
+
+    YearMonthRange months = YearMonthRange.of(YearMonth.of(2016, 1), YearMonth.of(2017, 1));
+    YearMonthLongBuckets sum = dates.parallelStream()
+      .collect(BucketCollectors.summingLongByMonth(months, YearMonth::from, LocalDate::getDayOfMonth));
+    assertEquals(31L * 32L / 2L, sum.get(YearMonth.of(2016, 1)));
+    assertEquals(29L * 30L / 2L, sum.get(YearMonth.of(2016, 2)));
+
+    YearMonthLongBuckets min = dates.parallelStream()
+      .collect(BucketCollectors.minLongByMonth(months, YearMonth::from, LocalDate::getDayOfMonth));
+    YearMonthLongBuckets max = dates.parallelStream()
+      .collect(BucketCollectors.maxLongByMonth(months, YearMonth::from, LocalDate::getDayOfMonth));
+    assertEquals(1L, min.get(YearMonth.of(2016, 2)));
+    assertEquals(29L, max.get(YearMonth.of(2016, 2)));
+
+    LocalDateLongBuckets byDay = dates.stream()
+      .collect(BucketCollectors.summingLongByDay(range, Function.identity(), LocalDate::getDayOfYear));
+    assertEquals(366L, byDay.get(LocalDate.of(2016, 12, 31)));
+  }
+
+  @Test
+  public void reducingAndForEach() {
+    LocalDateRange range = LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 4));
+    LocalDateLongBuckets buckets = Stream.of(3L, 5L, 7L)
+      .collect(BucketCollectors.reducingLongByDay(range, (value) -> LocalDate.of(2016, 1, value == 7L ? 3 : 1), (value) -> value, (a, b) -> a * b));
+    List<String> visited = new ArrayList<>();
+    buckets.forEach((date, value) -> visited.add(date + "=" + value));
+    assertEquals(Arrays.asList("2016-01-01=15", "2016-01-03=7"), visited);
+  }
+
+}
@@ -0,0 +1,123 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+
+public class BusinessCalendarTest {
+
+  private static final LocalDateRange COVERAGE = LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2018, 1, 1));
+
+  private static BusinessCalendar calendar() {
+    return BusinessCalendar.of(COVERAGE, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY),
+            Arrays.asList(LocalDate.of(2016, 12, 26), LocalDate.of(2017, 1, 2), LocalDate.of(2020, 1, 1)));
+  }
+
+  private static List<LocalDate> expectedBusinessDays(BusinessCalendar calendar, LocalDate start, LocalDate end) {
+    return LocalDateStreams.range(start, end)
+            .filter(calendar::isBusinessDay)
+            .collect(Collectors.toList());
+  }
+
+  @Test
+  public void isBusinessDay() {
+    BusinessCalendar calendar = calendar();
+    assertTrue(calendar.isBusinessDay(LocalDate.of(2016, 12, 23)));
+    assertFalse(calendar.isBusinessDay(LocalDate.of(2016, 12, 24)));
+    assertFalse(calendar.isBusinessDay(LocalDate.of(2016, 12, 26)));
+    assertTrue(calendar.isBusinessDay(LocalDate.of(2016, 12, 27)));
+    assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(LocalDate.of(2018, 1, 1)));
+    assertEquals(COVERAGE, calendar.getCoverage());
+  }
+
+  @Test
+  public void countBusinessDays() {
+    BusinessCalendar calendar = calendar();
+    // 2016-12-19 is a Monday
+    assertEquals(5, calendar.countBusinessDays(LocalDate.of(2016, 12, 19), LocalDate.of(2016, 12, 26)));
+    assertEquals(4, calendar.countBusinessDays(LocalDate.of(2016, 12, 26), LocalDate.of(2017, 1, 2)));
+    assertEquals(-4, calendar.countBusinessDays(LocalDate.of(2017, 1, 2), LocalDate.of(2016, 12, 26)));
+    assertEquals(0, calendar.countBusinessDays(LocalDate.of(2016, 12, 24), LocalDate.of(2016, 12, 24)));
+    for (int i = 0; i < 200; i += 7) {
+      LocalDate start = LocalDate.of(2016, 1, 1).plusDays(i);
+      LocalDate end = LocalDate.of(2017, 12, 31).minusDays(i * 2);
+      assertEquals(expectedBusinessDays(calendar, start, end).size(), calendar.countBusinessDays(start, end));
+    }
+    assertEquals(expectedBusinessDays(calendar, COVERAGE.getStartInclusive(), COVERAGE.getEndExclusive()).size(),
+            calendar.countBusinessDays(COVERAGE.getStartInclusive(), COVERAGE.getEndExclusive()));
+  }
+
+  @Test
+  public void plusBusinessDays() {
+    BusinessCalendar calendar = calendar();
+    LocalDate friday = LocalDate.of(2016, 12, 23);
+    assertEquals(friday, calendar.plusBusinessDays(friday, 0L));
+    assertEquals(LocalDate.of(2016, 12, 27), calendar.plusBusinessDays(friday, 1L));
+    assertEquals(LocalDate.of(2017, 1, 3), calendar.plusBusinessDays(friday, 5L));
+    assertEquals(friday, calendar.plusBusinessDays(LocalDate.of(2016, 12, 27), -1L));
+    // from a non business day
+    assertEquals(LocalDate.of(2016, 12, 27), calendar.plusBusinessDays(LocalDate.of(2016, 12, 24), 1L));
+    assertEquals(friday, calendar.plusBusinessDays(LocalDate.of(2016, 12, 24), -1L));
+
+    List<LocalDate> all = expectedBusinessDays(calendar, COVERAGE.getStartInclusive(), COVERAGE.getEndExclusive());
+    LocalDate first = all.get(0);
+    for (int i = 0; i < all.size(); i += 13) {
+      assertEquals(all.get(i), calendar.plusBusinessDays(first, i));
+      assertEquals(first, calendar.plusBusinessDays(all.get(i), -i));
+    }
+    LocalDate last = all.get(all.size() - 1);
+    assertThrows(IllegalArgumentException.class, () -> calendar.plusBusinessDays(last, 1L));
+    assertThrows(IllegalArgumentException.class, () -> calendar.plusBusinessDays(first, -1L));
+  }
+
+  @Test
+  public void businessDays() {
+    BusinessCalendar calendar = calendar();
+    LocalDate start = LocalDate.of(2016, 12, 24);
+    LocalDate end = LocalDate.of(2017, 1, 7);
+    assertEquals(expectedBusinessDays(calendar, start, end), calendar.businessDays(start, end).collect(Collectors.toList()));
+    assertEquals(Collections.emptyList(), calendar.businessDays(start, start.plusDays(2L)).collect(Collectors.toList()));
+    assertThrows(IllegalArgumentException.class, () -> calendar.businessDays(end, start));
+  }
+
+  @Test
+  public void businessDaysParallel() {
+    BusinessCalendar calendar = calendar();
+    LocalDate start = COVERAGE.getStartInclusive();
+    LocalDate end = COVERAGE.getEndExclusive();
+    assertEquals(expectedBusinessDays(calendar, start, end), calendar.businessDays(start, end).parallel().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void split() {
+    BusinessCalendar calendar = calendar();
+    LocalDate start = LocalDate.of(2016, 12, 19);
+    LocalDate end = LocalDate.of(2017, 1, 7);
+    Spliterator<LocalDate> spliterator = calendar.businessDays(start, end).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+    assertEquals(13L, spliterator.getExactSizeIfKnown());
+
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertEquals(6L, prefix.getExactSizeIfKnown());
+    assertEquals(7L, spliterator.getExactSizeIfKnown());
+    prefix.forEachRemaining((date) -> { });
+    spliterator.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 12, 28), date));
+  }
+
+}
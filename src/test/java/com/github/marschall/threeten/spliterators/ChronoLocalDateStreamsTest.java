@@ -0,0 +1,123 @@
+package com.github.marschall.threeten.spliterators;
+
+import static java.time.temporal.ChronoField.YEAR;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.HijrahChronology;
+import java.time.chrono.HijrahDate;
+import java.time.chrono.JapaneseDate;
+import java.time.chrono.ThaiBuddhistDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class ChronoLocalDateStreamsTest {
+
+  private static <D extends ChronoLocalDate> List<D> expected(D start, D end, long amount, boolean inclusive, ChronoUnit unit) {
+    List<D> expected = new ArrayList<>();
+    boolean ascending = !start.isAfter(end);
+    for (long i = 0L; ; i++) {
+      @SuppressWarnings("unchecked")
+      D current = (D) (ascending ? start.plus(i * amount, unit) : start.minus(i * amount, unit));
+      int comparison = current.compareTo(end);
+      if (!ascending) {
+        comparison = -comparison;
+      }
+      if (inclusive ? comparison > 0 : comparison >= 0) {
+        return expected;
+      }
+      expected.add(current);
+    }
+  }
+
+  @Test
+  public void japaneseAcrossEras() {
+    JapaneseDate start = JapaneseDate.from(LocalDate.of(2019, 4, 1));
+    JapaneseDate end = JapaneseDate.from(LocalDate.of(2019, 6, 1));
+    List<JapaneseDate> actual = ChronoLocalDateStreams.range(start, end).collect(Collectors.toList());
+    assertEquals(expected(start, end, 1L, false, DAYS), actual);
+    assertEquals(61, actual.size());
+    assertEquals(expected(start, end, 1L, true, DAYS), ChronoLocalDateStreams.rangeClosed(start, end).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void descending() {
+    ThaiBuddhistDate start = ThaiBuddhistDate.from(LocalDate.of(2017, 3, 1));
+    ThaiBuddhistDate end = ThaiBuddhistDate.from(LocalDate.of(2017, 1, 1));
+    assertEquals(expected(start, end, 1L, false, DAYS), ChronoLocalDateStreams.range(start, end).collect(Collectors.toList()));
+    assertThrows(IllegalStateException.class, () -> ChronoLocalDateStreams.range(start, end).spliterator().getComparator());
+  }
+
+  @Test
+  public void hijrahParallel() {
+    HijrahDate start = HijrahDate.of(1400, 1, 1);
+    HijrahDate end = HijrahDate.of(1440, 1, 1);
+    List<HijrahDate> sequential = ChronoLocalDateStreams.range(start, end).collect(Collectors.toList());
+    List<HijrahDate> parallel = ChronoLocalDateStreams.parallelRange(start, end, SplitOptions.minimumChunkSize(100L))
+            .collect(Collectors.toList());
+    assertEquals(sequential, parallel);
+    assertEquals(end.toEpochDay() - start.toEpochDay(), sequential.size());
+    Spliterator<HijrahDate> spliterator = ChronoLocalDateStreams.range(start, end).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SORTED));
+  }
+
+  @Test
+  public void hijrahEndOfRange() {
+    HijrahChronology chronology = HijrahChronology.INSTANCE;
+    int maximumYear = Math.toIntExact(chronology.range(YEAR).getMaximum());
+    HijrahDate last = chronology.date(maximumYear, 12, 1).with(lastDayOfMonth());
+    assertEquals(11L, ChronoLocalDateStreams.rangeClosed(last.minus(10L, DAYS), last).count());
+    assertEquals(last, ChronoLocalDateStreams.rangeClosed(last.minus(10L, DAYS), last).reduce((a, b) -> b).get());
+  }
+
+  @Test
+  public void hijrahMonthsToEndOfRange() {
+    HijrahChronology chronology = HijrahChronology.INSTANCE;
+    int maximumYear = Math.toIntExact(chronology.range(YEAR).getMaximum());
+    HijrahDate first = chronology.date(maximumYear, 9, 1);
+    HijrahDate last = chronology.date(maximumYear, 12, 1).with(lastDayOfMonth());
+    List<HijrahDate> closed = ChronoLocalDateStreams.monthRangeClosed(first, last).collect(Collectors.toList());
+    assertEquals(Arrays.asList(first, first.plus(1L, MONTHS), first.plus(2L, MONTHS), first.plus(3L, MONTHS)), closed);
+    assertEquals(closed, ChronoLocalDateStreams.monthRange(first, last).collect(Collectors.toList()));
+
+    int minimumYear = Math.toIntExact(chronology.range(YEAR).getMinimum());
+    HijrahDate start = chronology.date(minimumYear, 4, 1);
+    HijrahDate end = chronology.date(minimumYear, 1, 1);
+    assertEquals(Arrays.asList(start, start.minus(1L, MONTHS), start.minus(2L, MONTHS), end),
+            ChronoLocalDateStreams.monthRangeClosed(start, end).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void months() {
+    HijrahDate start = HijrahDate.of(1438, 1, 30);
+    HijrahDate end = HijrahDate.of(1440, 3, 29);
+    assertEquals(expected(start, end, 1L, false, MONTHS), ChronoLocalDateStreams.monthRange(start, end).collect(Collectors.toList()));
+    assertEquals(expected(start, end, 1L, true, MONTHS), ChronoLocalDateStreams.monthRangeClosed(start, end).collect(Collectors.toList()));
+    assertEquals(expected(end, start, 1L, false, MONTHS), ChronoLocalDateStreams.monthRange(end, start).collect(Collectors.toList()));
+
+    LocalDate isoStart = LocalDate.of(2016, 1, 31);
+    LocalDate isoEnd = LocalDate.of(2017, 2, 28);
+    List<LocalDate> parallel = ChronoLocalDateStreams.monthRangeClosed(isoStart, isoEnd).parallel().collect(Collectors.toList());
+    assertEquals(expected(isoStart, isoEnd, 1L, true, MONTHS), parallel);
+    assertEquals(14, parallel.size());
+  }
+
+  @Test
+  public void differentChronologies() {
+    assertThrows(IllegalArgumentException.class,
+            () -> ChronoLocalDateStreams.range(LocalDate.of(2017, 1, 1), JapaneseDate.of(2018, 1, 1)));
+  }
+
+}
@@ -0,0 +1,112 @@
+package com.github.marschall.threeten.spliterators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentRangesTest {
+
+  private static final LocalDateRange JANUARY = LocalDateRange.of(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 2, 1));
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() {
+    this.executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  public void tearDown() throws InterruptedException {
+    this.executor.shutdownNow();
+    assertTrue(this.executor.awaitTermination(10L, TimeUnit.SECONDS));
+  }
+
+  private static void sleepRandomly() {
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  public void forEachConcurrently() throws InterruptedException {
+    Set<LocalDate> processed = ConcurrentHashMap.newKeySet();
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maximumInFlight = new AtomicInteger();
+    ConcurrentRanges.forEachConcurrently(JANUARY, 4, this.executor, date -> {
+      int current = inFlight.incrementAndGet();
+      maximumInFlight.accumulateAndGet(current, Math::max);
+      sleepRandomly();
+      processed.add(date);
+      inFlight.decrementAndGet();
+    });
+    assertEquals(JANUARY.stream().collect(Collectors.toSet()), processed);
+    assertTrue(maximumInFlight.get() <= 4);
+  }
+
+  @Test
+  public void mapConcurrentlyOrdered() throws InterruptedException {
+    List<Integer> results = new ArrayList<>();
+    ConcurrentRanges.mapConcurrently(JANUARY.spliterator(), 8, this.executor, date -> {
+      sleepRandomly();
+      return date.getDayOfMonth();
+    }, results::add);
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 1; i <= 31; i++) {
+      expected.add(i);
+    }
+    assertEquals(expected, results);
+  }
+
+  @Test
+  public void mapConcurrentlyUnordered() throws InterruptedException {
+    List<Integer> results = new ArrayList<>();
+    ConcurrentRanges.mapConcurrentlyUnordered(JANUARY.spliterator(), 8, this.executor, date -> {
+      sleepRandomly();
+      return date.getDayOfMonth();
+    }, results::add);
+    assertEquals(31, results.size());
+    assertEquals(31, results.stream().distinct().count());
+  }
+
+  @Test
+  public void failFast() {
+    IllegalStateException failure = new IllegalStateException("failed");
+    AtomicInteger started = new AtomicInteger();
+    IllegalStateException thrown = assertThrows(IllegalStateException.class,
+            () -> ConcurrentRanges.forEachConcurrently(JANUARY, 2, this.executor, date -> {
+              started.incrementAndGet();
+              if (date.getDayOfMonth() == 3) {
+                throw failure;
+              }
+              sleepRandomly();
+            }));
+    assertSame(failure, thrown);
+    assertTrue(started.get() < 31);
+  }
+
+  @Test
+  public void invalidConcurrency() {
+    assertThrows(IllegalArgumentException.class,
+            () -> ConcurrentRanges.forEachConcurrently(JANUARY, 0, this.executor, date -> { }));
+  }
+
+}
@@ -0,0 +1,160 @@
+package com.github.marschall.threeten.spliterators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class CronStreamsTest {
+
+  private static final ZoneId ZURICH = ZoneId.of("Europe/Zurich");
+
+  private static Instant zurich(int year, int month, int day, int hour, int minute) {
+    return LocalDateTime.of(year, month, day, hour, minute).atZone(ZURICH).toInstant();
+  }
+
+  @Test
+  public void businessHours() {
+    // Monday 2017-01-02 to Monday 2017-01-09
+    List<ZonedDateTime> fireTimes = CronStreams.fireTimes("*/15 9-17 * * MON-FRI",
+            zurich(2017, 1, 2, 0, 0), zurich(2017, 1, 9, 0, 0), ZURICH)
+            .collect(Collectors.toList());
+    assertEquals(5 * 9 * 4, fireTimes.size());
+    assertEquals(ZonedDateTime.of(2017, 1, 2, 9, 0, 0, 0, ZURICH), fireTimes.get(0));
+    assertEquals(ZonedDateTime.of(2017, 1, 6, 17, 45, 0, 0, ZURICH), fireTimes.get(fireTimes.size() - 1));
+  }
+
+  @Test
+  public void gapIsSkipped() {
+    List<ZonedDateTime> fireTimes = CronStreams.fireTimes("30 2 * * *",
+            zurich(2017, 3, 1, 0, 0), zurich(2017, 4, 1, 0, 0), ZURICH)
+            .collect(Collectors.toList());
+    assertEquals(30, fireTimes.size());
+    assertEquals(ZonedDateTime.of(2017, 3, 25, 2, 30, 0, 0, ZURICH), fireTimes.get(24));
+    assertEquals(ZonedDateTime.of(2017, 3, 27, 2, 30, 0, 0, ZURICH), fireTimes.get(25));
+  }
+
+  @Test
+  public void overlapFiresOnce() {
+    List<ZonedDateTime> fireTimes = CronStreams.fireTimes("30 2 * * *",
+            zurich(2017, 10, 29, 0, 0), zurich(2017, 10, 30, 0, 0), ZURICH)
+            .collect(Collectors.toList());
+    assertEquals(1, fireTimes.size());
+    assertEquals(ZoneOffset.ofHours(2), fireTimes.get(0).getOffset());
+  }
+
+  @Test
+  public void dayOfMonthOrDayOfWeek() {
+    List<ZonedDateTime> fireTimes = CronStreams.fireTimes("0 0 13 * FRI",
+            zurich(2017, 1, 1, 0, 0), zurich(2017, 2, 1, 0, 0), ZURICH)
+            .collect(Collectors.toList());
+    // Fridays 6, 13, 20, 27
+    assertEquals(4, fireTimes.size());
+    fireTimes = CronStreams.fireTimes("0 0 12 * FRI",
+            zurich(2017, 1, 1, 0, 0), zurich(2017, 2, 1, 0, 0), ZURICH)
+            .collect(Collectors.toList());
+    assertEquals(5, fireTimes.size());
+    fireTimes = CronStreams.fireTimes("0 0 * * 7",
+            zurich(2017, 1, 1, 0, 0), zurich(2017, 2, 1, 0, 0), ZURICH)
+            .collect(Collectors.toList());
+    assertEquals(5, fireTimes.size());
+    for (ZonedDateTime fireTime : fireTimes) {
+      assertEquals(DayOfWeek.SUNDAY, fireTime.getDayOfWeek());
+    }
+  }
+
+  @Test
+  public void seconds() {
+    Instant start = Instant.parse("2017-01-01T00:00:00Z");
+    assertEquals(Arrays.asList(start, start.plusSeconds(20L), start.plusSeconds(40L)),
+            CronStreams.fireTimes("*/20 * * * * *", start, start.plusSeconds(60L), ZoneOffset.UTC)
+            .map(ZonedDateTime::toInstant)
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void bounds() {
+    Instant start = Instant.parse("2017-01-01T00:00:00.5Z");
+    long[] epochSeconds = CronStreams.fireEpochSeconds("* * * * *", start, start.plusSeconds(120L), ZoneOffset.UTC)
+            .toArray();
+    assertEquals(2, epochSeconds.length);
+    assertEquals(start.getEpochSecond() + 60L, epochSeconds[0]);
+    assertEquals(start.getEpochSecond() + 120L, epochSeconds[1]);
+    assertEquals(0L, CronStreams.fireEpochSeconds("* * * * *", start, start, ZoneOffset.UTC).count());
+  }
+
+  @Test
+  public void macros() {
+    assertEquals(2L, CronStreams.fireTimes("@yearly",
+            zurich(2017, 1, 1, 0, 0), zurich(2019, 1, 1, 0, 0), ZURICH).count());
+    assertEquals(24L, CronStreams.fireTimes("@hourly",
+            zurich(2017, 1, 1, 0, 0), zurich(2017, 1, 2, 0, 0), ZURICH).count());
+  }
+
+  @Test
+  public void epochSecondsMatchFireTimes() {
+    Instant start = zurich(2017, 3, 20, 0, 0);
+    Instant end = zurich(2017, 11, 5, 0, 0);
+    String expression = "0 */7 1-3,22 * *";
+    long[] expected = CronStreams.fireTimes(expression, start, end, ZURICH)
+            .mapToLong(ZonedDateTime::toEpochSecond)
+            .toArray();
+    assertTrue(expected.length > 0);
+    assertEquals(Arrays.toString(expected),
+            Arrays.toString(CronStreams.fireEpochSeconds(expression, start, end, ZURICH).toArray()));
+  }
+
+  @Test
+  public void parallel() {
+    Instant start = zurich(2016, 1, 1, 0, 0);
+    Instant end = zurich(2018, 1, 1, 0, 0);
+    String expression = "15 3,4 */2 * *";
+    List<ZonedDateTime> sequential = CronStreams.fireTimes(expression, start, end, ZURICH)
+            .collect(Collectors.toList());
+    List<ZonedDateTime> parallel = CronStreams.fireTimes(expression, start, end, ZURICH)
+            .parallel()
+            .collect(Collectors.toList());
+    assertEquals(sequential, parallel);
+  }
+
+  @Test
+  public void trySplit() {
+    Spliterator<ZonedDateTime> suffix = CronStreams.fireTimes("0 12 * * *",
+            zurich(2017, 1, 1, 0, 0), zurich(2017, 1, 11, 0, 0), ZURICH)
+            .spliterator();
+    assertTrue(suffix.hasCharacteristics(Spliterator.SORTED));
+    assertTrue(suffix.tryAdvance(fireTime -> { }));
+    Spliterator<ZonedDateTime> prefix = suffix.trySplit();
+    assertNotNull(prefix);
+    List<ZonedDateTime> fireTimes = new ArrayList<>();
+    prefix.forEachRemaining(fireTimes::add);
+    suffix.forEachRemaining(fireTimes::add);
+    assertEquals(9, fireTimes.size());
+    assertEquals(ZonedDateTime.of(2017, 1, 2, 12, 0, 0, 0, ZURICH), fireTimes.get(0));
+  }
+
+  @Test
+  public void invalidExpressions() {
+    Instant now = Instant.parse("2017-01-01T00:00:00Z");
+    for (String expression : Arrays.asList("* * * *", "60 * * * *", "* 24 * * *", "* * 0 * *",
+            "* * * 13 *", "* * * * 8", "5-1 * * * *", "*/0 * * * *", "x * * * *", "* * * * * * *")) {
+      assertThrows(IllegalArgumentException.class,
+              () -> CronStreams.fireTimes(expression, now, now, ZoneOffset.UTC), expression);
+    }
+  }
+
+}
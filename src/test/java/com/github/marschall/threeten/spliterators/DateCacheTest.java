@@ -0,0 +1,106 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+
+public class DateCacheTest {
+
+  private static final LocalDate START = LocalDate.of(2016, 1, 15);
+  private static final LocalDate END = LocalDate.of(2017, 2, 18);
+
+  @Test
+  public void localDateHit() {
+    DateCache cache = DateCache.of(LocalDateRange.of(START, END));
+    LocalDate start = LocalDate.of(2016, 2, 27);
+    LocalDate end = LocalDate.of(2016, 12, 1);
+
+    List<LocalDate> first = LocalDateStreams.range(start, end, cache).collect(Collectors.toList());
+    List<LocalDate> second = LocalDateStreams.range(start, end, cache).parallel().collect(Collectors.toList());
+    assertEquals(LocalDateStreams.range(start, end).collect(Collectors.toList()), first);
+    assertEquals(first, second);
+    for (int i = 0; i < first.size(); i++) {
+      assertSame(first.get(i), second.get(i));
+    }
+    assertEquals(2L, cache.getHitCount());
+    assertEquals(0L, cache.getMissCount());
+
+    assertEquals(LocalDateStreams.rangeClosed(end, start).collect(Collectors.toList()),
+            LocalDateStreams.rangeClosed(end, start, cache).collect(Collectors.toList()));
+    // whole window
+    assertEquals(LocalDateStreams.range(START, END).collect(Collectors.toList()),
+            LocalDateStreams.range(START, END, cache).collect(Collectors.toList()));
+    assertEquals(LocalDateStreams.range(END.minusDays(1L), START.minusDays(1L)).collect(Collectors.toList()),
+            LocalDateStreams.range(END.minusDays(1L), START.minusDays(1L), cache).collect(Collectors.toList()));
+    assertEquals(5L, cache.getHitCount());
+  }
+
+  @Test
+  public void localDateMiss() {
+    DateCache cache = DateCache.of(LocalDateRange.of(START, END));
+    LocalDate start = START.minusDays(1L);
+    List<LocalDate> first = LocalDateStreams.range(start, END, cache).collect(Collectors.toList());
+    List<LocalDate> second = LocalDateStreams.range(start, END, cache).collect(Collectors.toList());
+    assertEquals(LocalDateStreams.range(start, END).collect(Collectors.toList()), first);
+    assertNotSame(first.get(1), second.get(1));
+    assertEquals(LocalDateStreams.rangeClosed(START, END).collect(Collectors.toList()),
+            LocalDateStreams.rangeClosed(START, END, cache).collect(Collectors.toList()));
+    assertEquals(0L, cache.getHitCount());
+    assertEquals(3L, cache.getMissCount());
+  }
+
+  @Test
+  public void yearMonth() {
+    DateCache cache = DateCache.of(LocalDateRange.of(START, END));
+    YearMonth start = YearMonth.of(2016, 1);
+    YearMonth end = YearMonth.of(2017, 2);
+    List<YearMonth> first = YearMonthStreams.rangeClosed(start, end, cache).collect(Collectors.toList());
+    List<YearMonth> second = YearMonthStreams.rangeClosed(end, start, cache).collect(Collectors.toList());
+    assertEquals(YearMonthStreams.rangeClosed(start, end).collect(Collectors.toList()), first);
+    assertEquals(YearMonthStreams.rangeClosed(end, start).collect(Collectors.toList()), second);
+    assertSame(first.get(0), second.get(second.size() - 1));
+    assertEquals(2L, cache.getHitCount());
+
+    assertEquals(YearMonthStreams.rangeClosed(start, end.plusMonths(1L)).collect(Collectors.toList()),
+            YearMonthStreams.rangeClosed(start, end.plusMonths(1L), cache).collect(Collectors.toList()));
+    assertEquals(YearMonthStreams.range(start.minusMonths(1L), end).collect(Collectors.toList()),
+            YearMonthStreams.range(start.minusMonths(1L), end, cache).collect(Collectors.toList()));
+    assertEquals(2L, cache.getMissCount());
+  }
+
+  @Test
+  public void split() {
+    DateCache cache = DateCache.of(LocalDateRange.of(START, END));
+    Spliterator<LocalDate> spliterator = LocalDateStreams.range(START, START.plusDays(10L), cache).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    assertEquals(5L, prefix.getExactSizeIfKnown());
+    spliterator.tryAdvance((date) -> assertEquals(START.plusDays(5L), date));
+  }
+
+  @Test
+  public void emptyWindow() {
+    DateCache cache = DateCache.of(LocalDateRange.of(START, START));
+    assertEquals(1L, LocalDateStreams.rangeClosed(START, START, cache).count());
+    assertEquals(1L, YearMonthStreams.rangeClosed(YearMonth.from(START), YearMonth.from(START), cache).count());
+    assertEquals(2L, cache.getMissCount());
+  }
+
+  @Test
+  public void windowTooLarge() {
+    assertThrows(IllegalArgumentException.class, () -> DateCache.of(LocalDateRange.of(LocalDate.MIN, LocalDate.MAX)));
+  }
+
+}
@@ -0,0 +1,171 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+
+public class InstantStreamsTest {
+
+  private static List<Instant> expected(Instant start, Instant end, Duration step, boolean inclusive) {
+    List<Instant> expected = new ArrayList<>();
+    if (!start.isAfter(end)) {
+      for (Instant current = start; inclusive ? !current.isAfter(end) : current.isBefore(end); current = current.plus(step)) {
+        expected.add(current);
+      }
+    } else {
+      for (Instant current = start; inclusive ? !current.isBefore(end) : current.isAfter(end); current = current.minus(step)) {
+        expected.add(current);
+      }
+    }
+    return expected;
+  }
+
+  @Test
+  public void range() {
+    Instant start = Instant.parse("2017-03-26T00:00:00.5Z");
+    Instant end = Instant.parse("2017-03-26T01:00:00Z");
+    Duration step = Duration.ofSeconds(59L, 700_000_000L);
+    assertEquals(expected(start, end, step, false), InstantStreams.range(start, end, step).collect(Collectors.toList()));
+    assertEquals(expected(start, end, step, true), InstantStreams.rangeClosed(start, end, step).collect(Collectors.toList()));
+    assertEquals(expected(end, start, step, false), InstantStreams.range(end, start, step).collect(Collectors.toList()));
+    assertEquals(expected(end, start, step, true), InstantStreams.rangeClosed(end, start, step).collect(Collectors.toList()));
+    assertEquals(Collections.emptyList(), InstantStreams.range(start, start, step).collect(Collectors.toList()));
+    assertEquals(Arrays.asList(start), InstantStreams.rangeClosed(start, start, step).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void rangeExactEnd() {
+    Instant start = Instant.parse("2017-01-01T00:00:00Z");
+    Instant end = Instant.parse("2017-01-01T00:10:00Z");
+    assertEquals(10L, InstantStreams.range(start, end, 1L, MINUTES).count());
+    assertEquals(11L, InstantStreams.rangeClosed(start, end, 1L, MINUTES).count());
+    assertEquals(4L, InstantStreams.range(start, end, 3L, MINUTES).count());
+  }
+
+  @Test
+  public void largeIndex() {
+    Instant start = Instant.parse("1970-01-01T00:00:00.999999999Z");
+    Duration step = Duration.ofSeconds(0L, 999_999_999L);
+    long count = 20_000_000_000L;
+    Instant end = start.plus(step.multipliedBy(count));
+    Spliterator<Instant> spliterator = InstantStreams.rangeClosed(start, end, step).spliterator();
+    assertEquals(count + 1L, spliterator.getExactSizeIfKnown());
+    while (spliterator.estimateSize() > 1L) {
+      spliterator.trySplit();
+    }
+    spliterator.tryAdvance((instant) -> assertEquals(end, instant));
+  }
+
+  @Test
+  public void parallel() {
+    Instant start = Instant.parse("2017-01-01T00:00:00Z");
+    Instant end = Instant.parse("2017-01-08T00:00:00Z");
+    Duration step = Duration.ofMinutes(1L);
+    assertEquals(expected(start, end, step, false),
+            InstantStreams.parallelRange(start, end, step, SplitOptions.defaults()).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void split() {
+    Instant start = Instant.parse("2017-01-01T00:00:00Z");
+    Spliterator<Instant> spliterator = InstantStreams.range(start, start.plusSeconds(10L), Duration.ofSeconds(1L)).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED | Spliterator.ORDERED));
+    Spliterator<Instant> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertEquals(5L, prefix.getExactSizeIfKnown());
+    prefix.tryAdvance((instant) -> assertEquals(start, instant));
+    spliterator.tryAdvance((instant) -> assertEquals(start.plusSeconds(5L), instant));
+  }
+
+  @Test
+  public void invalidStep() {
+    Instant start = Instant.parse("2017-01-01T00:00:00Z");
+    assertThrows(IllegalArgumentException.class, () -> InstantStreams.range(start, start, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> InstantStreams.range(start, start, Duration.ofSeconds(-1L)));
+    assertThrows(IllegalArgumentException.class, () -> InstantStreams.range(start, start, 0L, MINUTES));
+    assertThrows(UnsupportedTemporalTypeException.class, () -> InstantStreams.range(start, start, 1L, MONTHS));
+    assertThrows(IllegalArgumentException.class, () -> InstantStreams.range(Instant.MIN, Instant.MAX, Duration.ofNanos(1L)));
+  }
+
+  @Test
+  public void epochRanges() {
+    Instant start = Instant.parse("1969-12-31T23:59:58.250Z");
+    Instant end = Instant.parse("1970-01-01T00:00:30Z");
+    Duration step = Duration.ofMillis(1_500L);
+    List<Instant> instants = expected(start, end, step, false);
+    assertArrayEquals(toArray(instants, Instant::getEpochSecond), InstantStreams.epochSecondRange(start, end, step).toArray());
+    assertArrayEquals(toArray(instants, Instant::toEpochMilli), InstantStreams.epochMilliRange(start, end, step).toArray());
+    assertArrayEquals(toArray(instants, InstantStreamsTest::toEpochNano), InstantStreams.epochNanoRange(start, end, step).toArray());
+
+    List<Instant> descending = expected(end, start, step, true);
+    assertArrayEquals(toArray(descending, Instant::toEpochMilli), InstantStreams.epochMilliRangeClosed(end, start, step).toArray());
+    assertArrayEquals(toArray(descending, InstantStreamsTest::toEpochNano), InstantStreams.epochNanoRangeClosed(end, start, step).toArray());
+    assertArrayEquals(toArray(descending, Instant::getEpochSecond), InstantStreams.epochSecondRangeClosed(end, start, step).toArray());
+  }
+
+  @Test
+  public void epochRangesFractionalStep() {
+    Instant start = Instant.parse("1969-12-31T23:59:59.999999999Z");
+    Instant end = Instant.parse("1970-01-01T00:00:00.1Z");
+    Duration step = Duration.ofNanos(1_333_333L);
+    List<Instant> instants = expected(start, end, step, true);
+    assertArrayEquals(toArray(instants, Instant::toEpochMilli), InstantStreams.epochMilliRangeClosed(start, end, step).toArray());
+    assertArrayEquals(toArray(instants, Instant::toEpochMilli), InstantStreams.epochMilliRangeClosed(start, end, step).parallel().toArray());
+  }
+
+  @Test
+  public void epochMilliSplit() {
+    Instant start = Instant.parse("2017-01-01T00:00:00Z");
+    Instant end = start.plus(Duration.ofDays(3L));
+    Spliterator.OfLong spliterator = InstantStreams.epochMilliRange(start, end, Duration.ofMinutes(1L)).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED | Spliterator.DISTINCT));
+    assertEquals(3L * 24L * 60L, spliterator.getExactSizeIfKnown());
+    Spliterator.OfLong prefix = spliterator.trySplit();
+    assertEquals(3L * 12L * 60L, prefix.getExactSizeIfKnown());
+    spliterator.tryAdvance((long milli) -> assertEquals(start.plus(Duration.ofHours(36L)).toEpochMilli(), milli));
+    assertEquals(LongStream.range(0L, 3L * 24L * 60L).map((i) -> start.toEpochMilli() + i * 60_000L).sum(),
+            InstantStreams.epochMilliRange(start, end, Duration.ofMinutes(1L)).parallel().sum());
+  }
+
+  @Test
+  public void epochRangeOverflow() {
+    Instant start = Instant.ofEpochSecond(0L, Long.MAX_VALUE - 10L);
+    Duration step = Duration.ofNanos(3L);
+    assertArrayEquals(new long[] {Long.MAX_VALUE - 10L, Long.MAX_VALUE - 7L, Long.MAX_VALUE - 4L, Long.MAX_VALUE - 1L},
+            InstantStreams.epochNanoRangeClosed(start, start.plusNanos(10L), step).toArray());
+    assertArrayEquals(new long[] {Long.MAX_VALUE - 1L, Long.MAX_VALUE - 4L, Long.MAX_VALUE - 7L, Long.MAX_VALUE - 10L},
+            InstantStreams.epochNanoRangeClosed(start.plusNanos(9L), start, step).toArray());
+    assertThrows(ArithmeticException.class, () -> InstantStreams.epochNanoRangeClosed(start, start.plusNanos(12L), step));
+    assertThrows(IllegalArgumentException.class, () -> InstantStreams.epochMilliRange(start, start, Duration.ofNanos(999_999L)));
+    assertThrows(IllegalArgumentException.class, () -> InstantStreams.epochSecondRange(start, start, Duration.ofMillis(999L)));
+  }
+
+  private static long toEpochNano(Instant instant) {
+    return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+  }
+
+  private static long[] toArray(List<Instant> instants, ToLongFunction<Instant> function) {
+    return instants.stream().mapToLong(function).toArray();
+  }
+
+}
@@ -0,0 +1,120 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+
+public class LocalDateRangeSetTest {
+
+  private static LocalDateRange range(int startDay, int endDay) {
+    return LocalDateRange.of(LocalDate.of(2016, 1, startDay), LocalDate.of(2016, 1, endDay));
+  }
+
+  @Test
+  public void mergesRanges() {
+    LocalDateRangeSet set = LocalDateRangeSet.of(range(10, 12), range(1, 3), range(2, 5), range(5, 6), range(20, 20));
+    assertEquals(Arrays.asList(range(1, 6), range(10, 12)), set.asRanges());
+    assertEquals(7L, set.size());
+    assertTrue(LocalDateRangeSet.of(range(20, 20)).isEmpty());
+  }
+
+  @Test
+  public void contains() {
+    LocalDateRangeSet set = LocalDateRangeSet.of(range(1, 3), range(10, 12));
+    assertTrue(set.contains(LocalDate.of(2016, 1, 1)));
+    assertTrue(set.contains(LocalDate.of(2016, 1, 11)));
+    assertFalse(set.contains(LocalDate.of(2016, 1, 3)));
+    assertFalse(set.contains(LocalDate.of(2015, 12, 31)));
+    assertFalse(set.contains(LocalDate.of(2016, 1, 12)));
+    assertEquals(Optional.of(range(10, 12)), set.rangeContaining(LocalDate.of(2016, 1, 10)));
+    assertEquals(Optional.empty(), set.rangeContaining(LocalDate.of(2016, 1, 5)));
+  }
+
+  @Test
+  public void setOperations() {
+    LocalDateRangeSet availability = LocalDateRangeSet.of(range(1, 10), range(15, 25));
+    LocalDateRangeSet blackout = LocalDateRangeSet.of(range(3, 5), range(8, 16), range(24, 30));
+    assertEquals(Arrays.asList(range(1, 30)), availability.union(blackout).asRanges());
+    assertEquals(Arrays.asList(range(3, 5), range(8, 10), range(15, 16), range(24, 25)), availability.intersection(blackout).asRanges());
+    assertEquals(Arrays.asList(range(1, 3), range(5, 8), range(16, 24)), availability.difference(blackout).asRanges());
+    assertEquals(LocalDateRangeSet.empty(), availability.difference(availability));
+  }
+
+  @Test
+  public void setOperationsRandom() {
+    Random random = new Random(42L);
+    for (int run = 0; run < 100; run++) {
+      LocalDateRangeSet left = randomSet(random);
+      LocalDateRangeSet right = randomSet(random);
+      Set<LocalDate> leftDates = left.stream().collect(Collectors.toCollection(TreeSet::new));
+      Set<LocalDate> rightDates = right.stream().collect(Collectors.toCollection(TreeSet::new));
+
+      Set<LocalDate> union = new TreeSet<>(leftDates);
+      union.addAll(rightDates);
+      assertEquals(union, left.union(right).stream().collect(Collectors.toCollection(TreeSet::new)));
+
+      Set<LocalDate> intersection = new TreeSet<>(leftDates);
+      intersection.retainAll(rightDates);
+      assertEquals(intersection, left.intersection(right).stream().collect(Collectors.toCollection(TreeSet::new)));
+
+      Set<LocalDate> difference = new TreeSet<>(leftDates);
+      difference.removeAll(rightDates);
+      assertEquals(difference, left.difference(right).stream().collect(Collectors.toCollection(TreeSet::new)));
+    }
+  }
+
+  private static LocalDateRangeSet randomSet(Random random) {
+    LocalDateRange[] ranges = new LocalDateRange[random.nextInt(5)];
+    for (int i = 0; i < ranges.length; i++) {
+      int start = random.nextInt(28) + 1;
+      ranges[i] = range(start, start + random.nextInt(31 - start));
+    }
+    return LocalDateRangeSet.of(ranges);
+  }
+
+  @Test
+  public void stream() {
+    LocalDateRangeSet set = LocalDateRangeSet.of(range(1, 3), range(10, 12));
+    List<LocalDate> expected = Arrays.asList(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 2), LocalDate.of(2016, 1, 10), LocalDate.of(2016, 1, 11));
+    assertEquals(expected, set.stream().collect(Collectors.toList()));
+    assertEquals(Collections.emptyList(), LocalDateRangeSet.empty().stream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void split() {
+    LocalDateRangeSet set = LocalDateRangeSet.of(range(1, 2), range(10, 13));
+    Spliterator<LocalDate> spliterator = set.spliterator();
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    assertEquals(2L, prefix.getExactSizeIfKnown());
+    assertEquals(2L, spliterator.getExactSizeIfKnown());
+    prefix.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 1, 1), date));
+    prefix.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 1, 10), date));
+    assertFalse(prefix.tryAdvance((date) -> { }));
+    spliterator.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 1, 11), date));
+  }
+
+  @Test
+  public void parallel() {
+    LocalDateRangeSet set = LocalDateRangeSet.of(
+            LocalDateRange.of(LocalDate.of(2000, 1, 1), LocalDate.of(2005, 1, 1)),
+            LocalDateRange.of(LocalDate.of(2006, 1, 1), LocalDate.of(2010, 1, 1)),
+            LocalDateRange.of(LocalDate.of(2010, 2, 1), LocalDate.of(2010, 3, 1)));
+    assertEquals(set.stream().collect(Collectors.toList()), set.stream().parallel().collect(Collectors.toList()));
+  }
+
+}
@@ -0,0 +1,90 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+
+public class LocalDateRangeTest {
+
+  private static LocalDateRange january() {
+    return LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 2, 1));
+  }
+
+  @Test
+  public void size() {
+    assertEquals(31L, january().size());
+    assertEquals(0L, LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 1)).size());
+    assertThrows(IllegalArgumentException.class, () -> LocalDateRange.of(LocalDate.of(2016, 1, 2), LocalDate.of(2016, 1, 1)));
+  }
+
+  @Test
+  public void contains() {
+    LocalDateRange january = january();
+    assertTrue(january.contains(LocalDate.of(2016, 1, 1)));
+    assertTrue(january.contains(LocalDate.of(2016, 1, 31)));
+    assertFalse(january.contains(LocalDate.of(2016, 2, 1)));
+    assertFalse(january.contains(LocalDate.of(2015, 12, 31)));
+  }
+
+  @Test
+  public void intersection() {
+    LocalDateRange january = january();
+    LocalDateRange overlap = LocalDateRange.of(LocalDate.of(2016, 1, 15), LocalDate.of(2016, 2, 15));
+    assertEquals(Optional.of(LocalDateRange.of(LocalDate.of(2016, 1, 15), LocalDate.of(2016, 2, 1))), january.intersection(overlap));
+    assertEquals(Optional.of(LocalDateRange.of(LocalDate.of(2016, 1, 15), LocalDate.of(2016, 2, 1))), overlap.intersection(january));
+
+    LocalDateRange february = LocalDateRange.of(LocalDate.of(2016, 2, 1), LocalDate.of(2016, 3, 1));
+    assertEquals(Optional.empty(), january.intersection(february));
+  }
+
+  @Test
+  public void spanAndAdjacent() {
+    LocalDateRange january = january();
+    LocalDateRange february = LocalDateRange.of(LocalDate.of(2016, 2, 1), LocalDate.of(2016, 3, 1));
+    LocalDateRange march = LocalDateRange.of(LocalDate.of(2016, 3, 1), LocalDate.of(2016, 4, 1));
+    assertTrue(january.isAdjacent(february));
+    assertTrue(february.isAdjacent(january));
+    assertFalse(january.isAdjacent(march));
+    assertEquals(LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 4, 1)), march.span(january));
+  }
+
+  @Test
+  public void split() {
+    List<LocalDateRange> parts = january().split(3);
+    assertEquals(Arrays.asList(
+            LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 12)),
+            LocalDateRange.of(LocalDate.of(2016, 1, 12), LocalDate.of(2016, 1, 22)),
+            LocalDateRange.of(LocalDate.of(2016, 1, 22), LocalDate.of(2016, 2, 1))), parts);
+    assertThrows(IllegalArgumentException.class, () -> january().split(0));
+  }
+
+  @Test
+  public void stream() {
+    LocalDateRange range = LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 3));
+    assertEquals(Arrays.asList(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 2)), range.stream().collect(Collectors.toList()));
+    assertEquals(Arrays.asList(LocalDate.of(2016, 1, 2), LocalDate.of(2016, 1, 1)), range.reverseStream().collect(Collectors.toList()));
+    assertEquals(2L, range.spliterator().getExactSizeIfKnown());
+
+    LocalDateRange empty = LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 1));
+    assertEquals(Collections.emptyList(), empty.stream().collect(Collectors.toList()));
+    assertEquals(Collections.emptyList(), empty.reverseStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("[2016-01-01, 2016-02-01)", january().toString());
+  }
+
+}
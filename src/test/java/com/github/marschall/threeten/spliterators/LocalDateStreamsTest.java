@@ -1,13 +1,22 @@
 package com.github.marschall.threeten.spliterators;
 
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -63,4 +72,228 @@ public class LocalDateStreamsTest {
     assertEquals(Collections.singletonList(LocalDate.of(2016, 1, 1)), actual);
   }
 
+  @Test
+  public void emptyEpochDayRange() {
+    LongStream stream = LocalDateStreams.epochDayRange(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 1));
+    assertEquals(0L, stream.count());
+  }
+
+  @Test
+  public void epochDayRange() {
+    long start = LocalDate.of(2016, 1, 1).toEpochDay();
+    LongStream stream = LocalDateStreams.epochDayRange(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 3));
+    assertArrayEquals(new long[] {start, start + 1L}, stream.toArray());
+  }
+
+  @Test
+  public void epochDayRangeReversed() {
+    long start = LocalDate.of(2016, 1, 3).toEpochDay();
+    LongStream stream = LocalDateStreams.epochDayRange(LocalDate.of(2016, 1, 3), LocalDate.of(2016, 1, 1));
+    assertArrayEquals(new long[] {start, start - 1L}, stream.toArray());
+  }
+
+  @Test
+  public void epochDayRangeClosed() {
+    long start = LocalDate.of(2016, 1, 1).toEpochDay();
+    LongStream stream = LocalDateStreams.epochDayRangeClosed(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 2));
+    assertArrayEquals(new long[] {start, start + 1L}, stream.toArray());
+  }
+
+  @Test
+  public void epochDayRangeClosedReverse() {
+    long start = LocalDate.of(2016, 1, 2).toEpochDay();
+    LongStream stream = LocalDateStreams.epochDayRangeClosed(LocalDate.of(2016, 1, 2), LocalDate.of(2016, 1, 1));
+    assertArrayEquals(new long[] {start, start - 1L}, stream.toArray());
+  }
+
+  @Test
+  public void epochDayRangeParallel() {
+    LocalDate start = LocalDate.of(2000, 1, 1);
+    LocalDate end = LocalDate.of(2016, 1, 1);
+    long[] expected = LongStream.range(start.toEpochDay(), end.toEpochDay()).toArray();
+    assertArrayEquals(expected, LocalDateStreams.epochDayRange(start, end).parallel().toArray());
+  }
+
+  @Test
+  public void epochDaySplit() {
+    Spliterator.OfLong suffix = LocalDateStreams.epochDayRangeClosed(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 3)).spliterator();
+    Spliterator.OfLong prefix = suffix.trySplit();
+    assertEquals(1L, prefix.getExactSizeIfKnown());
+    assertEquals(2L, suffix.getExactSizeIfKnown());
+    assertNull(prefix.trySplit());
+    prefix.tryAdvance((long epochDay) -> assertEquals(LocalDate.of(2016, 1, 1), LocalDate.ofEpochDay(epochDay)));
+    suffix.tryAdvance((long epochDay) -> assertEquals(LocalDate.of(2016, 1, 2), LocalDate.ofEpochDay(epochDay)));
+  }
+
+  @Test
+  public void splitReturnsPrefix() {
+    Spliterator<LocalDate> suffix = LocalDateStreams.rangeClosed(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 3)).spliterator();
+    Spliterator<LocalDate> prefix = suffix.trySplit();
+    assertEquals(1L, prefix.getExactSizeIfKnown());
+    assertEquals(2L, suffix.getExactSizeIfKnown());
+    assertNull(prefix.trySplit());
+    prefix.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 1, 1), date));
+    suffix.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 1, 2), date));
+  }
+
+  @Test
+  public void characteristics() {
+    Spliterator<LocalDate> ascending = LocalDateStreams.range(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 3)).spliterator();
+    assertTrue(ascending.hasCharacteristics(Spliterator.ORDERED));
+    assertTrue(ascending.hasCharacteristics(Spliterator.SORTED));
+    assertNull(ascending.getComparator());
+
+    Spliterator<LocalDate> descending = LocalDateStreams.range(LocalDate.of(2016, 1, 3), LocalDate.of(2016, 1, 1)).spliterator();
+    assertTrue(descending.hasCharacteristics(Spliterator.ORDERED));
+    assertFalse(descending.hasCharacteristics(Spliterator.SORTED));
+  }
+
+  @Test
+  public void parallelRange() {
+    LocalDate start = LocalDate.of(2000, 1, 1);
+    LocalDate end = LocalDate.of(2016, 1, 1);
+    Stream<LocalDate> stream = LocalDateStreams.parallelRange(start, end, SplitOptions.minimumChunkSize(100L));
+    assertTrue(stream.isParallel());
+    assertEquals(LocalDateStreams.range(start, end).collect(Collectors.toList()), stream.collect(Collectors.toList()));
+
+    stream = LocalDateStreams.parallelRangeClosed(end, start, SplitOptions.minimumChunkSize(100L));
+    assertEquals(LocalDateStreams.rangeClosed(end, start).collect(Collectors.toList()), stream.collect(Collectors.toList()));
+  }
+
+  @Test
+  public void minimumChunkSize() {
+    Spliterator<LocalDate> spliterator = LocalDateStreams.parallelRange(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 8), SplitOptions.minimumChunkSize(3L)).spliterator();
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    assertEquals(3L, prefix.getExactSizeIfKnown());
+    assertEquals(4L, spliterator.getExactSizeIfKnown());
+    assertNull(prefix.trySplit());
+    assertNull(spliterator.trySplit());
+  }
+
+  @Test
+  public void targetParallelism() {
+    Spliterator<LocalDate> spliterator = LocalDateStreams.parallelRange(LocalDate.of(2016, 1, 1), LocalDate.of(2017, 1, 1), SplitOptions.defaults().withTargetParallelism(2)).spliterator();
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    assertEquals(183L, prefix.getExactSizeIfKnown());
+    assertNull(prefix.trySplit());
+    assertNull(spliterator.trySplit());
+  }
+
+  @Test
+  public void chunks() {
+    Stream<LocalDateRange> stream = LocalDateStreams.chunks(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 3, 1), 30);
+    List<LocalDateRange> actual = stream.collect(Collectors.toList());
+    assertEquals(Arrays.asList(
+            LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 31)),
+            LocalDateRange.of(LocalDate.of(2016, 1, 31), LocalDate.of(2016, 3, 1))), actual);
+
+    stream = LocalDateStreams.chunks(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 8), 3);
+    actual = stream.collect(Collectors.toList());
+    assertEquals(Arrays.asList(
+            LocalDateRange.of(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 4)),
+            LocalDateRange.of(LocalDate.of(2016, 1, 4), LocalDate.of(2016, 1, 7)),
+            LocalDateRange.of(LocalDate.of(2016, 1, 7), LocalDate.of(2016, 1, 8))), actual);
+  }
+
+  @Test
+  public void chunksSplit() {
+    LocalDate start = LocalDate.of(2000, 1, 1);
+    LocalDate end = LocalDate.of(2016, 1, 1);
+    Spliterator<LocalDateRange> spliterator = LocalDateStreams.chunks(start, end, 7).spliterator();
+    assertEquals((end.toEpochDay() - start.toEpochDay() + 6L) / 7L, spliterator.getExactSizeIfKnown());
+    List<LocalDateRange> parallel = LocalDateStreams.chunks(start, end, 7).parallel().collect(Collectors.toList());
+    assertEquals(LocalDateStreams.chunks(start, end, 7).collect(Collectors.toList()), parallel);
+  }
+
+  @Test
+  public void chunksInvalidArguments() {
+    assertEquals(0L, LocalDateStreams.chunks(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 1), 1).count());
+    assertThrows(IllegalArgumentException.class, () -> LocalDateStreams.chunks(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 2), 0));
+    assertThrows(IllegalArgumentException.class, () -> LocalDateStreams.chunks(LocalDate.of(2016, 1, 2), LocalDate.of(2016, 1, 1), 1));
+  }
+
+  @Test
+  public void windows() {
+    LocalDate start = LocalDate.of(2016, 1, 1);
+    List<LocalDateRange> sliding = LocalDateStreams.windows(start, start.plusDays(10L), 7, 1).collect(Collectors.toList());
+    assertEquals(4, sliding.size());
+    for (int i = 0; i < sliding.size(); i++) {
+      assertEquals(LocalDateRange.of(start.plusDays(i), start.plusDays(i + 7L)), sliding.get(i));
+    }
+
+    List<LocalDateRange> tumbling = LocalDateStreams.windows(start, start.plusDays(10L), 3, 3).collect(Collectors.toList());
+    assertEquals(Arrays.asList(
+            LocalDateRange.of(start, start.plusDays(3L)),
+            LocalDateRange.of(start.plusDays(3L), start.plusDays(6L)),
+            LocalDateRange.of(start.plusDays(6L), start.plusDays(9L))), tumbling);
+
+    assertEquals(0L, LocalDateStreams.windows(start, start.plusDays(6L), 7, 1).count());
+    assertThrows(IllegalArgumentException.class, () -> LocalDateStreams.windows(start, start.plusDays(6L), 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> LocalDateStreams.windows(start, start.plusDays(6L), 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> LocalDateStreams.windows(start.plusDays(1L), start, 1, 1));
+  }
+
+  @Test
+  public void windowsSplit() {
+    LocalDate start = LocalDate.of(2000, 1, 1);
+    LocalDate end = LocalDate.of(2016, 1, 1);
+    Spliterator<LocalDateRange> spliterator = LocalDateStreams.windows(start, end, 30, 1).spliterator();
+    assertEquals(end.toEpochDay() - start.toEpochDay() - 29L, spliterator.getExactSizeIfKnown());
+    List<LocalDateRange> parallel = LocalDateStreams.windows(start, end, 30, 7).parallel().collect(Collectors.toList());
+    assertEquals(LocalDateStreams.windows(start, end, 30, 7).collect(Collectors.toList()), parallel);
+  }
+
+  @Test
+  public void forEachRemainingAcrossYears() {
+    LocalDate start = LocalDate.of(1899, 12, 25);
+    LocalDate end = LocalDate.of(2001, 3, 5);
+    long days = end.toEpochDay() - start.toEpochDay();
+    List<LocalDate> expected = LongStream.range(0L, days)
+            .mapToObj((i) -> LocalDate.ofEpochDay(start.toEpochDay() + i))
+            .collect(Collectors.toList());
+    assertEquals(expected, LocalDateStreams.range(start, end).collect(Collectors.toList()));
+
+    List<LocalDate> reversed = LongStream.rangeClosed(0L, days)
+            .mapToObj((i) -> LocalDate.ofEpochDay(end.toEpochDay() - i))
+            .collect(Collectors.toList());
+    assertEquals(reversed, LocalDateStreams.rangeClosed(end, start).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void tryAdvanceAcrossMonths() {
+    Spliterator<LocalDate> spliterator = LocalDateStreams.rangeClosed(LocalDate.of(2016, 2, 27), LocalDate.of(2016, 3, 2)).spliterator();
+    List<LocalDate> actual = new ArrayList<>();
+    while (spliterator.tryAdvance(actual::add)) {
+      // added by action
+    }
+    assertEquals(Arrays.asList(LocalDate.of(2016, 2, 27), LocalDate.of(2016, 2, 28), LocalDate.of(2016, 2, 29),
+            LocalDate.of(2016, 3, 1), LocalDate.of(2016, 3, 2)), actual);
+  }
+
+  @Test
+  public void rangeClosedToLimits() {
+    assertEquals(Arrays.asList(LocalDate.MAX.minusDays(1L), LocalDate.MAX),
+            LocalDateStreams.rangeClosed(LocalDate.MAX.minusDays(1L), LocalDate.MAX).collect(Collectors.toList()));
+    assertEquals(Arrays.asList(LocalDate.MIN.plusDays(1L), LocalDate.MIN),
+            LocalDateStreams.rangeClosed(LocalDate.MIN.plusDays(1L), LocalDate.MIN).collect(Collectors.toList()));
+
+    Iterator<LocalDate> iterator = LocalDateStreams.rangeClosed(LocalDate.MAX.minusDays(1L), LocalDate.MAX).iterator();
+    assertTrue(iterator.hasNext());
+    assertEquals(LocalDate.MAX.minusDays(1L), iterator.next());
+    assertTrue(iterator.hasNext());
+    assertEquals(LocalDate.MAX, iterator.next());
+    assertFalse(iterator.hasNext());
+
+    Spliterator<LocalDate> spliterator = LocalDateStreams.rangeClosed(LocalDate.MIN.plusDays(1L), LocalDate.MIN).spliterator();
+    List<LocalDate> dates = new ArrayList<>();
+    while (spliterator.tryAdvance(dates::add)) {
+      // collect
+    }
+    assertEquals(Arrays.asList(LocalDate.MIN.plusDays(1L), LocalDate.MIN), dates);
+    assertFalse(spliterator.tryAdvance(dates::add));
+
+    assertEquals(Arrays.asList(LocalDate.MAX.minusDays(1L), LocalDate.MAX),
+            LocalDateStreams.rangeClosed(LocalDate.MAX.minusDays(1L), LocalDate.MAX).limit(10L).collect(Collectors.toList()));
+  }
+
 }
@@ -0,0 +1,131 @@
+package com.github.marschall.threeten.spliterators;
+
+import static com.github.marschall.threeten.spliterators.ProductStreams.ProductOrder.FIRST_MAJOR;
+import static com.github.marschall.threeten.spliterators.ProductStreams.ProductOrder.SECOND_MAJOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class ProductStreamsTest {
+
+  private static final LocalDate START = LocalDate.of(2017, 1, 1);
+
+  @Test
+  public void order() {
+    LocalDateRange dates = LocalDateRange.of(START, START.plusDays(2L));
+    List<String> keys = Arrays.asList("a", "b", "c");
+    assertEquals(Arrays.asList("2017-01-01a", "2017-01-01b", "2017-01-01c", "2017-01-02a", "2017-01-02b", "2017-01-02c"),
+            ProductStreams.product(dates, keys, FIRST_MAJOR, (date, key) -> date + key).collect(Collectors.toList()));
+    assertEquals(Arrays.asList("2017-01-01a", "2017-01-02a", "2017-01-01b", "2017-01-02b", "2017-01-01c", "2017-01-02c"),
+            ProductStreams.product(dates, keys, SECOND_MAJOR, (date, key) -> date + key).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void size() {
+    YearMonthRange months = YearMonthRange.of(YearMonth.of(2017, 1), YearMonth.of(2018, 1));
+    Spliterator<String> spliterator = ProductStreams.product(months, months, FIRST_MAJOR, (a, b) -> a + "-" + b).spliterator();
+    assertEquals(144L, spliterator.getExactSizeIfKnown());
+    assertTrue(spliterator.tryAdvance(element -> assertEquals("2017-01-2017-01", element)));
+    assertEquals(143L, spliterator.getExactSizeIfKnown());
+    assertEquals(0L, ProductStreams.product(months, Collections.emptyList(), FIRST_MAJOR, (a, b) -> a).count());
+  }
+
+  @Test
+  public void splitAlongLargerDimension() {
+    // 2 dates and 100 keys
+    List<Integer> keys = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      keys.add(i);
+    }
+    LocalDateRange dates = LocalDateRange.of(START, START.plusDays(2L));
+    Spliterator<String> spliterator = ProductStreams.product(dates, keys, FIRST_MAJOR, (date, key) -> date + "/" + key).spliterator();
+    Spliterator<String> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertEquals(100L, prefix.getExactSizeIfKnown());
+    assertEquals(100L, spliterator.getExactSizeIfKnown());
+    Set<String> prefixDates = new HashSet<>();
+    prefix.forEachRemaining(element -> prefixDates.add(element.substring(0, 10)));
+    // both dates, half of the keys
+    assertEquals(2, prefixDates.size());
+  }
+
+  @Test
+  public void splitAfterTraversal() {
+    LocalDateRange dates = LocalDateRange.of(START, START.plusDays(5L));
+    List<String> keys = Arrays.asList("a", "b", "c", "d");
+    List<String> expected = ProductStreams.product(dates, keys, FIRST_MAJOR, (date, key) -> date + key).collect(Collectors.toList());
+
+    Spliterator<String> spliterator = ProductStreams.product(dates, keys, FIRST_MAJOR, (date, key) -> date + key).spliterator();
+    List<String> actual = new ArrayList<>();
+    assertTrue(spliterator.tryAdvance(actual::add));
+    List<Spliterator<String>> parts = new ArrayList<>();
+    Spliterator<String> part;
+    while ((part = spliterator.trySplit()) != null) {
+      parts.add(part);
+    }
+    assertEquals(1L, spliterator.getExactSizeIfKnown());
+    long size = 1L;
+    for (Spliterator<String> each : parts) {
+      size += each.getExactSizeIfKnown();
+      each.forEachRemaining(actual::add);
+    }
+    assertEquals(19L, size);
+    spliterator.forEachRemaining(actual::add);
+    assertNull(spliterator.trySplit());
+    Collections.sort(actual);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void parallel() {
+    LocalDateRange dates = LocalDateRange.of(START, START.plusYears(1L));
+    List<Long> keys = Arrays.asList(1L, 10L, 100L, 1000L, 10000L);
+    long expected = 0L;
+    for (long day = dates.getStartEpochDay(); day < dates.getEndEpochDay(); day++) {
+      expected += day * 11111L;
+    }
+    assertEquals(expected, ProductStreams.product(dates, keys, SECOND_MAJOR, (date, key) -> date.toEpochDay() * key)
+            .parallel()
+            .mapToLong(Long::longValue)
+            .sum());
+    assertEquals(365L * 5L, ProductStreams.product(dates, keys, FIRST_MAJOR, (date, key) -> date + "" + key)
+            .parallel()
+            .distinct()
+            .count());
+  }
+
+  @Test
+  public void emptyMinorDimension() {
+    LocalDateRange allDates = LocalDateRange.of(LocalDate.MIN, LocalDate.MAX);
+    Spliterator<String> spliterator = ProductStreams.product(allDates, Collections.<String>emptyList(), FIRST_MAJOR,
+            (date, key) -> key).spliterator();
+    assertEquals(0L, spliterator.getExactSizeIfKnown());
+    assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> spliterator.forEachRemaining(key -> fail("no elements expected")));
+    assertEquals(0L, spliterator.estimateSize());
+  }
+
+  @Test
+  public void tooLarge() {
+    LocalDateRange dates = LocalDateRange.of(LocalDate.MIN, LocalDate.MAX);
+    assertThrows(IllegalArgumentException.class, () -> ProductStreams.product(dates, dates, FIRST_MAJOR, (a, b) -> a));
+  }
+
+}
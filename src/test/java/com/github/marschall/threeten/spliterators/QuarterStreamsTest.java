@@ -0,0 +1,57 @@
+package com.github.marschall.threeten.spliterators;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Month;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class QuarterStreamsTest {
+
+  @Test
+  public void range() {
+    List<Quarter> quarters = QuarterStreams.range(Quarter.of(2018, 3, Month.OCTOBER), Quarter.of(2019, 2, Month.OCTOBER))
+            .collect(Collectors.toList());
+    assertEquals(Arrays.asList(
+            Quarter.of(2018, 3, Month.OCTOBER),
+            Quarter.of(2018, 4, Month.OCTOBER),
+            Quarter.of(2019, 1, Month.OCTOBER)), quarters);
+    assertEquals(4L, QuarterStreams.rangeClosed(Quarter.of(2018, 3, Month.OCTOBER), Quarter.of(2019, 2, Month.OCTOBER)).count());
+  }
+
+  @Test
+  public void descending() {
+    assertEquals(Arrays.asList(Quarter.of(2017, 1), Quarter.of(2016, 4)),
+            QuarterStreams.range(Quarter.of(2017, 1), Quarter.of(2016, 3)).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void parallel() {
+    Quarter start = Quarter.of(1900, 1, Month.APRIL);
+    Quarter end = Quarter.of(2100, 1, Month.APRIL);
+    assertEquals(800L, QuarterStreams.range(start, end).spliterator().getExactSizeIfKnown());
+    assertEquals(QuarterStreams.range(start, end).collect(Collectors.toList()),
+            QuarterStreams.parallelRange(start, end, SplitOptions.defaults()).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void index() {
+    Quarter start = Quarter.of(2016, 1, Month.JULY);
+    Quarter end = Quarter.of(2017, 4, Month.JULY);
+    long[] expected = QuarterStreams.rangeClosed(start, end).mapToLong(Quarter::toIndex).toArray();
+    assertArrayEquals(expected, QuarterStreams.indexRangeClosed(start, end).toArray());
+    assertEquals(7L, QuarterStreams.indexRange(start, end).count());
+  }
+
+  @Test
+  public void differentFiscalYearStarts() {
+    assertThrows(IllegalArgumentException.class,
+            () -> QuarterStreams.range(Quarter.of(2016, 1), Quarter.of(2017, 1, Month.APRIL)));
+  }
+
+}
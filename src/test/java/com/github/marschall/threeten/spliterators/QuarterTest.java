@@ -0,0 +1,66 @@
+package com.github.marschall.threeten.spliterators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+public class QuarterTest {
+
+  @Test
+  public void calendar() {
+    Quarter quarter = Quarter.of(2017, 2);
+    assertEquals(YearMonth.of(2017, 4), quarter.getFirstMonth());
+    assertEquals(YearMonth.of(2017, 6), quarter.getLastMonth());
+    assertEquals(LocalDate.of(2017, 4, 1), quarter.getFirstDay());
+    assertEquals(LocalDate.of(2017, 6, 30), quarter.getLastDay());
+    assertEquals(2017, quarter.getFiscalYear());
+    assertEquals(2, quarter.getQuarter());
+    assertEquals("2017-Q2", quarter.toString());
+    assertEquals(quarter, Quarter.from(LocalDate.of(2017, 5, 17), Month.JANUARY));
+    assertThrows(IllegalArgumentException.class, () -> Quarter.of(2017, 5));
+  }
+
+  @Test
+  public void fiscal() {
+    Quarter quarter = Quarter.of(2018, 1, Month.OCTOBER);
+    assertEquals(YearMonth.of(2017, 10), quarter.getFirstMonth());
+    assertEquals(2018, quarter.getFiscalYear());
+    assertEquals("FY2018-Q1", quarter.toString());
+    assertEquals(Quarter.of(2018, 4, Month.OCTOBER), Quarter.from(YearMonth.of(2018, 9), Month.OCTOBER));
+    assertEquals(Quarter.of(2019, 1, Month.OCTOBER), Quarter.from(YearMonth.of(2018, 10), Month.OCTOBER));
+
+    Quarter february = Quarter.from(YearMonth.of(2017, 1), Month.FEBRUARY);
+    assertEquals(YearMonth.of(2016, 11), february.getFirstMonth());
+    assertEquals(4, february.getQuarter());
+    assertEquals(2017, february.getFiscalYear());
+  }
+
+  @Test
+  public void index() {
+    for (Month start : Month.values()) {
+      YearMonth month = YearMonth.of(-1, 6);
+      for (int i = 0; i < 40; i++) {
+        Quarter quarter = Quarter.from(month.plusMonths(i), start);
+        assertTrue(quarter.contains(month.plusMonths(i)));
+        assertEquals(quarter, Quarter.ofIndex(quarter.toIndex(), start));
+        assertEquals(quarter.toIndex() + 1L, quarter.plusQuarters(1L).toIndex());
+        assertEquals(quarter, Quarter.of(quarter.getFiscalYear(), quarter.getQuarter(), start));
+      }
+    }
+  }
+
+  @Test
+  public void ranges() {
+    Quarter quarter = Quarter.of(2016, 1);
+    assertEquals(YearMonthRange.of(YearMonth.of(2016, 1), YearMonth.of(2016, 4)), quarter.toYearMonthRange());
+    assertEquals(91L, quarter.toLocalDateRange().size());
+    assertEquals(0L, Quarter.from(YearMonth.of(0, 1), Month.FEBRUARY).toIndex());
+  }
+
+}
@@ -0,0 +1,175 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+
+public class RecurrenceRuleTest {
+
+  private static List<LocalDate> occurrences(String rule, LocalDate start) {
+    return RecurrenceRule.parse(rule).occurrences(start).collect(Collectors.toList());
+  }
+
+  private static List<LocalDate> dates(String... dates) {
+    return Arrays.stream(dates).map(LocalDate::parse).collect(Collectors.toList());
+  }
+
+  @Test
+  public void dailyCount() {
+    assertEquals(LocalDateStreams.range(LocalDate.of(1997, 9, 2), LocalDate.of(1997, 9, 12)).collect(Collectors.toList()),
+            occurrences("RRULE:FREQ=DAILY;COUNT=10", LocalDate.of(1997, 9, 2)));
+  }
+
+  @Test
+  public void weeklyUntil() {
+    List<LocalDate> actual = occurrences("FREQ=WEEKLY;UNTIL=19971224T000000Z", LocalDate.of(1997, 9, 2));
+    assertEquals(17, actual.size());
+    assertEquals(LocalDate.of(1997, 12, 23), actual.get(16));
+  }
+
+  @Test
+  public void weekStart() {
+    assertEquals(dates("1997-08-05", "1997-08-10", "1997-08-19", "1997-08-24"),
+            occurrences("FREQ=WEEKLY;INTERVAL=2;COUNT=4;BYDAY=TU,SU;WKST=MO", LocalDate.of(1997, 8, 5)));
+    assertEquals(dates("1997-08-05", "1997-08-17", "1997-08-19", "1997-08-31"),
+            occurrences("FREQ=WEEKLY;INTERVAL=2;COUNT=4;BYDAY=TU,SU;WKST=SU", LocalDate.of(1997, 8, 5)));
+  }
+
+  @Test
+  public void monthlyFirstFriday() {
+    assertEquals(dates("1997-09-05", "1997-10-03", "1997-11-07", "1997-12-05", "1998-01-02",
+            "1998-02-06", "1998-03-06", "1998-04-03", "1998-05-01", "1998-06-05"),
+            occurrences("FREQ=MONTHLY;COUNT=10;BYDAY=1FR", LocalDate.of(1997, 9, 5)));
+  }
+
+  @Test
+  public void lastWorkDayOfMonth() {
+    assertEquals(dates("1997-09-30", "1997-10-31", "1997-11-28", "1997-12-31", "1998-01-30", "1998-02-27", "1998-03-31"),
+            occurrences("FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1;COUNT=7", LocalDate.of(1997, 9, 29)));
+  }
+
+  @Test
+  public void negativeMonthDay() {
+    assertEquals(dates("1997-09-28", "1997-10-29", "1997-11-28", "1997-12-29", "1998-01-29", "1998-02-26"),
+            occurrences("FREQ=MONTHLY;BYMONTHDAY=-3;COUNT=6", LocalDate.of(1997, 9, 28)));
+  }
+
+  @Test
+  public void monthlyDefaultSkipsShortMonths() {
+    assertEquals(dates("2016-01-31", "2016-03-31", "2016-05-31", "2016-07-31"),
+            occurrences("FREQ=MONTHLY;COUNT=4", LocalDate.of(2016, 1, 31)));
+  }
+
+  @Test
+  public void yearlyEveryDayInJanuary() {
+    List<LocalDate> actual = occurrences("FREQ=YEARLY;UNTIL=20000131;BYMONTH=1;BYDAY=SU,MO,TU,WE,TH,FR,SA", LocalDate.of(1998, 1, 1));
+    assertEquals(93, actual.size());
+    assertEquals(LocalDate.of(2000, 1, 31), actual.get(92));
+  }
+
+  @Test
+  public void yearlyByYearDay() {
+    assertEquals(dates("1997-01-01", "1997-04-10", "1997-07-19", "2000-01-01", "2000-04-09",
+            "2000-07-18", "2003-01-01", "2003-04-10", "2003-07-19", "2006-01-01"),
+            occurrences("FREQ=YEARLY;INTERVAL=3;COUNT=10;BYYEARDAY=1,100,200", LocalDate.of(1997, 1, 1)));
+  }
+
+  @Test
+  public void yearlyOrdinalInYear() {
+    assertEquals(dates("1997-05-19", "1998-05-18", "1999-05-17"),
+            occurrences("FREQ=YEARLY;BYDAY=20MO;COUNT=3", LocalDate.of(1997, 5, 19)));
+  }
+
+  @Test
+  public void yearlyDefault() {
+    assertEquals(dates("2016-02-29", "2020-02-29", "2024-02-29"),
+            occurrences("FREQ=YEARLY;COUNT=3", LocalDate.of(2016, 2, 29)));
+  }
+
+  @Test
+  public void fridayThe13thWithExcludedStart() {
+    LocalDate start = LocalDate.of(1997, 9, 2);
+    List<LocalDate> actual = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=FR;BYMONTHDAY=13")
+            .occurrences(start, Collections.singleton(start))
+            .limit(5L)
+            .collect(Collectors.toList());
+    assertEquals(dates("1998-02-13", "1998-03-13", "1998-11-13", "1999-08-13", "2000-10-13"), actual);
+  }
+
+  @Test
+  public void excludedDatesCountTowardsCount() {
+    LocalDate start = LocalDate.of(2016, 1, 1);
+    List<LocalDate> actual = RecurrenceRule.parse("FREQ=DAILY;COUNT=5")
+            .occurrences(start, Arrays.asList(LocalDate.of(2016, 1, 2), LocalDate.of(2016, 1, 4)))
+            .collect(Collectors.toList());
+    assertEquals(dates("2016-01-01", "2016-01-03", "2016-01-05"), actual);
+  }
+
+  @Test
+  public void impossibleRule() {
+    LocalDate start = LocalDate.of(2016, 1, 1);
+    assertFalse(RecurrenceRule.parse("FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=30").occurrences(start).findFirst().isPresent());
+    assertEquals(0L, RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=31;BYMONTH=4;COUNT=3").occurrences(start).count());
+  }
+
+  @Test
+  public void parallel() {
+    RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=MO,TU;BYSETPOS=-1;UNTIL=30000101");
+    LocalDate start = LocalDate.of(2000, 1, 1);
+    List<LocalDate> sequential = rule.occurrences(start).collect(Collectors.toList());
+    assertEquals(12_000, sequential.size());
+    assertEquals(sequential, rule.occurrences(start).parallel().collect(Collectors.toList()));
+
+    RecurrenceRule counted = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=10000");
+    assertEquals(10_000L, counted.occurrences(start).parallel().count());
+  }
+
+  @Test
+  public void split() {
+    LocalDate start = LocalDate.of(2016, 1, 1);
+    Spliterator<LocalDate> spliterator = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=1,15;COUNT=24").occurrences(start).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT));
+    spliterator.tryAdvance((date) -> assertEquals(start, date));
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    // the prefix gets the rest of the current month
+    prefix.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 1, 15), date));
+    assertEquals(-1L, prefix.getExactSizeIfKnown());
+    assertEquals(10L, count(prefix));
+    spliterator.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 7, 1), date));
+  }
+
+  private static long count(Spliterator<LocalDate> spliterator) {
+    long[] count = new long[1];
+    spliterator.forEachRemaining((date) -> count[0]++);
+    return count[0];
+  }
+
+  @Test
+  public void invalidRules() {
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("COUNT=3"));
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=HOURLY"));
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20170101"));
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=1MO"));
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYMONTHDAY=1"));
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;BYYEARDAY=1"));
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=YEARLY;BYWEEKNO=20"));
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=YEARLY;BYMONTH=13"));
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=YEARLY;INTERVAL=0"));
+    assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=YEARLY;FOO"));
+  }
+
+}
@@ -0,0 +1,34 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+
+public class SplitOptionsTest {
+
+  @Test
+  public void defaults() {
+    SplitOptions options = SplitOptions.defaults();
+    assertEquals(1L, options.getMinimumChunkSize());
+    assertEquals(0, options.getTargetParallelism());
+    assertEquals(1L, options.minimumSplitSize(1000L));
+  }
+
+  @Test
+  public void minimumSplitSize() {
+    SplitOptions options = SplitOptions.minimumChunkSize(10L).withTargetParallelism(4);
+    assertEquals(250L, options.minimumSplitSize(1000L));
+    assertEquals(251L, options.minimumSplitSize(1001L));
+    assertEquals(10L, options.minimumSplitSize(20L));
+  }
+
+  @Test
+  public void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> SplitOptions.minimumChunkSize(0L));
+    assertThrows(IllegalArgumentException.class, () -> SplitOptions.defaults().withTargetParallelism(0));
+  }
+
+}
@@ -0,0 +1,94 @@
+package com.github.marschall.threeten.spliterators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class SpliteratorMetricsTest {
+
+  private static final LocalDate START = LocalDate.of(2017, 1, 1);
+
+  @Test
+  public void sequential() {
+    SpliteratorMetrics metrics = new SpliteratorMetrics();
+    metrics.instrument(LocalDateStreams.range(START, START.plusYears(1L))).forEach(date -> { });
+    assertEquals(365L, metrics.getElements());
+    assertEquals(0L, metrics.getSplits());
+    assertEquals(0L, metrics.getMaximumSplitDepth());
+    assertEquals(365L, metrics.getElementsPerThread().get(Thread.currentThread().getName()).longValue());
+  }
+
+  @Test
+  public void parallel() {
+    SpliteratorMetrics metrics = new SpliteratorMetrics();
+    long sum = metrics.instrument(LocalDateStreams.parallelRange(START, START.plusYears(10L), SplitOptions.minimumChunkSize(100L)))
+      .mapToLong(LocalDate::toEpochDay)
+      .sum();
+    assertEquals(LocalDateStreams.epochDayRange(START, START.plusYears(10L)).sum(), sum);
+    long days = LocalDateRange.of(START, START.plusYears(10L)).size();
+    assertEquals(days, metrics.getElements());
+    assertTrue(metrics.getSplits() > 0L);
+    assertTrue(metrics.getMaximumSplitDepth() > 0L);
+    assertEquals(days, metrics.getElementsPerThread().values().stream().mapToLong(Long::longValue).sum());
+    assertTrue(metrics.getTraversalNanos() > 0L);
+
+    metrics.reset();
+    assertEquals(0L, metrics.getElements());
+    assertTrue(metrics.getElementsPerThread().isEmpty());
+  }
+
+  @Test
+  public void splitDepth() {
+    SpliteratorMetrics metrics = new SpliteratorMetrics();
+    Spliterator<LocalDate> spliterator = metrics.instrument(LocalDateStreams.range(START, START.plusDays(4L)).spliterator());
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    prefix.trySplit();
+    assertEquals(2L, metrics.getSplits());
+    assertEquals(2L, metrics.getMaximumSplitDepth());
+    assertEquals(Spliterator.SIZED, prefix.characteristics() & Spliterator.SIZED);
+
+    Spliterator<LocalDate> single = metrics.instrument(LocalDateStreams.range(START, START.plusDays(1L)).spliterator());
+    assertNull(single.trySplit());
+    assertEquals(1L, metrics.getRefusedSplits());
+  }
+
+  @Test
+  public void primitive() {
+    SpliteratorMetrics metrics = new SpliteratorMetrics();
+    metrics.instrument(LocalDateStreams.epochDayRange(START, START.plusDays(10L))).forEach(epochDay -> { });
+    metrics.instrument(YearMonthStreams.prolepticMonthRange(YearMonth.of(2017, 1), YearMonth.of(2018, 1))).forEach(month -> { });
+    assertEquals(22L, metrics.getElements());
+  }
+
+  @Test
+  public void closesSource() {
+    AtomicInteger closed = new AtomicInteger();
+    Stream<LocalDate> first = Stream.of(LocalDate.of(2016, 1, 1)).onClose(closed::incrementAndGet);
+    Stream<LocalDate> second = Stream.of(LocalDate.of(2016, 1, 2)).onClose(closed::incrementAndGet);
+    SpliteratorMetrics metrics = new SpliteratorMetrics();
+    try (Stream<LocalDate> merged = metrics.instrument(TemporalStreams.merge(Arrays.asList(first, second)))) {
+      merged.forEach(date -> {
+        // traverse
+      });
+    }
+    assertEquals(2, closed.get());
+    assertEquals(2L, metrics.getElements());
+
+    AtomicInteger closedLongs = new AtomicInteger();
+    metrics.instrument(LongStream.range(0L, 3L).onClose(closedLongs::incrementAndGet)).close();
+    metrics.instrument(IntStream.range(0, 3).onClose(closedLongs::incrementAndGet)).close();
+    assertEquals(2, closedLongs.get());
+  }
+
+}
@@ -0,0 +1,208 @@
+package com.github.marschall.threeten.spliterators;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.TemporalAdjusters.next;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjuster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.marschall.threeten.spliterators.TemporalPublishers.Publisher;
+import com.github.marschall.threeten.spliterators.TemporalPublishers.Subscriber;
+import com.github.marschall.threeten.spliterators.TemporalPublishers.Subscription;
+
+public class TemporalPublishersTest {
+
+  static final class RecordingSubscriber<T> implements Subscriber<T> {
+
+    final List<T> items = new ArrayList<>();
+    Subscription subscription;
+    Throwable error;
+    boolean completed;
+    long requestPerItem;
+    RuntimeException onNextFailure;
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+      assertFalse(this.completed);
+      this.items.add(item);
+      if (this.onNextFailure != null) {
+        throw this.onNextFailure;
+      }
+      if (this.requestPerItem > 0L) {
+        this.subscription.request(this.requestPerItem);
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      this.completed = true;
+    }
+
+  }
+
+  @Test
+  public void demand() {
+    LocalDate start = LocalDate.of(2017, 1, 1);
+    RecordingSubscriber<LocalDate> subscriber = new RecordingSubscriber<>();
+    TemporalPublishers.range(start, start.plusDays(10L)).subscribe(subscriber);
+    assertTrue(subscriber.items.isEmpty());
+
+    subscriber.subscription.request(3L);
+    assertEquals(LocalDateStreams.range(start, start.plusDays(3L)).collect(Collectors.toList()), subscriber.items);
+    assertFalse(subscriber.completed);
+
+    subscriber.subscription.request(7L);
+    assertEquals(10, subscriber.items.size());
+    assertTrue(subscriber.completed);
+    assertNull(subscriber.error);
+  }
+
+  @Test
+  public void requestFromOnNext() {
+    RecordingSubscriber<YearMonth> subscriber = new RecordingSubscriber<>();
+    subscriber.requestPerItem = 1L;
+    TemporalPublishers.rangeClosed(YearMonth.of(2017, 1), YearMonth.of(2017, 12)).subscribe(subscriber);
+    subscriber.subscription.request(1L);
+    assertEquals(12, subscriber.items.size());
+    assertTrue(subscriber.completed);
+  }
+
+  @Test
+  public void independentSubscribers() {
+    Publisher<LocalDate> publisher = TemporalPublishers.rangeClosed(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 1, 31));
+    RecordingSubscriber<LocalDate> first = new RecordingSubscriber<>();
+    RecordingSubscriber<LocalDate> second = new RecordingSubscriber<>();
+    publisher.subscribe(first);
+    publisher.subscribe(second);
+    first.subscription.request(Long.MAX_VALUE);
+    second.subscription.request(5L);
+    assertEquals(31, first.items.size());
+    assertTrue(first.completed);
+    assertEquals(first.items.subList(0, 5), second.items);
+    assertFalse(second.completed);
+  }
+
+  @Test
+  public void emptyCompletesWithoutDemand() {
+    LocalDate start = LocalDate.of(2017, 1, 1);
+    RecordingSubscriber<LocalDate> subscriber = new RecordingSubscriber<>();
+    TemporalPublishers.range(start, start).subscribe(subscriber);
+    assertTrue(subscriber.completed);
+  }
+
+  @Test
+  public void unsized() {
+    LocalDate start = LocalDate.of(2017, 1, 2);
+    RecordingSubscriber<LocalDate> subscriber = new RecordingSubscriber<>();
+    TemporalPublishers.range(start, start.plusWeeks(4L), next(DayOfWeek.MONDAY)).subscribe(subscriber);
+    subscriber.subscription.request(4L);
+    assertEquals(4, subscriber.items.size());
+    subscriber.subscription.request(1L);
+    assertTrue(subscriber.completed);
+  }
+
+  @Test
+  public void unit() {
+    LocalDateTime start = LocalDateTime.of(2017, 1, 1, 0, 0);
+    RecordingSubscriber<LocalDateTime> subscriber = new RecordingSubscriber<>();
+    TemporalPublishers.rangeClosed(start, start.plusDays(1L), 6L, HOURS).subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertEquals(5, subscriber.items.size());
+    assertTrue(subscriber.completed);
+  }
+
+  @Test
+  public void cancel() {
+    RecordingSubscriber<LocalDate> subscriber = new RecordingSubscriber<>();
+    TemporalPublishers.rangeClosed(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 1, 31)).subscribe(subscriber);
+    subscriber.subscription.request(2L);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(2L);
+    assertEquals(2, subscriber.items.size());
+    assertFalse(subscriber.completed);
+  }
+
+  @Test
+  public void invalidRequest() {
+    RecordingSubscriber<LocalDate> subscriber = new RecordingSubscriber<>();
+    TemporalPublishers.rangeClosed(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 1, 31)).subscribe(subscriber);
+    subscriber.subscription.request(0L);
+    assertTrue(subscriber.error instanceof IllegalArgumentException);
+    subscriber.subscription.request(1L);
+    assertTrue(subscriber.items.isEmpty());
+  }
+
+  @Test
+  public void failingSource() {
+    LocalDate start = LocalDate.of(2017, 1, 1);
+    TemporalAdjuster failing = temporal -> {
+      if (LocalDate.from(temporal).isAfter(start)) {
+        throw new DateTimeException("failing adjuster");
+      }
+      return temporal.plus(1L, DAYS);
+    };
+    RecordingSubscriber<LocalDate> subscriber = new RecordingSubscriber<>();
+    TemporalPublishers.range(start, start.plusDays(10L), failing).subscribe(subscriber);
+    subscriber.subscription.request(5L);
+    assertTrue(subscriber.error instanceof DateTimeException);
+    assertFalse(subscriber.completed);
+    int delivered = subscriber.items.size();
+    subscriber.subscription.request(1L);
+    assertEquals(delivered, subscriber.items.size());
+  }
+
+  @Test
+  public void sourceFailingAtLimit() {
+    RecordingSubscriber<LocalDate> subscriber = new RecordingSubscriber<>();
+    TemporalPublishers.rangeClosed(LocalDate.MAX.minusDays(1L), LocalDate.MAX).subscribe(subscriber);
+    subscriber.subscription.request(2L);
+    subscriber.subscription.request(1L);
+    assertEquals(2, subscriber.items.size());
+    assertTrue(subscriber.completed);
+    assertNull(subscriber.error);
+  }
+
+  @Test
+  public void failingSubscriber() {
+    RecordingSubscriber<LocalDate> subscriber = new RecordingSubscriber<>();
+    subscriber.onNextFailure = new IllegalStateException("failing subscriber");
+    TemporalPublishers.rangeClosed(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 1, 31)).subscribe(subscriber);
+    subscriber.subscription.request(3L);
+    assertEquals(1, subscriber.items.size());
+    assertTrue(subscriber.error instanceof IllegalStateException);
+    subscriber.subscription.request(3L);
+    assertEquals(1, subscriber.items.size());
+  }
+
+  @Test
+  public void invalidRange() {
+    assertThrows(IllegalArgumentException.class,
+            () -> TemporalPublishers.range(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 1, 1), 0L, HOURS));
+  }
+
+}
@@ -1,14 +1,33 @@
 package com.github.marschall.threeten.spliterators;
 
 
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.NANOS;
+import static java.time.temporal.ChronoUnit.WEEKS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -74,4 +93,223 @@ public class TemporalStreamsTest {
     assertEquals(Arrays.asList(LocalDate.of(2016, 1, 25), LocalDate.of(2016, 1, 18), LocalDate.of(2016, 1, 11)), actual);
   }
 
+  @Test
+  public void emptyUnitRange() {
+    Stream<LocalDateTime> stream = TemporalStreams.range(LocalDateTime.of(2016, 1, 1, 0, 0), LocalDateTime.of(2016, 1, 1, 0, 0), 1L, HOURS);
+    assertEquals(0, stream.count());
+  }
+
+  @Test
+  public void unitRange() {
+    Stream<LocalDateTime> stream = TemporalStreams.range(LocalDateTime.of(2016, 1, 1, 22, 0), LocalDateTime.of(2016, 1, 2, 2, 0), 2L, HOURS);
+    List<LocalDateTime> actual = stream.collect(Collectors.toList());
+    assertEquals(Arrays.asList(LocalDateTime.of(2016, 1, 1, 22, 0), LocalDateTime.of(2016, 1, 2, 0, 0)), actual);
+  }
+
+  @Test
+  public void unitRangeClosed() {
+    Stream<LocalDateTime> stream = TemporalStreams.rangeClosed(LocalDateTime.of(2016, 1, 1, 22, 0), LocalDateTime.of(2016, 1, 2, 2, 0), 2L, HOURS);
+    List<LocalDateTime> actual = stream.collect(Collectors.toList());
+    assertEquals(Arrays.asList(LocalDateTime.of(2016, 1, 1, 22, 0), LocalDateTime.of(2016, 1, 2, 0, 0), LocalDateTime.of(2016, 1, 2, 2, 0)), actual);
+  }
+
+  @Test
+  public void unitRangeReversed() {
+    Stream<LocalDateTime> stream = TemporalStreams.range(LocalDateTime.of(2016, 1, 2, 2, 0), LocalDateTime.of(2016, 1, 1, 22, 0), 2L, HOURS);
+    List<LocalDateTime> actual = stream.collect(Collectors.toList());
+    assertEquals(Arrays.asList(LocalDateTime.of(2016, 1, 2, 2, 0), LocalDateTime.of(2016, 1, 2, 0, 0)), actual);
+  }
+
+  @Test
+  public void monthsAreNotClampedRepeatedly() {
+    Stream<LocalDate> stream = TemporalStreams.rangeClosed(LocalDate.of(2016, 1, 31), LocalDate.of(2016, 3, 31), Period.ofMonths(1));
+    List<LocalDate> actual = stream.collect(Collectors.toList());
+    assertEquals(Arrays.asList(LocalDate.of(2016, 1, 31), LocalDate.of(2016, 2, 29), LocalDate.of(2016, 3, 31)), actual);
+
+    stream = TemporalStreams.range(LocalDate.of(2016, 3, 31), LocalDate.of(2016, 1, 31), 1L, MONTHS);
+    actual = stream.collect(Collectors.toList());
+    assertEquals(Arrays.asList(LocalDate.of(2016, 3, 31), LocalDate.of(2016, 2, 29)), actual);
+  }
+
+  @Test
+  public void durationRange() {
+    Instant start = Instant.parse("2016-01-01T00:00:00Z");
+    Stream<Instant> stream = TemporalStreams.range(start, start.plusSeconds(3L), Duration.ofMillis(1500L));
+    List<Instant> actual = stream.collect(Collectors.toList());
+    assertEquals(Arrays.asList(start, start.plusMillis(1500L)), actual);
+  }
+
+  @Test
+  public void largeStepRange() {
+    Instant end = Instant.EPOCH.plusSeconds(200L * 365L * 86400L);
+    assertEquals(Duration.between(Instant.EPOCH, end).toNanos(),
+            TemporalStreams.range(Instant.EPOCH, end, 1L, NANOS).spliterator().getExactSizeIfKnown());
+
+    Instant maxEnd = Instant.EPOCH.plusNanos(Long.MAX_VALUE);
+    assertEquals(Long.MAX_VALUE, TemporalStreams.range(Instant.EPOCH, maxEnd, 1L, NANOS).spliterator().getExactSizeIfKnown());
+    assertThrows(ArithmeticException.class, () -> TemporalStreams.rangeClosed(Instant.EPOCH, maxEnd, 1L, NANOS));
+    assertThrows(ArithmeticException.class, () -> TemporalStreams.range(Instant.MAX, Instant.MIN, 1L, NANOS));
+  }
+
+  @Test
+  public void stepSpliteratorIsSizedAndSplits() {
+    LocalDateTime start = LocalDateTime.of(2016, 1, 1, 0, 0);
+    Spliterator<LocalDateTime> spliterator = TemporalStreams.range(start, start.plusYears(1L), 1L, HOURS).spliterator();
+    assertEquals(366L * 24L, spliterator.getExactSizeIfKnown());
+    Spliterator<LocalDateTime> prefix = spliterator.trySplit();
+    assertEquals(183L * 24L, prefix.getExactSizeIfKnown());
+    assertEquals(183L * 24L, spliterator.getExactSizeIfKnown());
+    prefix.tryAdvance((first) -> assertEquals(start, first));
+    spliterator.tryAdvance((first) -> assertEquals(start.plusDays(183L), first));
+  }
+
+  @Test
+  public void parallelUnitRange() {
+    LocalDateTime start = LocalDateTime.of(2016, 1, 1, 0, 0);
+    LocalDateTime end = start.plusYears(1L);
+    List<LocalDateTime> sequential = TemporalStreams.range(start, end, 1L, HOURS).collect(Collectors.toList());
+    List<LocalDateTime> parallel = TemporalStreams.range(start, end, 1L, HOURS).parallel().collect(Collectors.toList());
+    assertEquals(sequential, parallel);
+  }
+
+  @Test
+  public void invalidSteps() {
+    LocalDate start = LocalDate.of(2016, 1, 1);
+    LocalDate end = LocalDate.of(2016, 2, 1);
+    assertThrows(IllegalArgumentException.class, () -> TemporalStreams.range(start, end, 0L, MONTHS));
+    assertThrows(IllegalArgumentException.class, () -> TemporalStreams.range(start, end, -1L, MONTHS));
+    assertThrows(IllegalArgumentException.class, () -> TemporalStreams.range(start, end, Period.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> TemporalStreams.range(start, end, Period.of(0, 1, -1)));
+    assertThrows(UnsupportedTemporalTypeException.class, () -> TemporalStreams.range(start, end, 1L, HOURS));
+    assertThrows(UnsupportedTemporalTypeException.class, () -> TemporalStreams.range(Instant.EPOCH, Instant.MAX, 1L, WEEKS));
+  }
+
+  @Test
+  public void adjusterEstimateSize() {
+    Spliterator<LocalDate> spliterator = TemporalStreams.range(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 31), TemporalAdjusters.next(DayOfWeek.MONDAY)).spliterator();
+    assertEquals(5L, spliterator.estimateSize());
+    assertEquals(-1L, spliterator.getExactSizeIfKnown());
+  }
+
+  @Test
+  public void adjusterSplit() {
+    Spliterator<LocalDate> spliterator = TemporalStreams.range(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 31), TemporalAdjusters.next(DayOfWeek.MONDAY)).spliterator();
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    assertEquals(2L, prefix.getExactSizeIfKnown());
+    assertEquals(3L, spliterator.getExactSizeIfKnown());
+
+    Spliterator<LocalDate> first = prefix.trySplit();
+    assertEquals(1L, first.getExactSizeIfKnown());
+    assertNull(first.trySplit());
+    first.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 1, 1), date));
+    prefix.tryAdvance((date) -> assertEquals(LocalDate.of(2016, 1, 4), date));
+    assertEquals(0L, first.getExactSizeIfKnown());
+    assertEquals(0L, prefix.getExactSizeIfKnown());
+
+    List<LocalDate> suffix = new ArrayList<>();
+    spliterator.forEachRemaining(suffix::add);
+    assertEquals(Arrays.asList(LocalDate.of(2016, 1, 11), LocalDate.of(2016, 1, 18), LocalDate.of(2016, 1, 25)), suffix);
+  }
+
+  @Test
+  public void parallelAdjusterRange() {
+    LocalDate start = LocalDate.of(1900, 1, 1);
+    LocalDate end = LocalDate.of(2100, 1, 1);
+    List<LocalDate> sequential = TemporalStreams.range(start, end, TemporalAdjusters.next(DayOfWeek.MONDAY)).collect(Collectors.toList());
+    List<LocalDate> parallel = TemporalStreams.range(start, end, TemporalAdjusters.next(DayOfWeek.MONDAY)).parallel().collect(Collectors.toList());
+    assertEquals(sequential, parallel);
+
+    sequential = TemporalStreams.rangeClosed(end, start, TemporalAdjusters.previous(DayOfWeek.MONDAY)).collect(Collectors.toList());
+    parallel = TemporalStreams.rangeClosed(end, start, TemporalAdjusters.previous(DayOfWeek.MONDAY)).parallel().collect(Collectors.toList());
+    assertEquals(sequential, parallel);
+  }
+
+  @Test
+  public void parallelAdjusterRangeMinimumChunkSize() {
+    Spliterator<LocalDate> spliterator = TemporalStreams.parallelRange(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 31), TemporalAdjusters.next(DayOfWeek.MONDAY), SplitOptions.minimumChunkSize(2L)).spliterator();
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    assertEquals(2L, prefix.getExactSizeIfKnown());
+    assertEquals(3L, spliterator.getExactSizeIfKnown());
+    assertNull(prefix.trySplit());
+    assertNull(spliterator.trySplit());
+  }
+
+  @Test
+  public void parallelStepRange() {
+    LocalDateTime start = LocalDateTime.of(2016, 1, 1, 0, 0);
+    LocalDateTime end = start.plusYears(1L);
+    Stream<LocalDateTime> stream = TemporalStreams.parallelRange(start, end, Duration.ofHours(1L), SplitOptions.minimumChunkSize(24L));
+    assertTrue(stream.isParallel());
+    assertEquals(TemporalStreams.range(start, end, 1L, HOURS).collect(Collectors.toList()), stream.collect(Collectors.toList()));
+
+    stream = TemporalStreams.parallelRangeClosed(end, start, 1L, HOURS, SplitOptions.minimumChunkSize(24L));
+    assertEquals(TemporalStreams.rangeClosed(end, start, 1L, HOURS).collect(Collectors.toList()), stream.collect(Collectors.toList()));
+  }
+
+  @Test
+  public void stepCharacteristics() {
+    LocalDateTime start = LocalDateTime.of(2016, 1, 1, 0, 0);
+    Spliterator<LocalDateTime> ascending = TemporalStreams.range(start, start.plusDays(1L), 1L, HOURS).spliterator();
+    assertTrue(ascending.hasCharacteristics(Spliterator.SORTED));
+    assertNull(ascending.getComparator());
+    Spliterator<LocalDateTime> descending = TemporalStreams.range(start.plusDays(1L), start, 1L, HOURS).spliterator();
+    assertTrue(descending.hasCharacteristics(Spliterator.ORDERED));
+    assertThrows(IllegalStateException.class, descending::getComparator);
+  }
+
+  @Test
+  public void merge() {
+    Stream<LocalDate> mondays = TemporalStreams.range(LocalDate.of(2016, 1, 4), LocalDate.of(2016, 1, 31), TemporalAdjusters.next(DayOfWeek.MONDAY));
+    Stream<LocalDate> fortnights = TemporalStreams.range(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 31), Period.ofWeeks(2));
+    Stream<LocalDate> monthEnd = Stream.of(LocalDate.of(2016, 1, 31));
+    List<LocalDate> actual = TemporalStreams.merge(Arrays.asList(mondays, fortnights, monthEnd)).collect(Collectors.toList());
+    assertEquals(Arrays.asList(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 4), LocalDate.of(2016, 1, 11), LocalDate.of(2016, 1, 15),
+            LocalDate.of(2016, 1, 18), LocalDate.of(2016, 1, 25), LocalDate.of(2016, 1, 29), LocalDate.of(2016, 1, 31)), actual);
+  }
+
+  @Test
+  public void mergeDistinct() {
+    Stream<LocalDate> weekly = TemporalStreams.range(LocalDate.of(2016, 1, 4), LocalDate.of(2016, 2, 1), Period.ofWeeks(1));
+    Stream<LocalDate> fortnightly = TemporalStreams.range(LocalDate.of(2016, 1, 4), LocalDate.of(2016, 2, 1), Period.ofWeeks(2));
+    List<LocalDate> actual = TemporalStreams.merge(Arrays.asList(weekly, fortnightly), true).collect(Collectors.toList());
+    assertEquals(Arrays.asList(LocalDate.of(2016, 1, 4), LocalDate.of(2016, 1, 11), LocalDate.of(2016, 1, 18), LocalDate.of(2016, 1, 25)), actual);
+
+    weekly = TemporalStreams.range(LocalDate.of(2016, 1, 4), LocalDate.of(2016, 2, 1), Period.ofWeeks(1));
+    fortnightly = TemporalStreams.range(LocalDate.of(2016, 1, 4), LocalDate.of(2016, 2, 1), Period.ofWeeks(2));
+    assertEquals(6L, TemporalStreams.merge(Arrays.asList(weekly, fortnightly)).collect(Collectors.toList()).size());
+  }
+
+  @Test
+  public void mergeDistinctInstants() {
+    ZonedDateTime start = ZonedDateTime.of(LocalDateTime.of(2016, 1, 4, 12, 0), ZoneOffset.UTC);
+    Stream<ZonedDateTime> utc = TemporalStreams.range(start, start.plusHours(3L), 1L, HOURS);
+    Stream<ZonedDateTime> zurich = TemporalStreams.range(start, start.plusHours(3L), 2L, HOURS)
+            .map(dateTime -> dateTime.withZoneSameInstant(ZoneId.of("Europe/Zurich")));
+    List<ZonedDateTime> actual = TemporalStreams.merge(Arrays.asList(utc, zurich), true).collect(Collectors.toList());
+    assertEquals(Arrays.asList(start, start.plusHours(1L), start.plusHours(2L)), actual);
+  }
+
+  @Test
+  public void mergeSize() {
+    Stream<LocalDate> days = LocalDateStreams.range(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 2, 1));
+    Stream<LocalDate> weeks = TemporalStreams.range(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 2, 1), Period.ofWeeks(1));
+    Spliterator<LocalDate> spliterator = TemporalStreams.merge(Arrays.asList(days, weeks)).spliterator();
+    assertEquals(36L, spliterator.getExactSizeIfKnown());
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED));
+
+    Stream<LocalDate> mondays = TemporalStreams.range(LocalDate.of(2016, 1, 4), LocalDate.of(2016, 1, 31), TemporalAdjusters.next(DayOfWeek.MONDAY));
+    assertFalse(TemporalStreams.merge(Collections.singletonList(mondays)).spliterator().hasCharacteristics(Spliterator.SIZED));
+  }
+
+  @Test
+  public void mergeClosesStreams() {
+    AtomicInteger closed = new AtomicInteger();
+    Stream<LocalDate> first = Stream.of(LocalDate.of(2016, 1, 1)).onClose(closed::incrementAndGet);
+    Stream<LocalDate> second = Stream.of(LocalDate.of(2016, 1, 2)).onClose(closed::incrementAndGet);
+    try (Stream<LocalDate> merged = TemporalStreams.merge(Arrays.asList(first, second))) {
+      assertEquals(2L, merged.count());
+    }
+    assertEquals(2, closed.get());
+  }
+
 }
@@ -0,0 +1,69 @@
+package com.github.marschall.threeten.spliterators;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class WeekStreamsTest {
+
+  @Test
+  public void range() {
+    List<Week> weeks = WeekStreams.range(Week.ofIso(2015, 52), Week.ofIso(2016, 3)).collect(Collectors.toList());
+    List<Week> expected = new ArrayList<>();
+    expected.add(Week.ofIso(2015, 52));
+    expected.add(Week.ofIso(2015, 53));
+    expected.add(Week.ofIso(2016, 1));
+    expected.add(Week.ofIso(2016, 2));
+    assertEquals(expected, weeks);
+    assertEquals(5L, WeekStreams.rangeClosed(Week.ofIso(2015, 52), Week.ofIso(2016, 3)).count());
+    assertEquals(0L, WeekStreams.range(Week.ofIso(2016, 3), Week.ofIso(2016, 3)).count());
+  }
+
+  @Test
+  public void descending() {
+    List<Week> weeks = WeekStreams.rangeClosed(Week.ofIso(2016, 2), Week.ofIso(2015, 53)).collect(Collectors.toList());
+    List<Week> expected = new ArrayList<>();
+    expected.add(Week.ofIso(2016, 2));
+    expected.add(Week.ofIso(2016, 1));
+    expected.add(Week.ofIso(2015, 53));
+    assertEquals(expected, weeks);
+  }
+
+  @Test
+  public void parallel() {
+    WeekFields weekFields = WeekFields.of(DayOfWeek.SUNDAY, 1);
+    Week start = Week.from(LocalDate.of(2000, 1, 1), weekFields);
+    Week end = Week.from(LocalDate.of(2020, 1, 1), weekFields);
+    Spliterator<Week> spliterator = WeekStreams.range(start, end).spliterator();
+    assertEquals(end.toIndex() - start.toIndex(), spliterator.getExactSizeIfKnown());
+    assertEquals(WeekStreams.range(start, end).collect(Collectors.toList()),
+            WeekStreams.parallelRange(start, end, SplitOptions.minimumChunkSize(10L)).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void index() {
+    Week start = Week.ofIso(2016, 50);
+    Week end = Week.ofIso(2017, 2);
+    long[] expected = WeekStreams.rangeClosed(start, end).mapToLong(Week::toIndex).toArray();
+    assertArrayEquals(expected, WeekStreams.indexRangeClosed(start, end).toArray());
+    assertEquals(end.toIndex() - start.toIndex(), WeekStreams.indexRange(start, end).count());
+    assertEquals(start, Week.ofIndex(WeekStreams.indexRange(start, end).findFirst().getAsLong(), WeekFields.ISO));
+  }
+
+  @Test
+  public void differentWeekFields() {
+    assertThrows(IllegalArgumentException.class,
+            () -> WeekStreams.range(Week.ofIso(2016, 1), Week.of(2016, 5, WeekFields.of(DayOfWeek.SUNDAY, 1))));
+  }
+
+}
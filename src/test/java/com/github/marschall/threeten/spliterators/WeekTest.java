@@ -0,0 +1,67 @@
+package com.github.marschall.threeten.spliterators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+
+import org.junit.jupiter.api.Test;
+
+public class WeekTest {
+
+  private static final WeekFields US = WeekFields.of(DayOfWeek.SUNDAY, 1);
+
+  @Test
+  public void iso() {
+    Week week = Week.ofIso(2017, 1);
+    assertEquals(LocalDate.of(2017, 1, 2), week.getFirstDay());
+    assertEquals(LocalDate.of(2017, 1, 8), week.getLastDay());
+    assertEquals(2017, week.getWeekBasedYear());
+    assertEquals(1, week.getWeek());
+    assertEquals("2017-W01", week.toString());
+    assertEquals(week, Week.from(LocalDate.of(2017, 1, 8), WeekFields.ISO));
+    assertEquals(Week.ofIso(2016, 52), Week.from(LocalDate.of(2017, 1, 1), WeekFields.ISO));
+    assertEquals(Week.ofIso(2020, 53), Week.from(LocalDate.of(2021, 1, 3), WeekFields.ISO));
+    assertThrows(IllegalArgumentException.class, () -> Week.ofIso(2017, 53));
+    assertThrows(IllegalArgumentException.class, () -> Week.ofIso(2017, 0));
+  }
+
+  @Test
+  public void weekFields() {
+    Week week = Week.of(2017, 1, US);
+    assertEquals(LocalDate.of(2017, 1, 1), week.getFirstDay());
+    assertEquals(DayOfWeek.SUNDAY, week.getFirstDay().getDayOfWeek());
+    assertEquals(Week.of(2017, 1, US), Week.from(LocalDate.of(2016, 12, 31).plusDays(1L), US));
+    assertEquals(2017, Week.from(LocalDate.of(2017, 12, 31), US).getWeekBasedYear() - 1);
+    assertEquals("2017-W01[SUNDAY,1]", week.toString());
+    assertFalse(week.equals(Week.from(LocalDate.of(2017, 1, 2), WeekFields.ISO)));
+  }
+
+  @Test
+  public void index() {
+    for (WeekFields weekFields : new WeekFields[] {WeekFields.ISO, US, WeekFields.of(DayOfWeek.SATURDAY, 7)}) {
+      LocalDate date = LocalDate.of(1969, 12, 1);
+      for (int i = 0; i < 100; i++) {
+        Week week = Week.from(date.plusDays(i), weekFields);
+        assertEquals(weekFields.getFirstDayOfWeek(), week.getFirstDay().getDayOfWeek());
+        assertTrue(week.contains(date.plusDays(i)));
+        assertEquals(week, Week.ofIndex(week.toIndex(), weekFields));
+        assertEquals(week.plusWeeks(1L).toIndex(), week.toIndex() + 1L);
+      }
+    }
+    assertEquals(0L, Week.from(LocalDate.ofEpochDay(0L), WeekFields.ISO).toIndex());
+  }
+
+  @Test
+  public void ranges() {
+    Week week = Week.ofIso(2017, 10);
+    assertEquals(LocalDateRange.of(week.getFirstDay(), week.getLastDay().plusDays(1L)), week.toLocalDateRange());
+    assertTrue(week.compareTo(week.plusWeeks(1L)) < 0);
+    assertEquals(0, week.compareTo(Week.ofIso(2017, 10)));
+  }
+
+}
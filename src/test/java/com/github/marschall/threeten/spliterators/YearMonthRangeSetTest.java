@@ -0,0 +1,40 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+
+public class YearMonthRangeSetTest {
+
+  private static YearMonthRange range(int startMonth, int endMonth) {
+    return YearMonthRange.of(YearMonth.of(2016, startMonth), YearMonth.of(2016, endMonth));
+  }
+
+  @Test
+  public void containsAndStream() {
+    YearMonthRangeSet set = YearMonthRangeSet.of(range(7, 9), range(1, 3), range(2, 4));
+    assertEquals(Arrays.asList(range(1, 4), range(7, 9)), set.asRanges());
+    assertTrue(set.contains(YearMonth.of(2016, 8)));
+    assertFalse(set.contains(YearMonth.of(2016, 4)));
+    assertEquals(Arrays.asList(YearMonth.of(2016, 1), YearMonth.of(2016, 2), YearMonth.of(2016, 3), YearMonth.of(2016, 7), YearMonth.of(2016, 8)),
+            set.stream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void setOperations() {
+    YearMonthRangeSet left = YearMonthRangeSet.of(range(1, 7));
+    YearMonthRangeSet right = YearMonthRangeSet.of(range(3, 5), range(6, 10));
+    assertEquals(Arrays.asList(range(1, 10)), left.union(right).asRanges());
+    assertEquals(Arrays.asList(range(3, 5), range(6, 7)), left.intersection(right).asRanges());
+    assertEquals(Arrays.asList(range(1, 3), range(5, 6)), left.difference(right).asRanges());
+  }
+
+}
@@ -0,0 +1,56 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+
+public class YearMonthRangeTest {
+
+  private static YearMonthRange year2016() {
+    return YearMonthRange.of(YearMonth.of(2016, 1), YearMonth.of(2017, 1));
+  }
+
+  @Test
+  public void sizeAndContains() {
+    YearMonthRange year = year2016();
+    assertEquals(12L, year.size());
+    assertTrue(year.contains(YearMonth.of(2016, 1)));
+    assertTrue(year.contains(YearMonth.of(2016, 12)));
+    assertFalse(year.contains(YearMonth.of(2017, 1)));
+  }
+
+  @Test
+  public void algebra() {
+    YearMonthRange year = year2016();
+    YearMonthRange overlap = YearMonthRange.of(YearMonth.of(2016, 7), YearMonth.of(2017, 7));
+    assertEquals(Optional.of(YearMonthRange.of(YearMonth.of(2016, 7), YearMonth.of(2017, 1))), year.intersection(overlap));
+    assertEquals(YearMonthRange.of(YearMonth.of(2016, 1), YearMonth.of(2017, 7)), year.span(overlap));
+    assertFalse(year.isAdjacent(overlap));
+    assertTrue(year.isAdjacent(YearMonthRange.of(YearMonth.of(2017, 1), YearMonth.of(2017, 2))));
+  }
+
+  @Test
+  public void split() {
+    List<YearMonthRange> quarters = year2016().split(4);
+    assertEquals(4, quarters.size());
+    assertEquals(YearMonthRange.of(YearMonth.of(2016, 4), YearMonth.of(2016, 7)), quarters.get(1));
+  }
+
+  @Test
+  public void stream() {
+    YearMonthRange range = YearMonthRange.of(YearMonth.of(2016, 12), YearMonth.of(2017, 2));
+    assertEquals(Arrays.asList(YearMonth.of(2016, 12), YearMonth.of(2017, 1)), range.stream().collect(Collectors.toList()));
+    assertEquals(Arrays.asList(YearMonth.of(2017, 1), YearMonth.of(2016, 12)), range.reverseStream().collect(Collectors.toList()));
+  }
+
+}
@@ -1,13 +1,18 @@
 package com.github.marschall.threeten.spliterators;
 
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Year;
 import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -63,4 +68,104 @@ public class YearMonthStreamsTest {
     assertEquals(Collections.singletonList(YearMonth.of(2016, 1)), actual);
   }
 
+  @Test
+  public void emptyProlepticMonthRange() {
+    IntStream stream = YearMonthStreams.prolepticMonthRange(YearMonth.of(2016, 1), YearMonth.of(2016, 1));
+    assertEquals(0L, stream.count());
+  }
+
+  @Test
+  public void prolepticMonthRange() {
+    IntStream stream = YearMonthStreams.prolepticMonthRange(YearMonth.of(2016, 12), YearMonth.of(2017, 2));
+    List<YearMonth> actual = stream.mapToObj(YearMonthStreams::ofProlepticMonth).collect(Collectors.toList());
+    assertEquals(Arrays.asList(YearMonth.of(2016, 12), YearMonth.of(2017, 1)), actual);
+  }
+
+  @Test
+  public void prolepticMonthRangeReversed() {
+    IntStream stream = YearMonthStreams.prolepticMonthRange(YearMonth.of(2017, 1), YearMonth.of(2016, 11));
+    List<YearMonth> actual = stream.mapToObj(YearMonthStreams::ofProlepticMonth).collect(Collectors.toList());
+    assertEquals(Arrays.asList(YearMonth.of(2017, 1), YearMonth.of(2016, 12)), actual);
+  }
+
+  @Test
+  public void prolepticMonthRangeClosed() {
+    IntStream stream = YearMonthStreams.prolepticMonthRangeClosed(YearMonth.of(2016, 1), YearMonth.of(2016, 2));
+    List<YearMonth> actual = stream.mapToObj(YearMonthStreams::ofProlepticMonth).collect(Collectors.toList());
+    assertEquals(Arrays.asList(YearMonth.of(2016, 1), YearMonth.of(2016, 2)), actual);
+  }
+
+  @Test
+  public void prolepticMonthRangeClosedReverse() {
+    IntStream stream = YearMonthStreams.prolepticMonthRangeClosed(YearMonth.of(2016, 2), YearMonth.of(2016, 1));
+    List<YearMonth> actual = stream.mapToObj(YearMonthStreams::ofProlepticMonth).collect(Collectors.toList());
+    assertEquals(Arrays.asList(YearMonth.of(2016, 2), YearMonth.of(2016, 1)), actual);
+  }
+
+  @Test
+  public void prolepticMonthRangeParallel() {
+    YearMonth start = YearMonth.of(1900, 1);
+    YearMonth end = YearMonth.of(2100, 1);
+    int[] expected = IntStream.range(YearMonthStreams.toProlepticMonth(start), YearMonthStreams.toProlepticMonth(end)).toArray();
+    assertArrayEquals(expected, YearMonthStreams.prolepticMonthRange(start, end).parallel().toArray());
+  }
+
+  @Test
+  public void prolepticMonthConversion() {
+    for (YearMonth yearMonth : Arrays.asList(YearMonth.of(-1, 12), YearMonth.of(0, 1), YearMonth.of(2016, 6))) {
+      assertEquals(yearMonth, YearMonthStreams.ofProlepticMonth(YearMonthStreams.toProlepticMonth(yearMonth)));
+    }
+    assertThrows(ArithmeticException.class, () -> YearMonthStreams.toProlepticMonth(YearMonth.of(Year.MAX_VALUE, 1)));
+  }
+
+  @Test
+  public void parallelRange() {
+    YearMonth start = YearMonth.of(1900, 1);
+    YearMonth end = YearMonth.of(2100, 1);
+    Stream<YearMonth> stream = YearMonthStreams.parallelRange(start, end, SplitOptions.minimumChunkSize(12L));
+    assertTrue(stream.isParallel());
+    assertEquals(YearMonthStreams.range(start, end).collect(Collectors.toList()), stream.collect(Collectors.toList()));
+
+    stream = YearMonthStreams.parallelRangeClosed(end, start, SplitOptions.minimumChunkSize(12L));
+    assertEquals(YearMonthStreams.rangeClosed(end, start).collect(Collectors.toList()), stream.collect(Collectors.toList()));
+  }
+
+  @Test
+  public void chunks() {
+    Stream<YearMonthRange> stream = YearMonthStreams.chunks(YearMonth.of(2016, 1), YearMonth.of(2017, 2), 6);
+    List<YearMonthRange> actual = stream.collect(Collectors.toList());
+    assertEquals(Arrays.asList(
+            YearMonthRange.of(YearMonth.of(2016, 1), YearMonth.of(2016, 7)),
+            YearMonthRange.of(YearMonth.of(2016, 7), YearMonth.of(2017, 1)),
+            YearMonthRange.of(YearMonth.of(2017, 1), YearMonth.of(2017, 2))), actual);
+    assertThrows(IllegalArgumentException.class, () -> YearMonthStreams.chunks(YearMonth.of(2016, 2), YearMonth.of(2016, 1), 1));
+  }
+
+  @Test
+  public void chunksParallel() {
+    YearMonth start = YearMonth.of(1900, 1);
+    YearMonth end = YearMonth.of(2100, 1);
+    List<YearMonthRange> parallel = YearMonthStreams.chunks(start, end, 5).parallel().collect(Collectors.toList());
+    assertEquals(YearMonthStreams.chunks(start, end, 5).collect(Collectors.toList()), parallel);
+    assertEquals(480L, YearMonthStreams.chunks(start, end, 5).spliterator().getExactSizeIfKnown());
+  }
+
+  @Test
+  public void windows() {
+    List<YearMonthRange> actual = YearMonthStreams.windows(YearMonth.of(2016, 1), YearMonth.of(2016, 7), 3, 2).collect(Collectors.toList());
+    assertEquals(Arrays.asList(
+            YearMonthRange.of(YearMonth.of(2016, 1), YearMonth.of(2016, 4)),
+            YearMonthRange.of(YearMonth.of(2016, 3), YearMonth.of(2016, 6))), actual);
+    assertThrows(IllegalArgumentException.class, () -> YearMonthStreams.windows(YearMonth.of(2016, 1), YearMonth.of(2016, 7), 3, 0));
+  }
+
+  @Test
+  public void windowsParallel() {
+    YearMonth start = YearMonth.of(1900, 1);
+    YearMonth end = YearMonth.of(2100, 1);
+    List<YearMonthRange> parallel = YearMonthStreams.windows(start, end, 12, 1).parallel().collect(Collectors.toList());
+    assertEquals(YearMonthStreams.windows(start, end, 12, 1).collect(Collectors.toList()), parallel);
+    assertEquals(2389L, YearMonthStreams.windows(start, end, 12, 1).spliterator().getExactSizeIfKnown());
+  }
+
 }
@@ -0,0 +1,121 @@
+package com.github.marschall.threeten.spliterators;
+
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.FOREVER;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+
+public class ZonedDateTimeStreamsTest {
+
+  private static final ZoneId ZURICH = ZoneId.of("Europe/Zurich");
+
+  private static List<ZonedDateTime> expected(ZonedDateTime start, ZonedDateTime end, long amount, TemporalUnit unit, boolean inclusive) {
+    List<ZonedDateTime> expected = new ArrayList<>();
+    boolean ascending = !start.isAfter(end);
+    for (long i = 0L; ; i++) {
+      ZonedDateTime current = start.plus(ascending ? i * amount : -i * amount, unit);
+      int comparison = current.toInstant().compareTo(end.toInstant());
+      if (!ascending) {
+        comparison = -comparison;
+      }
+      if (inclusive ? comparison > 0 : comparison >= 0) {
+        return expected;
+      }
+      expected.add(current);
+    }
+  }
+
+  @Test
+  public void hourlyAcrossYear() {
+    ZonedDateTime start = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZURICH);
+    ZonedDateTime end = start.plusYears(1L);
+    List<ZonedDateTime> actual = ZonedDateTimeStreams.range(start, end, Duration.ofHours(1L)).collect(Collectors.toList());
+    assertEquals(365 * 24, actual.size());
+    assertEquals(expected(start, end, 1L, HOURS, false), actual);
+    assertEquals(actual, ZonedDateTimeStreams.range(start, end, 1L, HOURS).collect(Collectors.toList()));
+    assertEquals(actual, ZonedDateTimeStreams.parallelRange(start, end, Duration.ofHours(1L), SplitOptions.defaults()).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void overlap() {
+    ZonedDateTime start = ZonedDateTime.of(2017, 10, 29, 0, 30, 0, 0, ZURICH);
+    ZonedDateTime end = start.plusHours(5L);
+    List<ZonedDateTime> actual = ZonedDateTimeStreams.rangeClosed(start, end, Duration.ofMinutes(30L)).collect(Collectors.toList());
+    assertEquals(11, actual.size());
+    assertEquals(expected(start, end, 30L, MINUTES, true), actual);
+    assertEquals(expected(end, start, 30L, MINUTES, true),
+            ZonedDateTimeStreams.rangeClosed(end, start, Duration.ofMinutes(30L)).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void dailyAcrossGap() {
+    // 02:30 does not exist on 2017-03-26
+    ZonedDateTime start = ZonedDateTime.of(2017, 3, 20, 2, 30, 0, 0, ZURICH);
+    ZonedDateTime end = ZonedDateTime.of(2017, 4, 2, 2, 30, 0, 0, ZURICH);
+    List<ZonedDateTime> actual = ZonedDateTimeStreams.range(start, end, 1L, DAYS).collect(Collectors.toList());
+    assertEquals(expected(start, end, 1L, DAYS, false), actual);
+    assertEquals(13, actual.size());
+    assertEquals(LocalDateTime.of(2017, 3, 26, 3, 30), actual.get(6).toLocalDateTime());
+    assertEquals(expected(end, start, 1L, DAYS, true), ZonedDateTimeStreams.rangeClosed(end, start, 1L, DAYS).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void dailyAcrossOverlap() {
+    // 02:30 exists twice on 2017-10-29
+    for (ZonedDateTime start : new ZonedDateTime[] {
+        ZonedDateTime.of(2017, 10, 20, 2, 30, 0, 0, ZURICH),
+        ZonedDateTime.of(2017, 10, 29, 2, 30, 0, 0, ZURICH).withLaterOffsetAtOverlap()}) {
+      ZonedDateTime end = ZonedDateTime.of(2017, 11, 2, 2, 30, 0, 0, ZURICH);
+      assertEquals(expected(start, end, 1L, DAYS, false), ZonedDateTimeStreams.range(start, end, 1L, DAYS).collect(Collectors.toList()));
+      assertEquals(expected(start, end, 1L, DAYS, true), ZonedDateTimeStreams.rangeClosed(start, end, 1L, DAYS).collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void monthly() {
+    ZonedDateTime start = ZonedDateTime.of(2016, 1, 31, 2, 30, 0, 0, ZURICH);
+    ZonedDateTime end = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+    List<ZonedDateTime> actual = ZonedDateTimeStreams.range(start, end, 1L, MONTHS).collect(Collectors.toList());
+    assertEquals(expected(start, end, 1L, MONTHS, false), actual);
+    assertEquals(actual, ZonedDateTimeStreams.parallelRange(start, end, 1L, MONTHS, SplitOptions.defaults()).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void split() {
+    ZonedDateTime start = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZURICH);
+    Spliterator<ZonedDateTime> spliterator = ZonedDateTimeStreams.range(start, start.plusYears(1L), 1L, DAYS).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+    assertEquals(365L, spliterator.getExactSizeIfKnown());
+    Spliterator<ZonedDateTime> prefix = spliterator.trySplit();
+    assertEquals(182L, prefix.getExactSizeIfKnown());
+    spliterator.tryAdvance((date) -> assertEquals(start.plusDays(182L), date));
+  }
+
+  @Test
+  public void invalidArguments() {
+    ZonedDateTime start = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZURICH);
+    assertThrows(IllegalArgumentException.class, () -> ZonedDateTimeStreams.range(start, start, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> ZonedDateTimeStreams.range(start, start, -1L, DAYS));
+    assertThrows(UnsupportedTemporalTypeException.class, () -> ZonedDateTimeStreams.range(start, start, 1L, FOREVER));
+  }
+
+}